@@ -0,0 +1,52 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.gameBoard.TetrisBoard;
+
+import java.util.SplittableRandom;
+
+/**
+ * Board states the benchmarks run against, on the game's 10x25 board. Filled rows have one
+ * hole each, so none of them is cleared, and the holes are seeded so every run sees the same board.
+ */
+public enum BoardFixture {
+    /** A fresh game. */
+    EMPTY(0),
+    /** A typical game in progress, the stack is ten rows high. */
+    MID(10),
+    /** The stack reaches a few rows below the spawn point. */
+    NEAR_TOPOUT(18);
+
+    public static final int WIDTH = 10;
+    public static final int HEIGHT = 25;
+    private static final int COLOUR = 8;
+
+    private final int filledRows;
+
+    BoardFixture(int filledRows) {
+        this.filledRows = filledRows;
+    }
+
+    /**
+     * Builds a new matrix holding the fixture.
+     * @return The board matrix, indexed as {@code [row][column]}.
+     */
+    public int[][] matrix() {
+        int[][] matrix = new int[HEIGHT][WIDTH];
+        SplittableRandom random = new SplittableRandom(2042L);
+        for (int row = HEIGHT - filledRows; row < HEIGHT; row++) {
+            int hole = random.nextInt(WIDTH);
+            for (int col = 0; col < WIDTH; col++) {
+                matrix[row][col] = col == hole ? 0 : COLOUR;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Replaces the fixed blocks of a board with the fixture.
+     * @param board The board to load into.
+     */
+    public void load(TetrisBoard board) {
+        board.getBitBoard().load(matrix());
+    }
+}
@@ -0,0 +1,73 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+import com.comp2042.model.gameBoard.BitBoard;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.view.data.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the queries the game makes on every move of a {@code TetrisBoard}, against the
+ * three board fixtures. Run with {@code -prof gc} to see the bytes allocated per call.
+ *
+ * <p>The brick never moves here, so {@code getShadowY} answers from its cache after the first
+ * call; {@code shadowSearch} times the landing row search itself on the same brick.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param
+    private BoardFixture fixture;
+
+    private TetrisBoard board;
+    private BitBoard bitBoard;
+    private BrickShape shape;
+    private int rotation;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUpBoard() {
+        board = new TetrisBoard(BoardFixture.WIDTH, BoardFixture.HEIGHT, 2042L, BrickRandomizer.BAG);
+        board.newGame();
+        fixture.load(board);
+        bitBoard = board.getBitBoard();
+        shape = board.getBrickRotator().getBrickShape();
+        rotation = board.getBrickRotator().getRotation();
+        x = board.getBrickController().getX();
+        y = board.getBrickController().getY();
+    }
+
+    @Benchmark
+    public int shadowSearch() {
+        return bitBoard.dropRow(shape, rotation, x, y);
+    }
+
+    @Benchmark
+    public int shadowCacheHit() {
+        return board.getBrickController().getShadowY();
+    }
+
+    @Benchmark
+    public ViewData viewData() {
+        return board.getViewData();
+    }
+}
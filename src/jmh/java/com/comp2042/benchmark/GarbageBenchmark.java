@@ -0,0 +1,67 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.gameBoard.BitBoard;
+import com.comp2042.model.gameBoard.RowStorage;
+import com.comp2042.model.logic.GarbageGenerator;
+import com.comp2042.model.logic.GarbagePattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares raising a batch of garbage lines one row shift at a time with a single batched
+ * shift. The board fills up with garbage and then keeps pushing rows off the top, so every
+ * invocation sees the same steady state without a reset. Both row storage modes are measured
+ * on the standard board and on a tall one, where shifting every row dominates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GarbageBenchmark {
+
+    @Param({"1", "4", "8"})
+    private int lines;
+
+    @Param({"25", "2048"})
+    private int height;
+
+    @Param({"SHIFTED", "CIRCULAR"})
+    private RowStorage storage;
+
+    private BitBoard bitBoard;
+    private long[] holeMasks;
+
+    @Setup
+    public void setUpBoard() {
+        bitBoard = new BitBoard(BoardFixture.WIDTH, height, storage);
+        holeMasks = new long[lines];
+        new GarbageGenerator(2042L).nextHoleMasks(holeMasks, 0, lines, BoardFixture.WIDTH, 1, GarbagePattern.MESSY);
+    }
+
+    @Benchmark
+    public long oneByOne() {
+        for (int i = 0; i < lines; i++) {
+            bitBoard.addRisingRow(holeMasks[i], 8);
+        }
+        return bitBoard.getVersion();
+    }
+
+    @Benchmark
+    public long batched() {
+        bitBoard.addRisingRows(holeMasks, lines, 8);
+        return bitBoard.getVersion();
+    }
+}
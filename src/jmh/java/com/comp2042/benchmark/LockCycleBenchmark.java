@@ -0,0 +1,98 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.gameBoard.CurrentBrickController;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.model.logic.ClearFullRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a full lock cycle of a {@code TetrisBoard}: hard drop, merge, line clear and spawn
+ * of the next brick, against the three board fixtures. Run with {@code -prof gc} to check that
+ * locking stays allocation-free.
+ *
+ * <p>Locking changes the board, so each invocation puts the fixture back first. A reset per
+ * invocation through {@code @Setup(Level.Invocation)} would cost more in JMH's own timestamps
+ * than the microsecond of locking it wraps, so the reset is timed with the locks instead and
+ * {@code resetOnly} measures it alone: the lock cycle costs {@code lockClearSpawn - resetOnly}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockCycleBenchmark {
+
+    // bricks locked per invocation of lockClearSpawn, spread over the board so the fixture cannot top out
+    private static final int LOCKS = 4;
+    private static final int[] SHIFTS = {-4, -1, 2, 4};
+
+    @Param
+    private BoardFixture fixture;
+
+    private TetrisBoard board;
+    // built once, so resetting the board allocates nothing that -prof gc would count
+    private int[][] start;
+
+    @Setup
+    public void setUpBoard() {
+        board = new TetrisBoard(BoardFixture.WIDTH, BoardFixture.HEIGHT, 2042L, BrickRandomizer.BAG);
+        board.newGame();
+        start = fixture.matrix();
+        board.getBitBoard().load(start);
+    }
+
+    /**
+     * Puts the fixture back and the brick at the spawn point.
+     */
+    private void resetBoard() {
+        board.getBitBoard().load(start);
+        board.getBrickController().setInitialPosition(board.getBrickController().getSpawnX(), CurrentBrickController.SPAWN_Y);
+    }
+
+    /**
+     * The baseline: only the reset that {@code lockClearSpawn} does before its locks, reported
+     * per lock in the same way so the two scores can be subtracted directly.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOCKS)
+    public void resetOnly() {
+        resetBoard();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOCKS)
+    public void lockClearSpawn(Blackhole blackhole) {
+        resetBoard();
+        for (int i = 0; i < LOCKS; i++) {
+            int shift = SHIFTS[i];
+            for (int step = 0; step < Math.abs(shift); step++) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            ClearFullRow cleared = board.clearRows();
+            blackhole.consume(cleared);
+            blackhole.consume(board.createNewBrick());
+        }
+    }
+}
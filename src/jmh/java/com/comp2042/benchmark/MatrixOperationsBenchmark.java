@@ -0,0 +1,74 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.brickShapeGenerator.BrickShapes;
+import com.comp2042.model.logic.ClearFullRow;
+import com.comp2042.model.logic.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the matrix helpers in {@code MatrixOperations}, each against the three board fixtures.
+ * Run with {@code -prof gc} to see the bytes allocated per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    // the T brick
+    private static final int BRICK_ID = 5;
+
+    @Param
+    private BoardFixture fixture;
+
+    private int[][] matrix;
+    private int[][] brick;
+    private int x;
+    private int landingY;
+
+    @Setup
+    public void setUp() {
+        matrix = fixture.matrix();
+        brick = BrickShapes.getShape(BRICK_ID).getMatrix(0);
+        x = 4;
+        landingY = 1;
+        // test at the landing row, where the brick touches the stack
+        while (!MatrixOperations.intersect(matrix, brick, x, landingY + 1)) {
+            landingY++;
+        }
+    }
+
+    @Benchmark
+    public boolean intersect() {
+        return MatrixOperations.intersect(matrix, brick, x, landingY);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, brick, x, landingY);
+    }
+
+    @Benchmark
+    public ClearFullRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public int[][] implementRisingRow() {
+        return MatrixOperations.implementRisingRow(matrix, 2);
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.gameBoard.BitBoard;
+import com.comp2042.model.gameBoard.RowKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and vector row kernels on a whole board of rows, on the standard width
+ * and on wide custom boards. The forked JVM gets the incubator module, so both kernels are
+ * available; the vector runs fail in setup on a JVM without vector support.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class RowKernelBenchmark {
+
+    private static final int HEIGHT = 64;
+
+    @Param({"SCALAR", "VECTOR"})
+    private String kernelName;
+
+    @Param({"10", "64", "256"})
+    private int width;
+
+    private RowKernel kernel;
+    private int words;
+    private long lastWord;
+    private int[][] colours;
+    private long[] rows;
+
+    @Setup
+    public void setUp() {
+        kernel = "VECTOR".equals(kernelName) ? RowKernel.vector() : RowKernel.scalar();
+        if (kernel == null) {
+            throw new IllegalStateException("The vector kernel is not available.");
+        }
+        words = BitBoard.wordCount(width);
+        lastWord = -1L >>> (words * Long.SIZE - width);
+        colours = new int[HEIGHT][width];
+        rows = new long[HEIGHT * words];
+        SplittableRandom random = new SplittableRandom(2042L);
+        // every other row is full, the rest have one hole
+        for (int row = 0; row < HEIGHT; row++) {
+            int hole = row % 2 == 0 ? -1 : random.nextInt(width);
+            for (int col = 0; col < width; col++) {
+                colours[row][col] = col == hole ? 0 : 1 + random.nextInt(8);
+            }
+            kernel.pack(colours[row], width, rows, row * words);
+        }
+    }
+
+    @Benchmark
+    public int countCells() {
+        int cells = 0;
+        for (int row = 0; row < HEIGHT; row++) {
+            cells += kernel.countCells(rows, row * words, words);
+        }
+        return cells;
+    }
+
+    @Benchmark
+    public int isFull() {
+        int full = 0;
+        for (int row = 0; row < HEIGHT; row++) {
+            if (kernel.isFull(rows, row * words, words, lastWord)) {
+                full++;
+            }
+        }
+        return full;
+    }
+
+    @Benchmark
+    public int pack() {
+        int cells = 0;
+        for (int row = 0; row < HEIGHT; row++) {
+            cells += kernel.pack(colours[row], width, rows, row * words);
+        }
+        return cells;
+    }
+
+    @Benchmark
+    public int[][] unpack() {
+        for (int row = 0; row < HEIGHT; row++) {
+            kernel.unpack(rows, row * words, width, 8, colours[row]);
+        }
+        return colours;
+    }
+}
@@ -0,0 +1,93 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.gameBoard.DirtyRegion;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.view.data.ViewData;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Defines how the {@code GuiController} draws the board, the falling brick, the ghost piece
+ * and the preview panels.
+ *
+ * <p>Two implementations exist: {@code GameRenderer} keeps one {@code Rectangle} node per cell,
+ * while {@code CanvasRenderer} paints everything onto a few {@code Canvas} nodes. The renderer is
+ * chosen once at startup with the {@value #RENDERER_PROPERTY} system property
+ * ({@code nodes} or {@code canvas}), and the length of the next queue with
+ * {@value #PREVIEW_PROPERTY}.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Strategy Pattern**: The drawing strategy can be swapped without touching the controller.</li>
+ * <li>**Factory Method**: {@link #create} picks the implementation from the startup setting.</li>
+ * </ul>
+ */
+public interface BoardRenderer {
+
+    /**
+     * The system property that selects the renderer.
+     */
+    String RENDERER_PROPERTY = "tetris.renderer";
+
+    /**
+     * The system property that sets how many upcoming bricks the next panel shows.
+     */
+    String PREVIEW_PROPERTY = "tetris.previews";
+
+    /**
+     * Initializes the entire rendering state at the start of a new game.
+     *
+     * @param boardMatrix The initial state of the game board matrix.
+     * @param brick The initial view data of the first falling brick.
+     */
+    void initializeRenderingState(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Redraws the falling brick and its ghost piece.
+     * @param brick The latest view data.
+     */
+    void refreshBrick(ViewData brick);
+
+    /**
+     * Redraws the cells of the board marked in the dirty region, then clears the region.
+     *
+     * @param board The updated game board matrix.
+     * @param dirty The cells that changed since the previous call.
+     */
+    void refreshGameBackground(int[][] board, DirtyRegion dirty);
+
+    /**
+     * Updates the next queue and the hold panel. A panel is only redrawn when the brick it
+     * shows is a different one, so moving or rotating the falling brick costs nothing here.
+     *
+     * @param brick The latest view data.
+     */
+    void refreshPreviews(ViewData brick);
+
+    /**
+     * Called once at the end of every frame, after all the refresh calls of that frame.
+     * Renderers that paint in immediate mode draw here, so a frame is only painted once.
+     */
+    default void endFrame() {
+    }
+
+    /**
+     * Creates the renderer selected by the {@value #RENDERER_PROPERTY} system property.
+     * Anything other than {@code canvas} gives the node-based {@code GameRenderer}. The next queue
+     * shows one brick unless {@value #PREVIEW_PROPERTY} asks for more, up to
+     * {@code TetrisBoard.PREVIEW_COUNT}.
+     *
+     * @param brickPanel The panel for the current falling brick.
+     * @param gamePanel The main game board panel.
+     * @param nextBrick The preview panel for the next brick.
+     * @param shadowPanel The panel for the ghost piece.
+     * @param holdBrick The panel for the held brick.
+     * @return The selected renderer.
+     */
+    static BoardRenderer create(GridPane brickPanel, GridPane gamePanel, GridPane nextBrick, GridPane shadowPanel, GridPane holdBrick) {
+        int previews = Math.clamp(Integer.getInteger(PREVIEW_PROPERTY, 1), 1, TetrisBoard.PREVIEW_COUNT);
+        if ("canvas".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY))) {
+            return new CanvasRenderer(brickPanel, gamePanel, nextBrick, shadowPanel, holdBrick, previews);
+        }
+        return new GameRenderer(brickPanel, gamePanel, nextBrick, shadowPanel, holdBrick, previews);
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.brickShapeGenerator.BrickShapes;
+import javafx.scene.layout.GridPane;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Shows one brick in a preview panel (a slot of the next queue, or the hold panel) using a
+ * fixed pool of cell nodes.
+ *
+ * <p>The 4x4 cells are created once. When the shown brick changes, the cells of the new shape
+ * are re-coloured and made visible and the others are hidden; asking for the brick that is
+ * already shown does nothing. Hidden cells are also unmanaged, so the panel shrinks around the
+ * shape and stays centred like a panel that only contains the occupied cells.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Object Pool**: The cell nodes are reused for every brick instead of being recreated on each refresh.</li>
+ * </ul>
+ */
+public final class BrickPreview {
+
+    private static final int CELLS = 4;
+    private static final int NONE = -1;
+
+    private final Rectangle[][] cells = new Rectangle[CELLS][CELLS];
+    private int shownId = NONE;
+
+    /**
+     * Creates the pooled cells and adds them, hidden, to the panel.
+     *
+     * @param panel The grid pane that holds this preview.
+     * @param brickSize The width and height of one cell.
+     */
+    public BrickPreview(GridPane panel, int brickSize) {
+        for (int i = 0; i < CELLS; i++) {
+            for (int j = 0; j < CELLS; j++) {
+                Rectangle rectangle = new Rectangle(brickSize, brickSize);
+                rectangle.setArcHeight(9);
+                rectangle.setArcWidth(9);
+                rectangle.setVisible(false);
+                rectangle.setManaged(false);
+                cells[i][j] = rectangle;
+                panel.add(rectangle, j, i);
+            }
+        }
+    }
+
+    /**
+     * Shows a brick, re-colouring the pooled cells only if it is not the brick already shown.
+     *
+     * @param brickId The id of the brick to show, or -1 to empty the preview.
+     * @return true if the cells were updated, false if that brick was already shown.
+     */
+    public boolean show(int brickId) {
+        if (brickId == shownId) {
+            return false;
+        }
+        shownId = brickId;
+        int[][] shape = brickId == NONE ? null : BrickShapes.getShape(brickId).getMatrix(0);
+        for (int i = 0; i < CELLS; i++) {
+            for (int j = 0; j < CELLS; j++) {
+                int colour = shape != null && i < shape.length && j < shape[i].length ? shape[i][j] : 0;
+                Rectangle rectangle = cells[i][j];
+                if (colour != 0) {
+                    rectangle.setFill(GameRenderer.getFillColor(colour));
+                }
+                rectangle.setVisible(colour != 0);
+                rectangle.setManaged(colour != 0);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the id of the brick currently shown.
+     * @return The brick id, or -1 if the preview is empty.
+     */
+    public int getShownId() {
+        return shownId;
+    }
+}
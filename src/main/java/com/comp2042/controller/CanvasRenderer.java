@@ -0,0 +1,261 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+import com.comp2042.model.brickShapeGenerator.BrickShapes;
+import com.comp2042.model.gameBoard.DirtyRegion;
+import com.comp2042.view.data.ViewData;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.Arrays;
+
+/**
+ * Draws the game in immediate mode onto a few {@code Canvas} nodes: one for the merged blocks,
+ * one stacked on top of it for the falling brick and the ghost piece, and a small canvas for
+ * each preview panel.
+ *
+ * <p>Unlike {@code GameRenderer}, no node is created or restyled per cell, so the scene graph
+ * stays a handful of nodes and CSS and layout passes have almost nothing to do. The block
+ * canvas only repaints the cells marked in the board's dirty region. The brick refresh only
+ * remembers the latest state; the brick canvas is repainted once in {@link #endFrame()}, and
+ * only when the brick changed. All paints are built once.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Strategy Pattern**: An interchangeable {@code BoardRenderer} for low-end machines.</li>
+ * <li>**Flyweight**: The colour paints are shared constants instead of a fill per cell.</li>
+ * </ul>
+ */
+public final class CanvasRenderer implements BoardRenderer {
+
+    private static final int BRICK_SIZE = 20;
+    // matches the hgap/vgap of the grid panes, so both renderers look the same
+    private static final int GAP = 1;
+    private static final int CELL = BRICK_SIZE + GAP;
+    private static final int ARC = 9;
+    // the top rows of the board are the spawn area and are never drawn
+    private static final int HIDDEN_ROWS = 2;
+    private static final int PREVIEW_CELLS = 4;
+    private static final int PREVIEW_SIZE = PREVIEW_CELLS * CELL - GAP;
+    private static final int PREVIEW_SPACING = BRICK_SIZE / 2;
+    private static final int NONE = -1;
+    private static final double SHADOW_OPACITY = 0.4;
+
+    private static final Paint[] FILLS = {
+            Color.TRANSPARENT,
+            Color.AQUA,
+            Color.BLUEVIOLET,
+            Color.DARKGREEN,
+            Color.YELLOW,
+            Color.RED,
+            Color.BEIGE,
+            Color.BURLYWOOD,
+            Color.GRAY
+    };
+    private static final Paint OTHER_FILL = Color.WHITE;
+    private static final Paint SHADOW_FILL = new Color(0.4, 0.4, 0.4, 1);
+
+    private final GridPane brickPanel, gamePanel, nextBrick, shadowPanel, holdBrick;
+
+    private Canvas boardCanvas;
+    private Canvas brickCanvas;
+    private Canvas nextCanvas;
+    private Canvas holdCanvas;
+    private ViewData brick;
+    private boolean brickChanged;
+    private final int[] shownNextIds;
+    private int shownHeldId = NONE;
+
+    /**
+     * Constructs the renderer over the same panels as {@code GameRenderer}. The canvases are
+     * added to the board and preview panels, and the brick and shadow panels are hidden.
+     *
+     * @param brickPanel The panel for the current falling brick (unused, hidden).
+     * @param gamePanel The main game board panel that receives the board canvas.
+     * @param nextBrick The preview panel for the next brick.
+     * @param shadowPanel The panel for the ghost piece (unused, hidden).
+     * @param holdBrick The panel for the held brick.
+     * @param previewCount How many upcoming bricks the next panel shows.
+     */
+    public CanvasRenderer(GridPane brickPanel, GridPane gamePanel, GridPane nextBrick, GridPane shadowPanel, GridPane holdBrick, int previewCount) {
+        this.brickPanel = brickPanel;
+        this.gamePanel = gamePanel;
+        this.nextBrick = nextBrick;
+        this.shadowPanel = shadowPanel;
+        this.holdBrick = holdBrick;
+        this.shownNextIds = new int[previewCount];
+    }
+
+    /**
+     * Creates the canvases for the board size and draws the first frame.
+     *
+     * @param boardMatrix The initial state of the game board matrix.
+     * @param brick The initial view data of the first falling brick.
+     */
+    @Override
+    public void initializeRenderingState(int[][] boardMatrix, ViewData brick) {
+        brickPanel.setVisible(false);
+        shadowPanel.setVisible(false);
+
+        double width = boardMatrix[0].length * CELL - GAP;
+        double height = (boardMatrix.length - HIDDEN_ROWS) * CELL - GAP;
+        boardCanvas = new Canvas(width, height);
+        brickCanvas = new Canvas(width, height);
+        // both canvases share the same grid cell, the brick canvas is on top
+        gamePanel.add(boardCanvas, 0, 0);
+        gamePanel.add(brickCanvas, 0, 0);
+        nextCanvas = createPreviewCanvas(nextBrick, shownNextIds.length);
+        holdCanvas = createPreviewCanvas(holdBrick, 1);
+
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                drawCell(gc, boardMatrix[i][j], j, i - HIDDEN_ROWS);
+            }
+        }
+        refreshBrick(brick);
+        endFrame();
+        Arrays.fill(shownNextIds, NONE);
+        shownHeldId = NONE;
+        refreshPreviews(brick);
+    }
+
+    /**
+     * Creates a preview canvas with room for a column of bricks and puts it in its panel.
+     */
+    private static Canvas createPreviewCanvas(GridPane panel, int slots) {
+        Canvas canvas = new Canvas(PREVIEW_SIZE, slots * (PREVIEW_SIZE + PREVIEW_SPACING) - PREVIEW_SPACING);
+        panel.getChildren().setAll(canvas);
+        return canvas;
+    }
+
+    /**
+     * Remembers the new brick position; it is painted in {@link #endFrame()}.
+     * @param brick The latest view data.
+     */
+    @Override
+    public void refreshBrick(ViewData brick) {
+        this.brick = brick;
+        brickChanged = true;
+    }
+
+    /**
+     * Repaints the cells marked in the dirty region on the block canvas, then clears the region.
+     *
+     * @param board The updated game board matrix.
+     * @param dirty The cells that changed since the previous refresh.
+     */
+    @Override
+    public void refreshGameBackground(int[][] board, DirtyRegion dirty) {
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        for (int i = Math.max(HIDDEN_ROWS, dirty.getTop()); i <= dirty.getBottom(); i++) {
+            for (int w = 0; w < dirty.getWordCount(); w++) {
+                long mask = dirty.getMask(i, w);
+                while (mask != 0) {
+                    int j = (w << 6) + Long.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    gc.clearRect(j * CELL, (i - HIDDEN_ROWS) * CELL, BRICK_SIZE, BRICK_SIZE);
+                    drawCell(gc, board[i][j], j, i - HIDDEN_ROWS);
+                }
+            }
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Paints one block cell at a visible grid position; empty cells are left clear.
+     */
+    private static void drawCell(GraphicsContext gc, int colour, int col, int row) {
+        if (colour != 0) {
+            gc.setFill(getFillColor(colour));
+            gc.fillRoundRect(col * CELL, row * CELL, BRICK_SIZE, BRICK_SIZE, ARC, ARC);
+        }
+    }
+
+    /**
+     * Repaints the brick canvas if the brick moved or changed during this frame.
+     */
+    @Override
+    public void endFrame() {
+        if (!brickChanged) {
+            return;
+        }
+        brickChanged = false;
+        GraphicsContext gc = brickCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, brickCanvas.getWidth(), brickCanvas.getHeight());
+
+        BrickShape shape = brick.getBrickShape();
+        int rotation = brick.getRotation();
+        gc.setGlobalAlpha(SHADOW_OPACITY);
+        gc.setFill(SHADOW_FILL);
+        drawShape(gc, shape, rotation, brick.getShadowXPosition(), brick.getShadowYPosition());
+        gc.setGlobalAlpha(1);
+        gc.setFill(getFillColor(shape.getColour()));
+        drawShape(gc, shape, rotation, brick.getxPosition(), brick.getyPosition());
+    }
+
+    /**
+     * Paints the occupied cells of a brick at a board position with the fill already set on
+     * the context, skipping cells in the hidden rows.
+     */
+    private static void drawShape(GraphicsContext gc, BrickShape shape, int rotation, int x, int y) {
+        for (int cell = 0; cell < shape.getCellCount(rotation); cell++) {
+            int row = y + shape.getCellRow(rotation, cell) - HIDDEN_ROWS;
+            if (row >= 0) {
+                gc.fillRoundRect((x + shape.getCellCol(rotation, cell)) * CELL, row * CELL, BRICK_SIZE, BRICK_SIZE, ARC, ARC);
+            }
+        }
+    }
+
+    /**
+     * Redraws the slots of the next queue and the hold canvas whose brick changed.
+     * @param brick The latest view data.
+     */
+    @Override
+    public void refreshPreviews(ViewData brick) {
+        for (int k = 0; k < shownNextIds.length; k++) {
+            int id = brick.getNextBrickId(k);
+            if (id != shownNextIds[k]) {
+                shownNextIds[k] = id;
+                drawPreview(nextCanvas, k, id);
+            }
+        }
+        int heldId = brick.getHeldBrickId();
+        if (heldId != shownHeldId) {
+            shownHeldId = heldId;
+            drawPreview(holdCanvas, 0, heldId);
+        }
+    }
+
+    /**
+     * Paints a brick centred in one slot of a preview canvas, using the bounding box of its
+     * occupied cells the same way the grid pane of {@code GameRenderer} shrinks around them.
+     */
+    private static void drawPreview(Canvas canvas, int slot, int brickId) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double top = slot * (PREVIEW_SIZE + PREVIEW_SPACING);
+        gc.clearRect(0, top, PREVIEW_SIZE, PREVIEW_SIZE);
+        if (brickId == NONE) {
+            return;
+        }
+        BrickShape shape = BrickShapes.getShape(brickId);
+        int minRow = shape.getMinRow(0), minCol = shape.getMinCol(0);
+        double offsetX = (PREVIEW_SIZE - ((shape.getMaxCol(0) - minCol + 1) * CELL - GAP)) / 2.0;
+        double offsetY = top + (PREVIEW_SIZE - ((shape.getMaxRow(0) - minRow + 1) * CELL - GAP)) / 2.0;
+        gc.setFill(getFillColor(shape.getColour()));
+        for (int cell = 0; cell < shape.getCellCount(0); cell++) {
+            gc.fillRoundRect(offsetX + (shape.getCellCol(0, cell) - minCol) * CELL,
+                    offsetY + (shape.getCellRow(0, cell) - minRow) * CELL, BRICK_SIZE, BRICK_SIZE, ARC, ARC);
+        }
+    }
+
+    /**
+     * Maps a colour code to its shared paint, with the same colours as {@code GameRenderer}.
+     */
+    private static Paint getFillColor(int i) {
+        return i >= 0 && i < FILLS.length ? FILLS[i] : OTHER_FILL;
+    }
+}
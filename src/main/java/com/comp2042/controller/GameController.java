@@ -1,22 +1,24 @@
 package com.comp2042.controller;
 
 import com.comp2042.events.EventSource;
-import com.comp2042.events.EventType;
 import com.comp2042.events.InputEventListener;
 import com.comp2042.events.MoveEvent;
-import com.comp2042.model.gameBoard.Board;
+import com.comp2042.model.gameBoard.BitBoard;
 import com.comp2042.model.gameBoard.TetrisBoard;
 import com.comp2042.model.logic.ClearFullRow;
 import com.comp2042.model.logic.GameMode;
-import com.comp2042.model.logic.MatrixOperations;
 import com.comp2042.model.logic.MovingDownData;
+import com.comp2042.model.replay.ReplayRecorder;
+import com.comp2042.model.replay.ReplayWriter;
 import com.comp2042.model.scoreBoard.HighScoreEntry;
 import com.comp2042.model.scoreBoard.HighScoreSaver;
 import com.comp2042.view.data.ViewData;
 
+import java.nio.file.Paths;
+
 /**
- * The main application controller that acts as the bridge between the view ({@code GuiController})
- * and the model/game logic ({@code Board}).
+ * The main application controller that acts as the bridge between the view ({@code GameView}, normally
+ * the {@code GuiController}) and the model/game logic ({@code Board}).
  *
  * <p>It implements {@code InputEventListener}, positioning it as the **Concrete Observer** in the
  * **Observer pattern**, reacting to all user and system-generated input events (Movement, Rotation,
@@ -28,29 +30,72 @@ import com.comp2042.view.data.ViewData;
  * <p>Design Patterns Implemented:</p>
  * <ul>
  * <li>**Dependency Inversion Principle (DIP) / Strategy Pattern**: Depends on the {@code HighScoreSaver} interface rather than a concrete class for saving game statistics, allowing the storage mechanism to be swapped without modifying the core game logic.</li>
+ * <li>**Dependency Inversion Principle (DIP)**: Drives a {@code GameView} and reports to a {@code ReplayRecorder}, so the same logic runs on screen, headless, with or without recording.</li>
  * <li>**Single Responsibility Principle (SRP)**: Logic is separated into methods like {@code setupViewsAndBindings()} and {@code handleBrickLandingTasks()}, keeping the constructor and core event handlers focused.</li>
  * </ul>
  */
 public class GameController implements InputEventListener {
 
-    private final Board board = new TetrisBoard(10, 25);
+    /**
+     * The system property that sets the board width of games started from the menu.
+     */
+    public static final String WIDTH_PROPERTY = "tetris.board.width";
+    /**
+     * The system property that sets the board height of games started from the menu, including
+     * the two hidden rows.
+     */
+    public static final String HEIGHT_PROPERTY = "tetris.board.height";
+
+    // every game is recorded here so it can be replayed later
+    private static final String REPLAY_DIRECTORY = "replays";
 
-    private final GuiController viewGui;
+    private final TetrisBoard board;
+
+    private final GameView viewGui;
     private final GameMode gameMode;
     private final HighScoreSaver scoreSaver;
+    private final ReplayRecorder recorder;
 
     /**
      * Constructs the GameController, initializing the game board and linking it to the GUI.
+     * The board is 10x25 unless {@value #WIDTH_PROPERTY} or {@value #HEIGHT_PROPERTY} ask for
+     * another size, clamped to what the board supports. Every game is recorded as a replay.
      *
      * @param viewGui The GUI controller responsible for rendering the game.
      * @param mode The selected difficulty mode for this game session.
      * @param scoreSaver The dependency for saving high scores upon game over.
      */
     public GameController(GuiController viewGui, GameMode mode, HighScoreSaver scoreSaver) {
-        this.viewGui = viewGui;
+        this(viewGui, mode, scoreSaver,
+                new TetrisBoard(boardSize(WIDTH_PROPERTY, TetrisBoard.STANDARD_WIDTH, BitBoard.MAX_WIDTH),
+                        boardSize(HEIGHT_PROPERTY, TetrisBoard.STANDARD_HEIGHT, BitBoard.MAX_HEIGHT)),
+                new ReplayWriter(Paths.get(REPLAY_DIRECTORY)));
+    }
+
+    /**
+     * Reads one board dimension from a system property.
+     */
+    private static int boardSize(String property, int standard, int max) {
+        return Math.clamp(Integer.getInteger(property, standard), TetrisBoard.MIN_SIZE, max);
+    }
+
+    /**
+     * Constructs the GameController for a given board and view, starting its first game.
+     *
+     * @param view The view that displays the game, possibly a {@code HeadlessGameView}.
+     * @param mode The selected difficulty mode for this game session.
+     * @param scoreSaver The dependency for saving high scores upon game over.
+     * @param board The board to play on; its seed decides the pieces of the first game.
+     * @param recorder The recorder of each game's inputs, or {@code ReplayRecorder.NONE}.
+     */
+    public GameController(GameView view, GameMode mode, HighScoreSaver scoreSaver, TetrisBoard board, ReplayRecorder recorder) {
+        this.viewGui = view;
         gameMode = mode;
         this.scoreSaver = scoreSaver;
+        this.board = board;
+        this.recorder = recorder;
         board.newGame();
+        recorder.startGame(board.getSeed(), gameMode, board.getRandomizer(), board.getBitBoard().getWidth(), board.getBitBoard().getHeight());
         setupViewsAndBindings();
     }
 
@@ -62,11 +107,8 @@ public class GameController implements InputEventListener {
         this.viewGui.setGameMode(gameMode);
         this.viewGui.setEventListener(this);
         this.viewGui.setGameTimer(board.getGameTime());
-        this.viewGui.bindLevel(board.getLevelUp().levelProperty());
+        this.viewGui.bindStats(board);
         this.viewGui.initializeGameView(board.getBoardMatrix(), board.getViewData());
-        this.viewGui.bindScore(board.getScore().scoreProperty());
-        this.viewGui.bindTimer(board.getGameTime().timeStringProperty());
-        this.viewGui.bindLines(board.getCountRows().countRowsProperty());
     }
 
     /**
@@ -80,15 +122,10 @@ public class GameController implements InputEventListener {
         if (gameMode.affectsRisingRows()) {
             int currentLevel = board.getLevelUp().getLevel();
 
+            recorder.recordRisingRow(board.getGameTime().getElapsedNanos());
             board.addRisingRow(currentLevel);
-            if (MatrixOperations.intersect(
-                    board.getBoardMatrix(),
-                    board.getViewData().getBrickData(),
-                    board.getViewData().getxPosition(),
-                    board.getViewData().getyPosition()
-            )) {
-                board.getGameTime().stop();
-                viewGui.gameOver();
+            if (board.isBrickBlocked()) {
+                endGame();
                 return;
             }
             viewGui.refreshGameBackground(board.getBoardMatrix());
@@ -107,6 +144,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public MovingDownData onDownEvent(MoveEvent event) {
+        record(event);
         int previousLevel = board.getLevelUp().getLevel();
         boolean canMove = board.moveBrickDown();
         ClearFullRow clearFullRow = null;
@@ -115,13 +153,7 @@ public class GameController implements InputEventListener {
             // if brick cannot move further down, call the handleBrickCannotMove method to determine if brick placement
             // fills row hence deletion or game over
             clearFullRow = handleBrickLandingTasks();
-
-            // check for level up
-            int currentLevel = board.getLevelUp().getLevel();
-            if (currentLevel > previousLevel) {
-                viewGui.updateGameSpeed(currentLevel);
-                viewGui.showLevelUpNotification(currentLevel);
-            }
+            checkLevelUp(previousLevel);
 
         } else {
             if (event.getEventSource() == EventSource.USER) {
@@ -131,6 +163,19 @@ public class GameController implements InputEventListener {
         return new MovingDownData(clearFullRow, board.getViewData());
     }
 
+    /**
+     * Speeds up the game and notifies the player if the last landing advanced the level.
+     *
+     * @param previousLevel The level before the brick landed.
+     */
+    private void checkLevelUp(int previousLevel) {
+        int currentLevel = board.getLevelUp().getLevel();
+        if (currentLevel > previousLevel) {
+            viewGui.updateGameSpeed(currentLevel);
+            viewGui.showLevelUpNotification(currentLevel);
+        }
+    }
+
     /**
      * Executes the tasks required when a falling brick lands:
      * 1. Merges the brick to the background matrix.
@@ -148,23 +193,38 @@ public class GameController implements InputEventListener {
         }
         // if there exists a clash with initial spawn of brick, implement game over
         if (board.createNewBrick()) {
-            board.getGameTime().stop();
-            viewGui.gameOver();
+            endGame();
         }
 
         viewGui.refreshGameBackground(board.getBoardMatrix());
         return clearFullRow;
     }
 
+    /**
+     * Stops the clock, closes the game's replay and tells the view the game is over.
+     */
+    private void endGame() {
+        board.getGameTime().stop();
+        recorder.endGame();
+        viewGui.gameOver();
+    }
+
+    /**
+     * Stores the move in the replay, timed by the game clock so pauses are left out.
+     */
+    private void record(MoveEvent event) {
+        recorder.recordMove(event.getEventType(), event.getEventSource(), board.getGameTime().getElapsedNanos());
+    }
+
     /**
      * Collects the final game statistics (score, level, lines, time, and GameMode)
      * and delegates the saving process to the injected {@code HighScoreSaver} dependency.
      */
     public void getFinalGameStats() {
-        int finalScore = board.getScore().scoreProperty().get();
+        int finalScore = board.getScore().getScore();
         int finalLevel = board.getLevelUp().getLevel();
-        int finalLines = board.getCountRows().countRowsProperty().get();
-        String finalTime = board.getGameTime().timeStringProperty().get();
+        int finalLines = board.getCountRows().getCountRows();
+        String finalTime = board.getGameTime().getTimeString();
 
         HighScoreEntry entry = new HighScoreEntry(finalScore, finalLevel, finalLines, finalTime, gameMode);
         scoreSaver.saveScore(entry);
@@ -177,6 +237,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
+        record(event);
         board.moveBrickLeft();
         return board.getViewData();
     }
@@ -188,6 +249,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
+        record(event);
         board.moveBrickRight();
         return board.getViewData();
     }
@@ -199,6 +261,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
+        record(event);
         board.rotateBrickLeft();
         return board.getViewData();
     }
@@ -210,30 +273,38 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
+        record(event);
         board.holdBrick();
         return board.getViewData();
     }
 
     /**
-     * Handles the hard drop (slam) event by repeatedly executing the {@code onDownEvent}
-     * with an event source of USER until the brick can no longer move.
+     * Handles the hard drop (slam) event. The board drops the brick to its landing row in one
+     * step, the player gets one point per row fallen in a single score update, and the brick
+     * is locked straight away.
      *
      * @param event The move event details.
-     * @return The {@code MovingDownData} resulting from the final down event (after landing).
+     * @return The {@code MovingDownData} describing the landing.
      */
     @Override
     public MovingDownData onSlamEvent(MoveEvent event) {
-        MovingDownData movingDownData;
-        ViewData previousState;
-        ViewData currentState = null;
-
-        do {
-            previousState = currentState;
-            movingDownData = onDownEvent(new MoveEvent(EventType.SLAM, EventSource.USER));
-            currentState = movingDownData.getViewData();
-        } while (previousState == null || currentState.getyPosition() > previousState.getyPosition());
+        record(event);
+        int previousLevel = board.getLevelUp().getLevel();
+        int rowsDropped = board.hardDropBrick();
+        if (rowsDropped > 0) {
+            board.getScore().add(rowsDropped);
+        }
+        ClearFullRow clearFullRow = handleBrickLandingTasks();
+        checkLevelUp(previousLevel);
+        return new MovingDownData(clearFullRow, board.getViewData());
+    }
 
-        return movingDownData;
+    /**
+     * Closes the replay of the game in progress and releases the recorder, once the game screen
+     * is gone. Simulation thread.
+     */
+    public void close() {
+        recorder.close();
     }
 
     /**
@@ -242,7 +313,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public void createNewGame() {
+        recorder.endGame();
         board.newGame();
+        recorder.startGame(board.getSeed(), gameMode, board.getRandomizer(), board.getBitBoard().getWidth(), board.getBitBoard().getHeight());
         viewGui.refreshGameBackground(board.getBoardMatrix());
     }
 }
\ No newline at end of file
@@ -1,34 +1,64 @@
 package com.comp2042.controller;
 
+import com.comp2042.controller.keyInput.InputRingBuffer;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
 import com.comp2042.events.InputEventListener;
 import com.comp2042.model.logic.GameMode;
 import com.comp2042.model.logic.GameTime;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.model.logic.SimulationClock;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.scene.Scene;
 import javafx.scene.layout.GridPane;
-import javafx.util.Duration;
+import javafx.stage.Window;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Manages the core flow and state of the game, including game timing, pause/resume,
  * and speed control.
  *
- * <p>This class controls two separate JavaFX {@code Timeline}s:
- * one for the periodic falling of the brick ({@code timeline})
- * and one for the periodic addition of rising rows ({@code risingRowTimeline}).</p>
+ * <p>All timed events run on a single fixed-timestep {@code SimulationClock}: gravity (the
+ * periodic falling of the brick) and the periodic addition of rising rows. The clock and the
+ * game logic run on a dedicated simulation thread, never on the JavaFX Application Thread, so
+ * a slow frame cannot delay gameplay and a slow game step cannot delay a frame. The JavaFX
+ * side talks to the game only by queueing commands with {@link #execute(Runnable)} and brick
+ * control inputs in the {@code InputRingBuffer}, which is drained once per tick; after
+ * each step the simulation thread runs the publish action, which hands a snapshot to the
+ * renderer. A JavaFX {@code AnimationTimer} runs the frame action on every pulse, which draws
+ * the latest snapshot. Speed changes only update the clock's intervals.</p>
+ *
+ * <p>Methods are marked with the thread they must be called on. The pause and game over
+ * properties belong to the JavaFX thread.</p>
  *
  * <p>Design Patterns Implemented:</p>
  * <ul>
  * <li>**Single Responsibility Principle (SRP)**: Decouples the timing and state management logic from the {@code GuiController} and {@code GameController}, centralizing control over the game loop.</li>
- * <li>**Command Pattern**: It accepts {@code Runnable} actions (like {@code gameAction} and {@code risingRowAction}) which represent commands to be executed periodically by the JavaFX {@code Timeline} scheduling mechanism.</li>
- * <li>**Timer Pattern**: Uses JavaFX {@code Timeline}s to coordinate time-based events, managing their start, stop, and dynamic speed updates.</li>
+ * <li>**Command Pattern**: It accepts {@code Runnable} actions (gravity, rising row and frame actions) which represent commands to be executed by the game loop.</li>
+ * <li>**Game Loop Pattern**: The simulation advances in fixed ticks, independent of the frame rate, while rendering happens once per frame.</li>
+ * <li>**Active Object**: Commands from the JavaFX thread are queued and run in order by the simulation thread that owns the game.</li>
  * </ul>
  */
 public class GameFlowManager {
 
-    public Timeline timeline;
-    private Timeline risingRowTimeline;
+    private static final Logger LOGGER = Logger.getLogger(GameFlowManager.class.getName());
+    private static final int INITIAL_DROP_RATE = 400;
+    private static final int INITIAL_RISING_ROW_INTERVAL = 20;
+    private static final long TICK_NANOS = SimulationClock.TICK_MILLIS * 1_000_000L;
+    private static final int INPUT_CAPACITY = 256;
+    // games whose simulation thread has not finished yet, so the application can wait for them on exit
+    private static final Set<GameFlowManager> RUNNING = ConcurrentHashMap.newKeySet();
+
+    private final SimulationClock clock = new SimulationClock(INITIAL_DROP_RATE, INITIAL_RISING_ROW_INTERVAL * 1000);
+    private final AnimationTimer frameTimer;
     private final GridPane gamePanel;
     private InputEventListener eventListener;
     private GameTime gameTime;
@@ -36,10 +66,25 @@ public class GameFlowManager {
 
     private final BooleanProperty isPause = new SimpleBooleanProperty();
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
-    private Runnable gameAction;
-    private Runnable risingRowAction;
-    int currentDropRate = 400;
-    int currentRisingRowInterval = 20;
+    private Runnable frameAction;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final InputRingBuffer inputs = new InputRingBuffer(INPUT_CAPACITY);
+    // bound once, so draining the inputs does not allocate a handler per tick
+    private final InputRingBuffer.Handler inputDrain = this::applyInput;
+    private Thread simulationThread;
+    private volatile boolean alive;
+    // the fields below belong to the simulation thread
+    private Runnable tickAction;
+    private Runnable publishAction;
+    private Runnable shutdownAction;
+    private InputRingBuffer.Handler inputHandler;
+    private long inputCount;
+    private long totalInputLatency;
+    private long maxInputLatency;
+    private int gameNumber;
+    private boolean ended;
+    int currentDropRate = INITIAL_DROP_RATE;
+    int currentRisingRowInterval = INITIAL_RISING_ROW_INTERVAL;
 
     /**
      * Constructs the GameFlowManager.
@@ -50,6 +95,12 @@ public class GameFlowManager {
     public GameFlowManager(GridPane gamePanel, InputEventListener eventListener) {
         this.gamePanel = gamePanel;
         this.eventListener = eventListener;
+        this.frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame();
+            }
+        };
     }
 
     /**
@@ -58,6 +109,7 @@ public class GameFlowManager {
      */
     public void setGameMode(GameMode gameMode) {
         this.gameMode = gameMode;
+        clock.setRisingRowsEnabled(gameMode.affectsRisingRows());
     }
 
     /**
@@ -77,89 +129,254 @@ public class GameFlowManager {
     }
 
     /**
-     * Creates and configures the main game timeline for brick dropping at a rate of {@code currentDropRate}.
+     * Sets the gravity action, run every {@code currentDropRate} milliseconds of game time.
      *
-     * @param action The runnable to execute on each timer tick (i.e., moving the brick down).
+     * @param action The runnable to execute on each gravity tick (i.e., moving the brick down).
      */
-    public void createTimeline(Runnable action) {
-        this.gameAction = action;
-        timeline = new Timeline(
-                new KeyFrame(Duration.millis(currentDropRate), e -> action.run())
-        );
-        timeline.setCycleCount(Timeline.INDEFINITE);
+    public void setGravityAction(Runnable action) {
+        clock.setGravityAction(action);
     }
 
     /**
-     * Updates the brick dropping speed based on the new game level, but only if the current
-     * {@code GameMode} affects falling speed (Normal and Extreme Mode).
-     * If the speed changes, the internal timeline is recreated and restarted.
+     * Sets the action for the periodic addition of rising rows.
      *
-     * <p>The speed starts at 400ms and decreases by 70ms per level up to level 5.</p>
+     * @param action The runnable to execute on each rising row tick.
+     */
+    public void setRisingRowAction(Runnable action) {
+        clock.setRisingRowAction(action);
+    }
+
+    /**
+     * Sets the action run on the JavaFX thread once per rendered frame.
      *
-     * @param newLevel The current level of the game.
+     * @param action The runnable that renders the latest snapshot.
      */
-    public void updateSpeed(int newLevel) {
-        if (gameMode.affectsFallingSpeed()) {
-            if (newLevel <= 0) {
-                newLevel = 1;
-            } else if (newLevel > 5) {
-                newLevel = 5;
-            }
+    public void setFrameAction(Runnable action) {
+        this.frameAction = action;
+    }
 
-            int newDropRate = 400 - (70 * (newLevel - 1));
+    /**
+     * Sets an action run on the simulation thread after every clock advance, used to feed a
+     * replay into the game. Simulation thread, or before {@link #start()}.
+     *
+     * @param action The runnable, or null for none.
+     */
+    public void setTickAction(Runnable action) {
+        this.tickAction = action;
+    }
 
-            if (newDropRate != currentDropRate) {
-                currentDropRate = newDropRate;
+    /**
+     * Sets the action run on the simulation thread after every step, which publishes what
+     * changed to the renderer. Must be set before {@link #start()}.
+     *
+     * @param action The runnable that publishes a snapshot.
+     */
+    public void setPublishAction(Runnable action) {
+        this.publishAction = action;
+    }
 
-                boolean wasRunning = (timeline != null && timeline.getStatus() == Timeline.Status.RUNNING);
+    /**
+     * Sets the action run once on the simulation thread when it ends, which releases what the
+     * game holds (e.g. flushes and closes the replay). Must be set before {@link #start()}.
+     *
+     * @param action The runnable, or null for none.
+     */
+    public void setShutdownAction(Runnable action) {
+        this.shutdownAction = action;
+    }
 
-                if (timeline != null) {
-                    timeline.stop();
-                }
+    /**
+     * Sets the handler that applies the brick control inputs to the game. Simulation thread,
+     * or before {@link #start()}.
+     *
+     * @param handler The handler, or null to drop the inputs (e.g. while showing a replay).
+     */
+    public void setInputHandler(InputRingBuffer.Handler handler) {
+        this.inputHandler = handler;
+    }
 
-                if (this.gameAction != null) {
-                    createTimeline(this.gameAction);
-                }
+    /**
+     * Gets the buffer the JavaFX thread writes brick control inputs to. It has a single
+     * producer, so only the JavaFX thread may offer to it.
+     *
+     * @return The input buffer.
+     */
+    public InputRingBuffer getInputBuffer() {
+        return inputs;
+    }
 
-                if (wasRunning && timeline != null) {
-                    timeline.play();
-                }
+    /**
+     * Queues a command for the simulation thread and wakes it up. Commands run in the order
+     * they were queued, between two clock advances. Any thread.
+     *
+     * @param command The command to run on the simulation thread.
+     */
+    public void execute(Runnable command) {
+        commands.add(command);
+        LockSupport.unpark(simulationThread);
+    }
+
+    /**
+     * Runs on every JavaFX pulse and draws the latest published state.
+     */
+    private void onFrame() {
+        if (frameAction != null) {
+            frameAction.run();
+        }
+    }
+
+    /**
+     * The body of the simulation thread: applies the inputs, runs the queued commands, advances
+     * the clock, then publishes. It sleeps one tick at a time while the game runs, and until the next command
+     * while it is paused or over.
+     */
+    private void runSimulation() {
+        while (alive) {
+            try {
+                step();
+            } catch (RuntimeException e) {
+                // keep the thread alive, a frozen game is worse than one bad step
+                LOGGER.log(Level.SEVERE, "Game step failed", e);
+            }
+            if (!commands.isEmpty()) {
+                continue;
             }
+            if (clock.isRunning()) {
+                LockSupport.parkNanos(this, TICK_NANOS);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+        try {
+            if (shutdownAction != null) {
+                shutdownAction.run();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Game shutdown failed", e);
+        } finally {
+            RUNNING.remove(this);
+        }
+    }
+
+    /**
+     * Runs one iteration of the simulation thread. Simulation thread.
+     */
+    private void step() {
+        if (clock.isRunning()) {
+            inputs.drain(inputDrain);
         } else {
-            // For Hard mode that does not require falling brick speed
-            if (currentDropRate != 400) {
-                currentDropRate = 400;
+            // keys pressed just before a pause or the game end are not kept for later
+            inputs.clear();
+        }
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
+        }
+        clock.advance(System.nanoTime());
+        if (tickAction != null && clock.isRunning()) {
+            tickAction.run();
+        }
+        if (publishAction != null) {
+            publishAction.run();
+        }
+    }
 
-                boolean wasRunning = (timeline.getStatus() == Timeline.Status.RUNNING);
+    /**
+     * Applies one brick control input and measures how long it waited since the key press.
+     * Simulation thread.
+     */
+    private void applyInput(EventType type, EventSource source, long timeNanos) {
+        // an earlier input may have ended the game
+        if (inputHandler == null || !clock.isRunning()) {
+            return;
+        }
+        long latency = System.nanoTime() - timeNanos;
+        inputCount++;
+        totalInputLatency += latency;
+        maxInputLatency = Math.max(maxInputLatency, latency);
+        inputHandler.onInput(type, source, timeNanos);
+    }
 
-                if (timeline != null) {
-                    timeline.stop();
-                }
+    /**
+     * Gets the number of inputs applied in the current game. Simulation thread only.
+     * @return The input count.
+     */
+    public long getInputCount() {
+        return inputCount;
+    }
 
-                if (this.gameAction != null) {
-                    createTimeline(this.gameAction);
-                }
+    /**
+     * Gets the mean time between a key press and its input being applied, in the current game.
+     * Simulation thread only.
+     *
+     * @return The mean input latency in nanoseconds, or 0 if there was no input.
+     */
+    public long getMeanInputLatencyNanos() {
+        return inputCount == 0 ? 0 : totalInputLatency / inputCount;
+    }
 
-                if (wasRunning && timeline != null) {
-                    timeline.play();
-                }
+    /**
+     * Gets the longest time between a key press and its input being applied, in the current
+     * game. Simulation thread only.
+     *
+     * @return The maximum input latency in nanoseconds.
+     */
+    public long getMaxInputLatencyNanos() {
+        return maxInputLatency;
+    }
 
-            }
-        }
-        updateRisingRowSpeed(newLevel);
+    /**
+     * Checks if the game is currently being simulated, that is neither paused nor over.
+     * Simulation thread only.
+     *
+     * @return true if the clock is running.
+     */
+    public boolean isSimulating() {
+        return clock.isRunning();
     }
 
     /**
-     * Creates and configures the timeline for the periodic addition of rising rows.
+     * Checks if the current game has ended. Simulation thread only.
+     * @return true once {@link #endGame()} was called, until the next new game.
+     */
+    public boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * Gets how many new games were started after the first one. Simulation thread only.
+     * @return The game number, starting at 0.
+     */
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    /**
+     * Updates the brick dropping speed based on the new game level, but only if the current
+     * {@code GameMode} affects falling speed (Normal and Extreme Mode).
+     *
+     * <p>The speed starts at 400ms and decreases by 70ms per level up to level 5.
+     * Simulation thread only.</p>
      *
-     * @param action The runnable to execute on each timer tick (i.e., adding a new rising row).
+     * @param newLevel The current level of the game.
      */
-    public void createRisingRowTimeline(Runnable action) {
-        this.risingRowAction = action;
-        risingRowTimeline = new Timeline(
-                new KeyFrame(Duration.seconds(currentRisingRowInterval), e -> action.run())
-        );
-        risingRowTimeline.setCycleCount(Timeline.INDEFINITE);
+    public void updateSpeed(int newLevel) {
+        if (newLevel <= 0) {
+            newLevel = 1;
+        } else if (newLevel > 5) {
+            newLevel = 5;
+        }
+
+        int newDropRate = INITIAL_DROP_RATE;
+        if (gameMode.affectsFallingSpeed()) {
+            newDropRate = INITIAL_DROP_RATE - (70 * (newLevel - 1));
+        }
+        // For Hard mode that does not require falling brick speed, the rate stays at 400ms
+        if (newDropRate != currentDropRate) {
+            currentDropRate = newDropRate;
+            clock.setGravityInterval(currentDropRate);
+        }
+        updateRisingRowSpeed(newLevel);
     }
 
     /**
@@ -169,17 +386,9 @@ public class GameFlowManager {
      * @param newLevel The current level of the game.
      */
     private void updateRisingRowSpeed(int newLevel) {
-
         int newInterval;
 
-        if (risingRowTimeline == null || risingRowAction == null) {
-            return;
-        }
-
-        if (newLevel < 1) {
-            risingRowTimeline.stop();
-            return;
-        } else if (newLevel == 1) {
+        if (newLevel == 1) {
             newInterval = 20;
         } else if (newLevel == 2) {
             newInterval = 18;
@@ -193,96 +402,154 @@ public class GameFlowManager {
 
         if (newInterval != currentRisingRowInterval) {
             currentRisingRowInterval = newInterval;
+            clock.setRisingRowInterval(currentRisingRowInterval * 1000);
+        }
+    }
 
-            boolean wasRunning = (risingRowTimeline.getStatus() == Timeline.Status.RUNNING);
-            risingRowTimeline.stop();
+    /**
+     * Starts the game: starts the simulation thread with the clock and the game timer running,
+     * and starts rendering frames. The thread ends once the game screen is taken off the stage
+     * or its window is closed.
+     * JavaFX thread, called once.
+     */
+    public void start() {
+        resume();
+        alive = true;
+        RUNNING.add(this);
+        simulationThread = new Thread(this::runSimulation, "tetris-simulation");
+        simulationThread.setDaemon(true);
+        simulationThread.start();
+        frameTimer.start();
+        // false once the panel leaves its scene or the window stops showing
+        gamePanel.sceneProperty().flatMap(Scene::windowProperty).flatMap(Window::showingProperty).orElse(false)
+                .addListener((observable, wasShowing, showing) -> {
+                    if (!showing) {
+                        shutdown();
+                    }
+                });
+    }
 
-            // Recreate timeline with the new duration
-            risingRowTimeline = new Timeline(
-                    new KeyFrame(Duration.seconds(currentRisingRowInterval), e -> risingRowAction.run())
-            );
-            risingRowTimeline.setCycleCount(Timeline.INDEFINITE);
+    /**
+     * Stops the frames and signals the simulation thread to stop. The thread runs its shutdown
+     * action (e.g. flushing the replay) in the background, so leaving the screen never waits
+     * on it. JavaFX thread.
+     */
+    public void shutdown() {
+        if (!alive) {
+            return;
+        }
+        frameTimer.stop();
+        alive = false;
+        LockSupport.unpark(simulationThread);
+    }
 
-            if (wasRunning) {
-                risingRowTimeline.play();
+    /**
+     * Stops every running game and waits for their simulation threads to finish their shutdown
+     * actions. The threads are daemons, so without the wait the application could exit half way
+     * through them. Only meant for application exit. JavaFX thread.
+     *
+     * @param timeoutMillis The longest time to wait for all of them together.
+     */
+    public static void shutdownAll(long timeoutMillis) {
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        for (GameFlowManager game : RUNNING) {
+            game.shutdown();
+            try {
+                game.simulationThread.join(Math.max(1, (deadline - System.nanoTime()) / 1_000_000L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             }
         }
-
-        if (risingRowTimeline.getStatus() != Timeline.Status.RUNNING && !isPause.get()) {
-            risingRowTimeline.play();
+        if (!RUNNING.isEmpty()) {
+            LOGGER.log(Level.WARNING, "Some games did not shut down in time.");
         }
     }
 
     /**
-     * Starts the game: begins the main timeline, the rising row timeline (for hard and extreme mode), and the game timer.
+     * Resumes the simulation clock and the game timer, unless the game has ended. Simulation thread.
      */
-    public void start() {
-        timeline.play();
-        if (risingRowTimeline != null) {
-            risingRowTimeline.play();
+    private void resume() {
+        if (ended) {
+            return;
         }
+        clock.start(System.nanoTime());
         if (gameTime != null) {
             gameTime.start();
         }
     }
 
     /**
-     * Stops the game: halts the main timeline, the rising row timeline, and pauses the game timer.
+     * Halts the simulation clock and pauses the game timer. Frames keep rendering so that the
+     * final state is always drawn. Simulation thread.
      */
     private void stop() {
-        timeline.stop();
-        if (risingRowTimeline != null) {
-            risingRowTimeline.stop();
-        }
+        clock.stop();
         if (gameTime != null) {
             gameTime.stop();
         }
     }
 
     /**
-     * Stops the game flow and sets the game over state to true.
+     * Stops the simulation for good when the game ends; only a new game starts it again.
+     * Simulation thread.
      */
-    public void gameOver() {
+    public void endGame() {
+        ended = true;
         stop();
+        LOGGER.fine(() -> String.format("Input latency over %d inputs: mean %d us, max %d us",
+                inputCount, getMeanInputLatencyNanos() / 1000, maxInputLatency / 1000));
+    }
+
+    /**
+     * Sets the game over state to true once the renderer has seen the game end. The simulation
+     * has already stopped itself by then. JavaFX thread.
+     */
+    public void gameOver() {
         isGameOver.setValue(Boolean.TRUE);
     }
 
     /**
-     * Resets the game flow for a new game:
-     * 1. Stops all timelines.
+     * Resets the game flow for a new game. The state flags are reset straight away, the rest runs
+     * on the simulation thread:
+     * 1. Stops the simulation clock and resets the input latency counters.
      * 2. Calls {@code eventListener.createNewGame()} to reset the game board.
-     * 3. Resets and recreates falling brick timeline for initial speed.
-     * 4. Resets the rising row interval and updates speed.
-     * 5. Starts the flow and resets state flags.
+     * 3. Resets the gravity and rising row intervals and restarts both timers.
+     * 4. Updates speed for level 1.
+     * 5. Starts the flow again.
+     * JavaFX thread.
      */
     public void newGame() {
-        stop();
-        eventListener.createNewGame();
-        gamePanel.requestFocus();
-        currentDropRate = 400;
-
-        // recreates the falling brick timeline for every new game
-        if (this.gameAction != null) {
-            createTimeline(this.gameAction);
-        }
-
-        currentRisingRowInterval = 20;
-        updateSpeed(1);
-        start();
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
+        gamePanel.requestFocus();
+        execute(() -> {
+            stop();
+            ended = false;
+            gameNumber++;
+            inputCount = 0;
+            totalInputLatency = 0;
+            maxInputLatency = 0;
+            eventListener.createNewGame();
+            currentDropRate = INITIAL_DROP_RATE;
+            currentRisingRowInterval = INITIAL_RISING_ROW_INTERVAL;
+            clock.setGravityInterval(currentDropRate);
+            clock.setRisingRowInterval(currentRisingRowInterval * 1000);
+            // every new game starts with full gravity and rising row intervals
+            clock.resetTimers();
+            updateSpeed(1);
+            resume();
+        });
     }
 
     /**
-     * Toggles the paused state of the game, stopping or starting the timelines and timer as needed.
+     * Toggles the paused state of the game, and stops or starts the simulation clock and timer
+     * on the simulation thread. JavaFX thread.
      */
     public void pauseGame() {
-        if(isPause.get()) {
-            start();
-        } else {
-            stop();
-        }
-        isPause.set(!isPause.get());
+        boolean pause = !isPause.get();
+        isPause.set(pause);
+        execute(pause ? this::stop : this::resume);
         gamePanel.requestFocus();
     }
 
@@ -1,5 +1,7 @@
 package com.comp2042.controller;
 
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+import com.comp2042.model.gameBoard.DirtyRegion;
 import com.comp2042.view.data.ViewData;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
@@ -14,8 +16,10 @@ import javafx.scene.shape.Rectangle;
  * and game logic, supporting the **Single Responsibility Principle (SRP)** by focusing
  * purely on the presentation aspect. This makes it the dedicated
  * **Renderer** component within the larger MVC structure.</p>
+ *
+ * <p>This is the default {@code BoardRenderer}; {@code CanvasRenderer} is the lighter alternative.</p>
  */
-public class GameRenderer {
+public class GameRenderer implements BoardRenderer {
 
     private static final int BRICK_SIZE = 20;
     private static final int MAGIC_NUM = -42;
@@ -25,8 +29,14 @@ public class GameRenderer {
     private Rectangle[][] displayMatrix;
     private Rectangle[][] rectangles;
     private Rectangle[][] shadowRectangles;
+    private BrickPreview[] nextPreviews;
+    private BrickPreview holdPreview;
+    // the shape the brick and shadow cells are coloured for
+    private BrickShape shownShape;
+    private int shownRotation;
 
     private final GridPane brickPanel, gamePanel, nextBrick, shadowPanel, holdBrick;
+    private final int previewCount;
 
     /**
      * Constructs the GameRenderer by accepting references to all necessary GUI panels.
@@ -36,13 +46,15 @@ public class GameRenderer {
      * @param nextBrick The preview panel for the next brick.
      * @param shadowPanel The panel for the ghost piece.
      * @param holdBrick The panel for the held brick.
+     * @param previewCount How many upcoming bricks the next panel shows.
      */
-    public GameRenderer(GridPane brickPanel, GridPane gamePanel, GridPane nextBrick, GridPane shadowPanel, GridPane holdBrick) {
+    public GameRenderer(GridPane brickPanel, GridPane gamePanel, GridPane nextBrick, GridPane shadowPanel, GridPane holdBrick, int previewCount) {
         this.brickPanel = brickPanel;
         this.gamePanel = gamePanel;
         this.nextBrick = nextBrick;
         this.shadowPanel = shadowPanel;
         this.holdBrick = holdBrick;
+        this.previewCount = previewCount;
     }
 
     /**
@@ -52,14 +64,17 @@ public class GameRenderer {
      * @param boardMatrix The initial state of the game board matrix.
      * @param brick The initial view data of the first falling brick.
      */
+    @Override
     public void initializeRenderingState(int[][] boardMatrix, ViewData brick) {
         initializeGameBoard(boardMatrix);
         initializeBrick(brick);
         initializeShadowBrick(brick);
+        shownShape = brick.getBrickShape();
+        shownRotation = brick.getRotation();
         updateBrickPosition(brick);
         updateShadowBrickPosition(brick);
-        generateNextBrickInPreviewPanel(brick.getNextBrickData());
-        generateHoldBrickInPanel(brick.getHeldBrickData());
+        initializePreviews();
+        refreshPreviews(brick);
     }
 
     /**
@@ -74,7 +89,8 @@ public class GameRenderer {
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
+                // the arcs never change, so only the fill is touched afterwards
+                setRectangleData(boardMatrix[i][j], rectangle);
                 displayMatrix[i][j] = rectangle;
                 gamePanel.add(rectangle, j, i - 2);
             }
@@ -88,11 +104,12 @@ public class GameRenderer {
      * @param brick The {@code ViewData} for the current brick.
      */
     private void initializeBrick(ViewData brick) {
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        int[][] brickData = brick.getBrickData();
+        rectangles = new Rectangle[brickData.length][brickData[0].length];
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
+                rectangle.setFill(getFillColor(brickData[i][j]));
                 rectangles[i][j] = rectangle;
                 brickPanel.add(rectangle, j, i);
             }
@@ -106,12 +123,13 @@ public class GameRenderer {
      * @param brick The {@code ViewData} for the current brick.
      */
     private void initializeShadowBrick(ViewData brick) {
-        shadowRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        int[][] brickData = brick.getBrickData();
+        shadowRectangles = new Rectangle[brickData.length][brickData[0].length];
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                 // Initialize with shadow style
-                rectangle.setFill(getShadowColor(brick.getBrickData()[i][j]));
+                rectangle.setFill(getShadowColor(brickData[i][j]));
                 rectangle.setOpacity(0.4); // Set opacity for the ghost effect
                 shadowRectangles[i][j] = rectangle;
                 shadowPanel.add(rectangle, j, i);
@@ -121,33 +139,50 @@ public class GameRenderer {
 
     /**
      * Refreshes the visual state of the currently falling brick and its ghost piece.
-     * This method is called repeatedly during movement and rotation.
+     * This method is called repeatedly during movement and rotation. A move only shifts the
+     * panels; the cells are re-coloured only when the shape or its rotation changed.
      *
      * @param brick The latest {@code ViewData} containing position and shape updates.
      */
+    @Override
     public void refreshBrick(ViewData brick) {
         updateBrickPosition(brick);
         updateShadowBrickPosition(brick);
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                setShadowRectangleData(brick.getBrickData()[i][j], shadowRectangles[i][j]);
+        if (brick.getBrickShape() == shownShape && brick.getRotation() == shownRotation) {
+            return;
+        }
+        shownShape = brick.getBrickShape();
+        shownRotation = brick.getRotation();
+        int[][] brickData = brick.getBrickData();
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                setRectangleData(brickData[i][j], rectangles[i][j]);
+                setShadowRectangleData(brickData[i][j], shadowRectangles[i][j]);
             }
         }
     }
 
     /**
      * Refreshes the display of the main game board background, typically after a block lands
-     * and is merged or when rows are cleared.
+     * and is merged or when rows are cleared. Only the cells marked in the dirty region get a
+     * new fill; a lock usually marks just four of them.
      *
      * @param board The updated game board matrix.
+     * @param dirty The cells that changed since the previous refresh.
      */
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
+    @Override
+    public void refreshGameBackground(int[][] board, DirtyRegion dirty) {
+        for (int i = Math.max(2, dirty.getTop()); i <= dirty.getBottom(); i++) {
+            for (int w = 0; w < dirty.getWordCount(); w++) {
+                long mask = dirty.getMask(i, w);
+                while (mask != 0) {
+                    int j = (w << 6) + Long.numberOfTrailingZeros(mask);
+                    mask &= mask - 1;
+                    displayMatrix[i][j].setFill(getFillColor(board[i][j]));
+                }
             }
         }
+        dirty.clear();
     }
 
     /**
@@ -173,44 +208,43 @@ public class GameRenderer {
     }
 
     /**
-     * Updates the content of the "Next Brick" preview panel.
-     *
-     * @param nextBrickData The matrix representation of the next falling brick.
+     * Builds the pooled preview slots: one per brick of the next queue, stacked in the
+     * {@code nextBrick} panel, and one in the {@code holdBrick} panel.
      */
-    public void generateNextBrickInPreviewPanel(int[][] nextBrickData) {
+    private void initializePreviews() {
         nextBrick.getChildren().clear();
-        for (int i = 0; i < nextBrickData.length; i++) {
-            for (int j = 0; j < nextBrickData[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                setRectangleData(nextBrickData[i][j], rectangle);
-                if (nextBrickData[i][j] != 0) {
-                    nextBrick.add(rectangle, j, i);
-                }
-            }
+        nextBrick.setVgap(BRICK_SIZE / 2.0);
+        nextPreviews = new BrickPreview[previewCount];
+        for (int k = 0; k < previewCount; k++) {
+            nextPreviews[k] = new BrickPreview(createPreviewSlot(nextBrick, k), BRICK_SIZE);
         }
+        holdBrick.getChildren().clear();
+        holdPreview = new BrickPreview(createPreviewSlot(holdBrick, 0), BRICK_SIZE);
     }
 
     /**
-     * Updates the content of the "Hold Brick" panel. If no brick is held, the panel is cleared.
-     *
-     * @param heldBrickData The matrix representation of the held brick, or null.
+     * Adds an empty grid for one previewed brick to a preview panel.
      */
-    public void generateHoldBrickInPanel(int[][] heldBrickData) {
-        holdBrick.getChildren().clear();
-        if (heldBrickData == null) {
-            // No brick is currently held, clear the panel.
-            return;
-        }
+    private static GridPane createPreviewSlot(GridPane panel, int row) {
+        GridPane slot = new GridPane();
+        slot.setHgap(1);
+        slot.setVgap(1);
+        panel.add(slot, 0, row);
+        return slot;
+    }
 
-        for (int i = 0; i < heldBrickData.length; i++) {
-            for (int j = 0; j < heldBrickData[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                setRectangleData(heldBrickData[i][j], rectangle);
-                if (heldBrickData[i][j] != 0) {
-                    holdBrick.add(rectangle, j, i);
-                }
-            }
+    /**
+     * Updates the "Next Brick" queue and the "Hold Brick" panel. Each slot only re-colours its
+     * pooled cells when the brick it shows changed.
+     *
+     * @param brick The latest view data.
+     */
+    @Override
+    public void refreshPreviews(ViewData brick) {
+        for (int k = 0; k < nextPreviews.length; k++) {
+            nextPreviews[k].show(brick.getNextBrickId(k));
         }
+        holdPreview.show(brick.getHeldBrickId());
     }
 
     /**
@@ -244,7 +278,7 @@ public class GameRenderer {
      * @param i The color index (0 for transparent, 1-8 for specific colors).
      * @return The corresponding JavaFX {@code Paint} color.
      */
-    private Paint getFillColor(int i) {
+    static Paint getFillColor(int i) {
         return switch (i) {
             case 0 -> Color.TRANSPARENT;
             case 1 -> Color.AQUA;
@@ -0,0 +1,254 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.gameBoard.GameStats;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.view.data.ViewData;
+
+/**
+ * Everything the screen needs to draw one frame, copied out of the game by the simulation
+ * thread.
+ *
+ * <p>Snapshots are only written by the simulation thread while it owns them, and are handed to
+ * the JavaFX thread through a {@code SnapshotExchange}. Once published, a snapshot is not
+ * changed again until the renderer has handed it back, so the renderer can read it without any
+ * locking. One-off events (line clears, level ups) are published as running counts, so the
+ * renderer notices them even if it skipped the snapshots in between.</p>
+ *
+ * <p>Each row of the board carries the version it last changed in. A snapshot brought up to
+ * date only copies the rows changed since its own version, and the renderer only compares the
+ * rows changed since the version it drew, however many snapshots it skipped.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Memento**: A frozen copy of the game state that the view can read while the game keeps running.</li>
+ * </ul>
+ */
+public final class GameSnapshot {
+
+    private final int[][] board;
+    private final long[] rowVersions;
+    private long sequence;
+    private long boardVersion = -1;
+    private int gameNumber;
+    private final ViewData brick = new ViewData(TetrisBoard.PREVIEW_COUNT);
+    private int score;
+    private int level;
+    private int lines;
+    private long elapsedNanos;
+    private boolean timeRunning;
+    private long capturedAt;
+    private long clearCount;
+    private int lastLinesRemoved;
+    private int lastScoreBonus;
+    private long levelUpCount;
+    private int lastLevelUp;
+    private boolean gameOver;
+
+    /**
+     * Constructs an empty snapshot for a board size.
+     *
+     * @param width The number of board columns.
+     * @param height The number of board rows.
+     */
+    public GameSnapshot(int width, int height) {
+        this.board = new int[height][width];
+        this.rowVersions = new long[height];
+    }
+
+    /**
+     * Copies the rows of the board that changed since the version this snapshot holds.
+     *
+     * @param source The live board matrix.
+     * @param sourceRowVersions The version each row of the live board last changed in.
+     * @param version The version of the board, increased every time any cell changes.
+     */
+    void captureBoard(int[][] source, long[] sourceRowVersions, long version) {
+        if (version == boardVersion) {
+            return;
+        }
+        for (int i = 0; i < board.length; i++) {
+            if (sourceRowVersions[i] > boardVersion) {
+                System.arraycopy(source[i], 0, board[i], 0, board[i].length);
+                rowVersions[i] = sourceRowVersions[i];
+            }
+        }
+        boardVersion = version;
+    }
+
+    /**
+     * Copies the brick, the statistics and the clock of the game. The board reuses its view
+     * data, so the brick is copied into this snapshot's own instance.
+     *
+     * @param stats The read-only game state.
+     * @param brick The latest view data of the falling brick.
+     * @param gameNumber The number of games started on this screen so far.
+     * @param gameOver true if the game has ended.
+     */
+    void captureState(GameStats stats, ViewData brick, int gameNumber, boolean gameOver) {
+        this.brick.copyFrom(brick);
+        this.gameNumber = gameNumber;
+        this.gameOver = gameOver;
+        this.score = stats.getScore().getScore();
+        this.level = stats.getLevelUp().getLevel();
+        this.lines = stats.getCountRows().getCountRows();
+        this.elapsedNanos = stats.getGameTime().getElapsedNanos();
+        this.timeRunning = stats.getGameTime().isRunning();
+        this.capturedAt = System.nanoTime();
+    }
+
+    /**
+     * Copies the running event counts.
+     *
+     * @param clearCount How many landings have cleared lines so far.
+     * @param linesRemoved The lines removed by the latest of them.
+     * @param scoreBonus The score bonus of the latest of them.
+     * @param levelUpCount How many level ups happened so far.
+     * @param levelUp The level reached by the latest of them.
+     */
+    void captureEvents(long clearCount, int linesRemoved, int scoreBonus, long levelUpCount, int levelUp) {
+        this.clearCount = clearCount;
+        this.lastLinesRemoved = linesRemoved;
+        this.lastScoreBonus = scoreBonus;
+        this.levelUpCount = levelUpCount;
+        this.lastLevelUp = levelUp;
+    }
+
+    /**
+     * Sets the publication order, done by the {@code SnapshotExchange}.
+     * @param sequence The sequence number of this publication.
+     */
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Gets the publication order; a newer snapshot has a larger number.
+     * @return The sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the copied board. Must be treated as read-only.
+     * @return The board matrix.
+     */
+    public int[][] getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the version a row of the copied board last changed in.
+     * @param row The row index.
+     * @return The row version.
+     */
+    public long getRowVersion(int row) {
+        return rowVersions[row];
+    }
+
+    /**
+     * Gets the version of the copied board, to tell whether it changed since the last frame.
+     * @return The board version.
+     */
+    public long getBoardVersion() {
+        return boardVersion;
+    }
+
+    /**
+     * Gets the number of the game this snapshot belongs to.
+     * @return The game number, starting at 0.
+     */
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    /**
+     * Gets the view data of the falling brick.
+     * @return The view data.
+     */
+    public ViewData getBrick() {
+        return brick;
+    }
+
+    /**
+     * Gets the score.
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the level.
+     * @return The level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of lines cleared.
+     * @return The line count.
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the game time, extrapolated from the moment of capture if the timer was running.
+     *
+     * @param now The current {@code System.nanoTime()}.
+     * @return The elapsed game time in nanoseconds.
+     */
+    public long getElapsedNanos(long now) {
+        return timeRunning ? elapsedNanos + (now - capturedAt) : elapsedNanos;
+    }
+
+    /**
+     * Gets how many landings have cleared lines so far.
+     * @return The running count.
+     */
+    public long getClearCount() {
+        return clearCount;
+    }
+
+    /**
+     * Gets the lines removed by the latest clearing landing.
+     * @return The line count.
+     */
+    public int getLastLinesRemoved() {
+        return lastLinesRemoved;
+    }
+
+    /**
+     * Gets the score bonus of the latest clearing landing.
+     * @return The bonus.
+     */
+    public int getLastScoreBonus() {
+        return lastScoreBonus;
+    }
+
+    /**
+     * Gets how many level ups happened so far.
+     * @return The running count.
+     */
+    public long getLevelUpCount() {
+        return levelUpCount;
+    }
+
+    /**
+     * Gets the level reached by the latest level up.
+     * @return The level.
+     */
+    public int getLastLevelUp() {
+        return lastLevelUp;
+    }
+
+    /**
+     * Checks if the game had ended when this snapshot was taken.
+     * @return true if the game is over.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.logic.GameTime;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+/**
+ * Exposes the primitive game statistics (score, level, lines and time) as JavaFX properties
+ * for the {@code GuiController} to bind to.
+ *
+ * <p>The model keeps plain counters so it can run headless, and runs on the simulation thread;
+ * this class copies the values of the latest {@code GameSnapshot} into properties whenever
+ * {@link #refresh(GameSnapshot, long)} is called on the FX thread. Properties are only set
+ * when a value actually changed, and the time string is only formatted once per second.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Adapter Pattern**: Adapts the snapshot's plain values to the observable properties expected by the JavaFX view.</li>
+ * </ul>
+ */
+public final class GameStatsAdapter {
+
+    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private final IntegerProperty level = new SimpleIntegerProperty(1);
+    private final IntegerProperty countRows = new SimpleIntegerProperty(0);
+    private final StringProperty timeString = new SimpleStringProperty(GameTime.formatTime(0));
+    private long lastSeconds;
+
+    /**
+     * Copies the values of a snapshot into the properties. Must be called on the FX thread.
+     *
+     * @param snapshot The latest game snapshot.
+     * @param now The current {@code System.nanoTime()}, used to advance the game time between snapshots.
+     */
+    public void refresh(GameSnapshot snapshot, long now) {
+        if (snapshot.getSequence() == 0) {
+            // nothing has been published yet
+            return;
+        }
+        score.set(snapshot.getScore());
+        level.set(snapshot.getLevel());
+        countRows.set(snapshot.getLines());
+
+        long seconds = snapshot.getElapsedNanos(now) / 1_000_000_000L;
+        if (seconds != lastSeconds) {
+            lastSeconds = seconds;
+            timeString.set(GameTime.formatTime(seconds));
+        }
+    }
+
+    /**
+     * Returns the observable property for the current score.
+     * @return The score property.
+     */
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return score;
+    }
+
+    /**
+     * Returns the observable property for the current level.
+     * @return The level property.
+     */
+    public ReadOnlyIntegerProperty levelProperty() {
+        return level;
+    }
+
+    /**
+     * Returns the observable property for the total lines cleared.
+     * @return The line count property.
+     */
+    public ReadOnlyIntegerProperty countRowsProperty() {
+        return countRows;
+    }
+
+    /**
+     * Returns the observable property for the elapsed time, formatted as MM:SS.
+     * @return The time string property.
+     */
+    public ReadOnlyStringProperty timeStringProperty() {
+        return timeString;
+    }
+}
@@ -0,0 +1,80 @@
+package com.comp2042.controller;
+
+import com.comp2042.events.InputEventListener;
+import com.comp2042.model.gameBoard.GameStats;
+import com.comp2042.model.logic.GameMode;
+import com.comp2042.model.logic.GameTime;
+import com.comp2042.view.data.ViewData;
+
+/**
+ * Defines what the {@code GameController} needs from the screen it drives.
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Dependency Inversion Principle (DIP)**: The controller depends on this abstraction rather than on
+ * {@code GuiController}, so the same game logic can run against the JavaFX screen or a {@code HeadlessGameView}
+ * (replay validation, batch simulation).</li>
+ * </ul>
+ */
+public interface GameView {
+
+    /**
+     * Passes the selected game mode to the view.
+     * @param gameMode The game mode.
+     */
+    void setGameMode(GameMode gameMode);
+
+    /**
+     * Sets the listener that receives the view's input events.
+     * @param eventListener The game logic controller.
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Passes the game's timer to the view.
+     * @param gameTime The game time instance.
+     */
+    void setGameTimer(GameTime gameTime);
+
+    /**
+     * Connects the view to the game's score, level, lines and time.
+     * @param stats The read-only game state.
+     */
+    void bindStats(GameStats stats);
+
+    /**
+     * Draws the initial state and starts the game loop.
+     * @param boardMatrix The initial state of the game board.
+     * @param brick The initial view data of the falling brick.
+     */
+    void initializeGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Redraws the merged blocks of the board.
+     * @param board The updated game board matrix.
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Redraws the falling brick and the preview panels.
+     * @param brick The updated view data.
+     */
+    void updateView(ViewData brick);
+
+    /**
+     * Adjusts the game speed after a level change.
+     * @param newLevel The current game level.
+     */
+    void updateGameSpeed(int newLevel);
+
+    /**
+     * Tells the player a new level was reached.
+     * @param level The new level.
+     */
+    void showLevelUpNotification(int level);
+
+    /**
+     * Ends the game.
+     */
+    void gameOver();
+}
@@ -2,19 +2,23 @@ package com.comp2042.controller;
 
 import com.comp2042.controller.keyInput.KeyInputHandler;
 import com.comp2042.events.*;
+import com.comp2042.model.gameBoard.DirtyRegion;
+import com.comp2042.model.gameBoard.GameStats;
 import com.comp2042.model.logic.GameMode;
 import com.comp2042.model.logic.GameTime;
+import com.comp2042.model.logic.ClearFullRow;
 import com.comp2042.model.logic.MovingDownData;
+import com.comp2042.model.replay.ReplayCursor;
+import com.comp2042.model.replay.ReplayTarget;
 import com.comp2042.view.data.ViewData;
 import com.comp2042.view.scenes.GameOverPanel;
 import com.comp2042.view.scenes.GamePausePanel;
 import com.comp2042.view.soundBoard.Sound;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.StringProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
 import javafx.scene.text.Font;
@@ -33,14 +37,21 @@ import java.util.ResourceBundle;
  * {@code GameRenderer}). It initializes and manages several helper classes to adhere to
  * the **Single Responsibility Principle (SRP)**.</p>
  *
+ * <p>The game itself runs on the simulation thread of the {@code GameFlowManager}. Brick control
+ * keys reach it through the {@code InputRingBuffer}, and the {@code GameView} callbacks of the {@code GameController}
+ * arrive on it. Those callbacks only record what changed; after each step the simulation thread
+ * copies the game into a {@code GameSnapshot} and publishes it through a
+ * {@code SnapshotExchange}. On every pulse the JavaFX thread draws the latest snapshot and plays
+ * its sounds and notifications. Each method is marked with the thread it runs on.</p>
+ *
  * <p>Design Patterns Implemented:</p>
  * <ul>
  * <li>**Model-View-Controller (MVC)**: Acts as the **View** by presenting the game state, and as a **Controller** by handling user input and delegating state changes.</li>
  * <li>**Composition/Dependency Injection**: It delegates responsibilities to dedicated classes (e.g., {@code GameRenderer}, {@code GameFlowManager}, {@code KeyInputHandler}, etc.) rather than containing all logic itself.</li>
- * <li>**Observer Pattern (via Data Binding)**: It observes observable properties from the model (Score, Level, Lines, Time) and automatically updates the corresponding UI elements when they change.</li>
+ * <li>**Observer Pattern (via Data Binding)**: It binds the UI elements to the properties of a {@code GameStatsAdapter}, which mirrors the statistics (Score, Level, Lines, Time) of the latest snapshot.</li>
  * </ul>
  */
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
 
     @FXML private GridPane gamePanel;
     @FXML private GridPane brickPanel;
@@ -57,11 +68,40 @@ public class GuiController implements Initializable {
     @FXML private Pane rootPane;
 
     private InputEventListener eventListener;
-    private GameRenderer gameRenderer;
+    private BoardRenderer gameRenderer;
     private GameFlowManager gameFlow;
     private Notifications notification;
     private KeyInputHandler keyHandler;
     private GamePausePanel gamePausePanel;
+    private GameStatsAdapter statsAdapter;
+    private SnapshotExchange snapshots;
+    private GameTime timer;
+    // set while a recorded game is being shown instead of played
+    private boolean replaying;
+
+    // JavaFX thread: what has been drawn so far
+    private int[][] drawnBoard;
+    private DirtyRegion drawnCells;
+    private long drawnSequence;
+    private long drawnBoardVersion;
+    private long seenClearCount;
+    private long seenLevelUpCount;
+    private int currentGame;
+    private boolean gameOverShown;
+
+    // simulation thread: what changed since the last snapshot
+    private GameStats stats;
+    private ViewData latestBrick;
+    private boolean changed;
+    private boolean publishedTimeRunning;
+    private long boardVersion;
+    private long[] rowVersions;
+    private long clearCount;
+    private int lastLinesRemoved;
+    private int lastScoreBonus;
+    private long levelUpCount;
+    private int lastLevelUp;
+    private ReplayCursor replayCursor;
 
     private final Sound bgm = new Sound();
     private final Sound sfx = new Sound();
@@ -77,7 +117,7 @@ public class GuiController implements Initializable {
     public void initialize(URL location, ResourceBundle resources) {
         Font.loadFont(Objects.requireNonNull(getClass().getClassLoader().getResource("digital.ttf")).toExternalForm(), 38);
 
-        gameRenderer = new GameRenderer(brickPanel, gamePanel, nextBrick, shadowPanel, holdBrick);
+        gameRenderer = BoardRenderer.create(brickPanel, gamePanel, nextBrick, shadowPanel, holdBrick);
         gameFlow = new GameFlowManager(gamePanel, null);
         notification = new Notifications(groupNotification, levelUpNotification);
         gamePausePanel = new GamePausePanel(rootPane);
@@ -102,107 +142,280 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * The unified handler for all key press events.
-     * Delegates input handling to {@code KeyInputHandler} based on the current game state
-     * (paused or game over).
+     * The unified handler for all key press events. JavaFX thread.
+     * Brick control keys are written to the input buffer through {@code KeyInputHandler} and
+     * applied on the next tick; global keys (new game, pause) are handled straight away.
      *
      * @param keyEvent The JavaFX {@code KeyEvent} generated by the user.
      */
     private void handleAllKeys(KeyEvent keyEvent) {
+        if (replaying) {
+            // a replay only follows its recording, the player can just pause it
+            if (keyEvent.getCode() == KeyCode.ESCAPE) {
+                keyHandler.handleGlobalKeys(keyEvent);
+            }
+            return;
+        }
         if (gameFlow.isPause().getValue() == Boolean.FALSE && gameFlow.isGameOver().getValue() == Boolean.FALSE) {
             switch (keyEvent.getCode()) {
                 case UP, W -> sfx.soundEffects(1);
             }
-            keyHandler.handleBrickControlKeys(keyEvent, this::moveDown, this::refreshBrick, this::hardDrop);
+            keyHandler.handleBrickControlKeys(keyEvent);
         }
         keyHandler.handleGlobalKeys(keyEvent);
     }
 
     /**
-     * Initializes the game view and starts the game timers. Called once by {@code GameController} after setup.
+     * Initializes the game view and starts the game loop. Called once by {@code GameController}
+     * after setup, on the JavaFX thread and before the simulation thread exists.
      *
      * @param boardMatrix The initial state of the game board.
      * @param brick The initial view data of the falling brick.
      */
+    @Override
     public void initializeGameView(int[][] boardMatrix, ViewData brick) {
         gameRenderer.initializeRenderingState(boardMatrix, brick);
-
-        gameFlow.createTimeline(() -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD)));
-        gameFlow.createRisingRowTimeline(this::handleRisingRowAddition);
+        drawnBoard = new int[boardMatrix.length][];
+        for (int i = 0; i < boardMatrix.length; i++) {
+            drawnBoard[i] = boardMatrix[i].clone();
+        }
+        drawnCells = new DirtyRegion(boardMatrix[0].length, boardMatrix.length);
+        latestBrick = brick;
+        changed = true;
+
+        MoveEvent gravity = MoveEvent.of(EventType.DOWN, EventSource.THREAD);
+        gameFlow.setGravityAction(() -> moveDown(gravity));
+        gameFlow.setInputHandler((type, source, timeNanos) -> applyMove(MoveEvent.of(type, source)));
+        gameFlow.setRisingRowAction(this::handleRisingRowAddition);
+        gameFlow.setPublishAction(this::publishSnapshot);
+        gameFlow.setFrameAction(this::renderFrame);
+        gameFlow.setShutdownAction(this::closeGame);
         gameFlow.start();
     }
 
+    /**
+     * Switches this screen from playing to showing a recorded game. The game loop no longer
+     * moves the brick by itself; instead, every simulation step plays the recorded moves up to
+     * the current game time, so the replay runs in real time and pauses with the game clock.
+     * JavaFX thread; the switch itself is queued and happens long before the first gravity tick.
+     *
+     * @param cursor The cursor over the replay, which must match the game set up by {@code GameController}.
+     */
+    public void playReplay(ReplayCursor cursor) {
+        replaying = true;
+        ReplayTarget target = new ReplayTarget() {
+            @Override
+            public void onMove(MoveEvent event) {
+                applyMove(event);
+            }
+
+            @Override
+            public void onRisingRow() {
+                handleRisingRowAddition();
+            }
+        };
+        gameFlow.execute(() -> {
+            replayCursor = cursor;
+            gameFlow.setGravityAction(null);
+            gameFlow.setRisingRowAction(null);
+            gameFlow.setInputHandler(null);
+            gameFlow.setTickAction(() -> replayCursor.advanceTo(timer.getElapsedNanos(), target));
+        });
+    }
+
+    /**
+     * Applies a move from the player or from a replay to the game. Simulation thread.
+     *
+     * @param event The move to apply.
+     */
+    private void applyMove(MoveEvent event) {
+        switch (event.getEventType()) {
+            case DOWN -> moveDown(event);
+            case SLAM -> hardDrop(event);
+            case LEFT -> refreshBrick(eventListener.onLeftEvent(event));
+            case RIGHT -> refreshBrick(eventListener.onRightEvent(event));
+            case ROTATE -> refreshBrick(eventListener.onRotateEvent(event));
+            case HOLD -> refreshBrick(eventListener.onHoldEvent(event));
+        }
+    }
+
     /**
      * Handles the periodic call from the {@code GameFlowManager} to check and execute
-     * the rising row addition logic.
+     * the rising row addition logic. Simulation thread.
      * It only executes if the game is currently running and not paused/over.
      */
     private void handleRisingRowAddition() {
-        if (gameFlow.isPause().getValue() == Boolean.FALSE && gameFlow.isGameOver().getValue() == Boolean.FALSE) {
+        if (gameFlow.isSimulating()) {
             ((GameController) eventListener).onRisingRowEvent();
         }
     }
 
     /**
-     * The internal method used to refresh the view of the falling brick, ghost piece,
-     * next brick panel, and held brick panel. It is guarded against execution while paused.
+     * Records the latest falling brick, ghost piece, next brick and held brick for the next
+     * snapshot. Simulation thread.
      *
      * @param brick The updated {@code ViewData} containing all position and shape information.
      */
     private void refreshBrick(ViewData brick) {
-        if (gameFlow.isPause().getValue() == Boolean.FALSE) {
-            gameRenderer.refreshBrick(brick);
-            gameRenderer.generateNextBrickInPreviewPanel(brick.getNextBrickData());
-            gameRenderer.generateHoldBrickInPanel(brick.getHeldBrickData());
+        latestBrick = brick;
+        changed = true;
+    }
+
+    /**
+     * Publishes a snapshot of the game if anything changed since the previous one. Run by the
+     * {@code GameFlowManager} after every simulation step. Simulation thread.
+     */
+    private void publishSnapshot() {
+        DirtyRegion dirty = stats.getDirtyRegion();
+        if (!dirty.isEmpty()) {
+            boardVersion++;
+            for (int row = dirty.getTop(); row <= dirty.getBottom(); row++) {
+                rowVersions[row] = boardVersion;
+            }
+            dirty.clear();
+            changed = true;
+        }
+        boolean timeRunning = stats.getGameTime().isRunning();
+        if (!changed && timeRunning == publishedTimeRunning) {
+            return;
+        }
+        changed = false;
+        publishedTimeRunning = timeRunning;
+
+        GameSnapshot snapshot = snapshots.getBack();
+        snapshot.captureBoard(stats.getBoardMatrix(), rowVersions, boardVersion);
+        snapshot.captureState(stats, latestBrick, gameFlow.getGameNumber(), gameFlow.isEnded());
+        snapshot.captureEvents(clearCount, lastLinesRemoved, lastScoreBonus, levelUpCount, lastLevelUp);
+        snapshots.publish();
+    }
+
+    /**
+     * Draws the latest snapshot, if it is newer than the one already drawn, and plays the
+     * sounds and notifications of the events it reports. Called once per frame by the
+     * {@code GameFlowManager}, so several steps between two frames are rendered only once.
+     * JavaFX thread.
+     */
+    private void renderFrame() {
+        GameSnapshot snapshot = snapshots.getLatest();
+        if (snapshot.getSequence() != drawnSequence) {
+            drawnSequence = snapshot.getSequence();
+            if (snapshot.getBoardVersion() != drawnBoardVersion) {
+                markChangedCells(snapshot);
+                drawnBoardVersion = snapshot.getBoardVersion();
+                gameRenderer.refreshGameBackground(drawnBoard, drawnCells);
+            }
+            gameRenderer.refreshBrick(snapshot.getBrick());
+            gameRenderer.refreshPreviews(snapshot.getBrick());
+            // events of an older game may still arrive right after a new game was started
+            if (snapshot.getGameNumber() == currentGame) {
+                showEvents(snapshot);
+            }
+        }
+        gameRenderer.endFrame();
+        statsAdapter.refresh(snapshot, System.nanoTime());
+    }
+
+    /**
+     * Copies the cells that differ from what was drawn and marks them for the renderer. Only
+     * the rows changed since the drawn version are compared.
+     *
+     * @param snapshot The latest snapshot.
+     */
+    private void markChangedCells(GameSnapshot snapshot) {
+        int[][] board = snapshot.getBoard();
+        for (int i = 0; i < board.length; i++) {
+            if (snapshot.getRowVersion(i) <= drawnBoardVersion) {
+                continue;
+            }
+            for (int j = 0; j < board[i].length; j++) {
+                if (board[i][j] != drawnBoard[i][j]) {
+                    drawnBoard[i][j] = board[i][j];
+                    drawnCells.markCell(i, j);
+                }
+            }
         }
     }
 
     /**
-     * Updates the display of the current falling brick and preview panels.
+     * Plays the line-clear and level-up feedback that happened since the previous snapshot,
+     * and shows the game over screen once the game has ended. JavaFX thread.
+     *
+     * @param snapshot The latest snapshot.
+     */
+    private void showEvents(GameSnapshot snapshot) {
+        if (snapshot.getClearCount() != seenClearCount) {
+            seenClearCount = snapshot.getClearCount();
+            sfx.soundEffects(2);
+            notification.showScore(snapshot.getLastScoreBonus());
+        }
+        if (snapshot.getLevelUpCount() != seenLevelUpCount) {
+            seenLevelUpCount = snapshot.getLevelUpCount();
+            notification.showLevelUp(snapshot.getLastLevelUp());
+        }
+        if (snapshot.isGameOver() && !gameOverShown) {
+            gameOverShown = true;
+            showGameOver();
+        }
+    }
+
+    /**
+     * Updates the display of the current falling brick and preview panels. Simulation thread.
      * @param brick The updated view data.
      */
+    @Override
     public void updateView(ViewData brick) {
         refreshBrick(brick);
     }
 
     /**
-     * Updates the display of the merged blocks on the main game board background.
+     * Notes that the merged blocks changed. The changed cells themselves are tracked by the
+     * board's {@code DirtyRegion} and picked up by the next snapshot. Simulation thread.
      * @param board The updated game board matrix.
      */
+    @Override
     public void refreshGameBackground(int[][] board) {
-        gameRenderer.refreshGameBackground(board);
+        changed = true;
     }
 
     /**
      * Executes the main move-down logic. This method is called by the automatic game thread
-     * or by user soft-drop input.
+     * or by user soft-drop input. Simulation thread.
      *
-     * <p>Delegates the movement to {@code GameController}, handles line-clear feedback (sound, notification),
-     * and updates the view.</p>
+     * <p>Delegates the movement to {@code GameController}, records any line clear for the
+     * sound and notification, and updates the view.</p>
      *
      * @param event The move event details.
      */
     private void moveDown(MoveEvent event) {
-        if (gameFlow.isPause().getValue() == Boolean.FALSE) {
+        if (gameFlow.isSimulating()) {
             MovingDownData movingDownData = eventListener.onDownEvent(event);
-            if (movingDownData.getClearRow() != null && movingDownData.getClearRow().getLinesRemoved() > 0) {
-                for (int i = 0; i < movingDownData.getClearRow().getLinesRemoved(); i++) {
-                    sfx.soundEffects(2);
-                }
-                notification.showScore(movingDownData.getClearRow().getScoreBonus());
-            }
+            recordClear(movingDownData.getClearRow());
             refreshBrick(movingDownData.getViewData());
         }
-        gamePanel.requestFocus();
+    }
+
+    /**
+     * Counts a landing that cleared lines, so the renderer can give feedback for it.
+     * Simulation thread.
+     *
+     * @param clearRow The result of the landing, or null if the brick did not land.
+     */
+    private void recordClear(ClearFullRow clearRow) {
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            clearCount++;
+            lastLinesRemoved = clearRow.getLinesRemoved();
+            lastScoreBonus = clearRow.getScoreBonus();
+        }
     }
 
     /**
      * Sets the {@code InputEventListener} (the {@code GameController}) and initializes the {@code KeyInputHandler}.
      * @param eventListener The game logic controller.
      */
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
-        this.keyHandler = new KeyInputHandler(eventListener, this::newGame, this::pauseGame);
+        this.keyHandler = new KeyInputHandler(gameFlow.getInputBuffer(), this::newGame, this::pauseGame);
         gameFlow.setEventListener(eventListener);
     }
 
@@ -210,14 +423,18 @@ public class GuiController implements Initializable {
      * Passes the {@code GameTime} instance to the {@code GameFlowManager}.
      * @param gameTime The game time instance.
      */
+    @Override
     public void setGameTimer(GameTime gameTime) {
+        this.timer = gameTime;
         gameFlow.setGameTimer(gameTime);
     }
 
     /**
      * Notifies the {@code GameFlowManager} of a level change to adjust the brick falling speed.
+     * Simulation thread.
      * @param newLevel The current game level.
      */
+    @Override
     public void updateGameSpeed(int newLevel) {
         gameFlow.updateSpeed(newLevel);
     }
@@ -226,6 +443,7 @@ public class GuiController implements Initializable {
      * Passes the selected game mode to the {@code GameFlowManager} for speed/rising row logic.
      * @param gameMode The game mode.
      */
+    @Override
     public void setGameMode(GameMode gameMode) {
         if (gameFlow != null) {
             gameFlow.setGameMode(gameMode);
@@ -233,55 +451,60 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Binds the model's score property to the UI text element for live updates.
-     * @param integerProperty The score property from the model.
+     * Keeps the model's statistics for the snapshots, and binds the score, time, line count
+     * (three-digit zero-padded) and level UI text elements to a {@code GameStatsAdapter}.
+     * @param stats The read-only game state from the model.
      */
-    public void bindScore(IntegerProperty integerProperty) {
-        scoreValue.textProperty().bind(integerProperty.asString());
+    @Override
+    public void bindStats(GameStats stats) {
+        this.stats = stats;
+        int[][] board = stats.getBoardMatrix();
+        snapshots = new SnapshotExchange(() -> new GameSnapshot(board[0].length, board.length));
+        rowVersions = new long[board.length];
+        statsAdapter = new GameStatsAdapter();
+        scoreValue.textProperty().bind(statsAdapter.scoreProperty().asString());
+        gameTime.textProperty().bind(statsAdapter.timeStringProperty());
+        countRowsValue.textProperty().bind(statsAdapter.countRowsProperty().asString("%03d"));
+        levelValue.textProperty().bind(statsAdapter.levelProperty().asString());
     }
 
     /**
-     * Binds the model's time string property to the UI text element.
-     * @param stringProperty The time string property from the model.
+     * Ends the game: stops the simulation and saves the final stats via {@code GameController}.
+     * The game over screen follows once the renderer sees the final snapshot. Simulation thread.
      */
-    public void bindTimer(StringProperty stringProperty) {
-        gameTime.textProperty().bind(stringProperty);
-    }
+    @Override
+    public void gameOver() {
+        gameFlow.endGame();
+        changed = true;
 
-    /**
-     * Binds the model's line count property to the UI text element, formatting it as a three-digit zero-padded number.
-     * @param integerProperty The line count property from the model.
-     */
-    public void bindLines(IntegerProperty integerProperty) {
-        countRowsValue.textProperty().bind(integerProperty.asString("%03d"));
+        if (eventListener instanceof GameController gameController) {
+            gameController.getFinalGameStats();
+        }
     }
 
     /**
-     * Binds the model's level property to the UI text element.
-     * @param integerProperty The level property from the model.
+     * Closes the game once the screen is gone, so the replay of the game in progress is
+     * flushed and its writer stops. Simulation thread, as it ends.
      */
-    public void bindLevel(IntegerProperty integerProperty) {
-        levelValue.textProperty().bind(integerProperty.asString());
+    private void closeGame() {
+        if (eventListener instanceof GameController gameController) {
+            gameController.close();
+        }
     }
 
     /**
-     * Handles the game over sequence: stops game flow, saves final stats via {@code GameController},
-     * displays the game over panel, and plays the game over sound effect.
+     * Shows the game over state: sets the game over flag, displays the game over panel, and
+     * plays the game over sound effect. JavaFX thread.
      */
-    public void gameOver() {
+    private void showGameOver() {
         gameFlow.gameOver();
-
-        if (eventListener instanceof GameController gameController) {
-            gameController.getFinalGameStats();
-        }
-
         gameOverPanel.showPanel(gameFlow);
         bgm.stop();
         sfx.soundEffects(3);
     }
 
     /**
-     * Handles the initiation of a new game, typically triggered by the 'N' key.
+     * Handles the initiation of a new game, typically triggered by the 'N' key. JavaFX thread.
      *
      * <p>Delegates the new game command to {@code GameFlowManager}, hides game state panels,
      * and restarts the background music.</p>
@@ -289,6 +512,8 @@ public class GuiController implements Initializable {
      * @param actionEvent The event that triggered the action (ignored).
      */
     private void newGame(ActionEvent actionEvent) {
+        currentGame++;
+        gameOverShown = false;
         gameFlow.newGame();
         gamePausePanel.showPanel(gameFlow);
         gameOverPanel.showPanel(gameFlow);
@@ -297,7 +522,7 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Toggles the game's pause state, typically triggered by the 'ESCAPE' key.
+     * Toggles the game's pause state, typically triggered by the 'ESCAPE' key. JavaFX thread.
      *
      * <p>Prevents pausing if the game is over. Stops or resumes background music and toggles the
      * visibility of the pause panel.</p>
@@ -323,30 +548,28 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Handles the hard drop (Slam) action triggered by the SPACE key.
+     * Handles the hard drop (Slam) action triggered by the SPACE key. Simulation thread.
      * Delegates the continuous drop and landing logic to the {@code GameController}.
      *
      * @param event The move event details.
      */
     public void hardDrop(MoveEvent event) {
-        if (gameFlow.isPause().getValue() == Boolean.FALSE) {
-
+        if (gameFlow.isSimulating()) {
             MovingDownData movingDownData = eventListener.onSlamEvent(event);
-
-            if (movingDownData.getClearRow() != null && movingDownData.getClearRow().getLinesRemoved() > 0) {
-                sfx.soundEffects(2);
-                notification.showScore(movingDownData.getClearRow().getScoreBonus());
-            }
+            recordClear(movingDownData.getClearRow());
             refreshBrick(movingDownData.getViewData());
         }
-        gamePanel.requestFocus();
     }
 
     /**
-     * Triggers the animated pop-up notification when the player advances a level.
+     * Records a level up for the pop-up notification, shown when the renderer picks up the
+     * next snapshot. Simulation thread.
      * @param level The new level achieved.
      */
+    @Override
     public void showLevelUpNotification(int level) {
-        notification.showLevelUp(level);
+        levelUpCount++;
+        lastLevelUp = level;
+        changed = true;
     }
 }
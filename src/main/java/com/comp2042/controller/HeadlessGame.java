@@ -0,0 +1,147 @@
+package com.comp2042.controller;
+
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.gameBoard.RowStorage;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.model.logic.GameMode;
+import com.comp2042.model.replay.Replay;
+import com.comp2042.model.replay.ReplayCursor;
+import com.comp2042.model.replay.ReplayRecorder;
+import com.comp2042.model.replay.ReplayTarget;
+
+/**
+ * A complete game (board, {@code GameController} and a {@code HeadlessGameView}) that runs without
+ * a display. Moves are applied straight to the controller, as fast as the caller sends them, which
+ * is what replay validation and simulations need.
+ *
+ * <p>The game timer reads a simulated clock that only moves through {@link #advanceClock(long)},
+ * so the times of a headless game are the same on every run, however loaded the machine is.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Facade Pattern**: Wires the game components together behind a small move-by-move interface.</li>
+ * </ul>
+ */
+public final class HeadlessGame implements ReplayTarget {
+
+    private final TetrisBoard board;
+    private final HeadlessGameView view = new HeadlessGameView();
+    private final GameController controller;
+    private long clockNanos;
+
+    /**
+     * Starts a headless game that is not recorded.
+     *
+     * @param seed The seed deciding the pieces and garbage.
+     * @param randomizer The piece randomizer.
+     * @param mode The game mode.
+     */
+    public HeadlessGame(long seed, BrickRandomizer randomizer, GameMode mode) {
+        this(seed, randomizer, mode, ReplayRecorder.NONE);
+    }
+
+    /**
+     * Starts a headless game on the standard board.
+     *
+     * @param seed The seed deciding the pieces and garbage.
+     * @param randomizer The piece randomizer.
+     * @param mode The game mode.
+     * @param recorder The recorder of the game's moves, or {@code ReplayRecorder.NONE}.
+     */
+    public HeadlessGame(long seed, BrickRandomizer randomizer, GameMode mode, ReplayRecorder recorder) {
+        this(seed, randomizer, mode, recorder, TetrisBoard.STANDARD_WIDTH, TetrisBoard.STANDARD_HEIGHT);
+    }
+
+    /**
+     * Starts a headless game on a board of any supported size, e.g. a giant board for stress runs.
+     *
+     * @param seed The seed deciding the pieces and garbage.
+     * @param randomizer The piece randomizer.
+     * @param mode The game mode.
+     * @param recorder The recorder of the game's moves, or {@code ReplayRecorder.NONE}.
+     * @param width The board width.
+     * @param height The board height, including its two hidden rows.
+     */
+    public HeadlessGame(long seed, BrickRandomizer randomizer, GameMode mode, ReplayRecorder recorder, int width, int height) {
+        board = new TetrisBoard(width, height, seed, randomizer, RowStorage.forHeight(height), () -> clockNanos);
+        controller = new GameController(view, mode, entry -> { }, board, recorder);
+    }
+
+    /**
+     * Plays a whole replay at full speed, ignoring its timestamps.
+     *
+     * @param replay The replay to play.
+     * @return The game in the state the replay left it.
+     */
+    public static HeadlessGame play(Replay replay) {
+        HeadlessGame game = new HeadlessGame(replay.getSeed(), replay.getRandomizer(), replay.getGameMode(),
+                ReplayRecorder.NONE, replay.getWidth(), replay.getHeight());
+        new ReplayCursor(replay).advanceTo(Long.MAX_VALUE, game);
+        return game;
+    }
+
+    /**
+     * Applies one move to the game, as if it came from the keyboard or the game loop.
+     * Moves after game over are ignored.
+     *
+     * @param event The move to apply.
+     */
+    @Override
+    public void onMove(MoveEvent event) {
+        if (view.isGameOver()) {
+            return;
+        }
+        switch (event.getEventType()) {
+            case DOWN -> controller.onDownEvent(event);
+            case LEFT -> controller.onLeftEvent(event);
+            case RIGHT -> controller.onRightEvent(event);
+            case ROTATE -> controller.onRotateEvent(event);
+            case SLAM -> controller.onSlamEvent(event);
+            case HOLD -> controller.onHoldEvent(event);
+        }
+    }
+
+    /**
+     * Applies a rising-row tick (only has an effect in modes with rising rows).
+     */
+    @Override
+    public void onRisingRow() {
+        if (!view.isGameOver()) {
+            controller.onRisingRowEvent();
+        }
+    }
+
+    /**
+     * Moves the game's simulated clock forward.
+     *
+     * @param nanos The simulated time that passed, in nanoseconds.
+     */
+    public void advanceClock(long nanos) {
+        clockNanos += nanos;
+    }
+
+    /**
+     * Gets the board of the game.
+     * @return The board.
+     */
+    public TetrisBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the controller running the game.
+     * @return The game controller.
+     */
+    public GameController getController() {
+        return controller;
+    }
+
+    /**
+     * Checks if the game has ended.
+     * @return true after game over.
+     */
+    public boolean isGameOver() {
+        return view.isGameOver();
+    }
+}
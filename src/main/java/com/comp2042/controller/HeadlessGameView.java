@@ -0,0 +1,86 @@
+package com.comp2042.controller;
+
+import com.comp2042.events.InputEventListener;
+import com.comp2042.model.gameBoard.GameStats;
+import com.comp2042.model.logic.GameMode;
+import com.comp2042.model.logic.GameTime;
+import com.comp2042.view.data.ViewData;
+
+/**
+ * A {@code GameView} that draws nothing, used to run games without a display (replay
+ * validation, simulations). It only remembers whether the game has ended.
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Null Object Pattern**: Every rendering call is a no-op, so {@code GameController} needs no special cases.</li>
+ * </ul>
+ */
+public final class HeadlessGameView implements GameView {
+
+    private boolean gameOver;
+
+    @Override
+    public void setGameMode(GameMode gameMode) {
+        // nothing to configure
+    }
+
+    @Override
+    public void setEventListener(InputEventListener eventListener) {
+        // input comes from the caller, not from a keyboard
+    }
+
+    @Override
+    public void setGameTimer(GameTime gameTime) {
+        // nothing to display
+    }
+
+    @Override
+    public void bindStats(GameStats stats) {
+        // nothing to display
+    }
+
+    @Override
+    public void initializeGameView(int[][] boardMatrix, ViewData brick) {
+        // the caller drives the game loop
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        // nothing to draw
+    }
+
+    @Override
+    public void updateView(ViewData brick) {
+        // nothing to draw
+    }
+
+    @Override
+    public void updateGameSpeed(int newLevel) {
+        // the caller decides when gravity ticks
+    }
+
+    @Override
+    public void showLevelUpNotification(int level) {
+        // nothing to show
+    }
+
+    @Override
+    public void gameOver() {
+        gameOver = true;
+    }
+
+    /**
+     * Checks if the game has ended.
+     * @return true once {@link #gameOver()} was called.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Clears the game-over flag, e.g. when the same view is reused for a new game.
+     */
+    public void reset() {
+        gameOver = false;
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.controller;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Hands game snapshots from the simulation thread to the JavaFX thread through a single
+ * {@code AtomicReference}, without locks and without allocating.
+ *
+ * <p>Three snapshots circulate: the writer fills its back buffer and swaps it into the shared
+ * slot, and the reader swaps its front buffer for the shared one when a newer snapshot is there.
+ * Each side only ever touches the buffer it holds, so the writer never overwrites what the
+ * renderer is drawing and the renderer always gets the latest complete snapshot.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Triple Buffering**: Writer and reader work at their own pace on separate buffers.</li>
+ * </ul>
+ */
+public final class SnapshotExchange {
+
+    private final AtomicReference<GameSnapshot> shared;
+    // only touched by the simulation thread
+    private GameSnapshot back;
+    private long sequence;
+    // only touched by the JavaFX thread
+    private GameSnapshot front;
+
+    /**
+     * Constructs the exchange with three empty snapshots.
+     *
+     * @param factory Creates each of the three snapshots.
+     */
+    public SnapshotExchange(Supplier<GameSnapshot> factory) {
+        this.back = factory.get();
+        this.front = factory.get();
+        this.shared = new AtomicReference<>(factory.get());
+    }
+
+    /**
+     * Gets the snapshot the writer fills next. Simulation thread only.
+     * @return The back buffer.
+     */
+    public GameSnapshot getBack() {
+        return back;
+    }
+
+    /**
+     * Publishes the back buffer and takes another buffer to write into. Simulation thread only.
+     */
+    public void publish() {
+        back.setSequence(++sequence);
+        back = shared.getAndSet(back);
+    }
+
+    /**
+     * Gets the newest published snapshot. JavaFX thread only. The result stays valid and
+     * unchanged until the next call.
+     *
+     * @return The newest snapshot, or an empty one (sequence 0) before the first publication.
+     */
+    public GameSnapshot getLatest() {
+        // the shared slot holds either a newer snapshot or the one returned by the last call
+        if (shared.get().getSequence() > front.getSequence()) {
+            front = shared.getAndSet(front);
+        }
+        return front;
+    }
+}
@@ -0,0 +1,129 @@
+package com.comp2042.controller.keyInput;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fixed-size, lock-free queue of brick control inputs between exactly one producer (the
+ * JavaFX thread handling key presses) and exactly one consumer (the simulation thread).
+ *
+ * <p>Every slot is pre-allocated as three parallel primitive arrays holding the
+ * {@code EventType} ordinal, the {@code EventSource} ordinal and the time the input was taken,
+ * in {@code System.nanoTime()} nanoseconds. Offering and draining therefore never allocate. The
+ * producer only writes the head counter and the consumer only writes the tail counter; each
+ * publishes its counter with a release write ({@code lazySet}), which is enough for a single
+ * producer and a single consumer.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Producer-Consumer**: Key handling and the game engine exchange inputs without sharing a lock.</li>
+ * </ul>
+ */
+public final class InputRingBuffer {
+
+    /**
+     * Receives the inputs taken off the buffer, in the order they were offered.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * Applies one input.
+         *
+         * @param type The event type.
+         * @param source The event source.
+         * @param timeNanos The {@code System.nanoTime()} at which the input was taken.
+         */
+        void onInput(EventType type, EventSource source, long timeNanos);
+    }
+
+    // values() clones its array on every call, so look the constants up in a copy of our own
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    private final byte[] types;
+    private final byte[] sources;
+    private final long[] times;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Constructs an empty buffer.
+     *
+     * @param capacity The number of slots, a power of two.
+     */
+    public InputRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        types = new byte[capacity];
+        sources = new byte[capacity];
+        times = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds an input at the end of the buffer. Producer thread only.
+     *
+     * @param type The event type.
+     * @param source The event source.
+     * @param timeNanos The {@code System.nanoTime()} at which the input was taken.
+     * @return false if the buffer is full and the input was dropped.
+     */
+    public boolean offer(EventType type, EventSource source, long timeNanos) {
+        long h = head.get();
+        if (h - tail.get() > mask) {
+            return false;
+        }
+        int slot = (int) (h & mask);
+        types[slot] = (byte) type.ordinal();
+        sources[slot] = (byte) source.ordinal();
+        times[slot] = timeNanos;
+        // the slot is written before the consumer can see the new head
+        head.lazySet(h + 1);
+        return true;
+    }
+
+    /**
+     * Hands every input offered so far to the handler, oldest first, and frees their slots.
+     * Inputs offered while draining are left for the next call. Consumer thread only.
+     *
+     * @param handler The handler to apply the inputs.
+     * @return The number of inputs drained.
+     */
+    public int drain(Handler handler) {
+        long t = tail.get();
+        long h = head.get();
+        for (long i = t; i < h; i++) {
+            int slot = (int) (i & mask);
+            handler.onInput(TYPES[types[slot]], SOURCES[sources[slot]], times[slot]);
+        }
+        tail.lazySet(h);
+        return (int) (h - t);
+    }
+
+    /**
+     * Drops every input offered so far without applying it. Consumer thread only.
+     */
+    public void clear() {
+        tail.lazySet(head.get());
+    }
+
+    /**
+     * Checks if there is nothing to drain. Any thread, but only exact on the consumer thread.
+     * @return true if the buffer is empty.
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * Gets the number of slots.
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+}
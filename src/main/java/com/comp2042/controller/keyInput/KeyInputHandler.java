@@ -2,9 +2,6 @@ package com.comp2042.controller.keyInput;
 
 import com.comp2042.events.EventSource;
 import com.comp2042.events.EventType;
-import com.comp2042.events.InputEventListener;
-import com.comp2042.events.MoveEvent;
-import com.comp2042.view.data.ViewData;
 import javafx.scene.input.KeyEvent;
 
 import javafx.event.ActionEvent;
@@ -16,14 +13,15 @@ import java.util.function.Consumer;
  * and global
  *
  *
- * <p>It delegates brick control events to the game logic via {@code InputEventListener}
- * and global actions to dedicated consumers.
+ * <p>Brick control keys are not applied here: each one is written, with the time it was
+ * pressed, into an {@code InputRingBuffer} that the game engine drains once per tick on its own
+ * thread. Global actions go to dedicated consumers.
  * This supports the Single Responsibility Principle (SRP) by externalizing input handling
  *.</p>
  */
 public class KeyInputHandler {
 
-    private final InputEventListener eventListener;
+    private final InputRingBuffer inputs;
 
     private final Consumer<ActionEvent> newGameAction;
     private final Consumer<ActionEvent> pauseGameAction;
@@ -31,16 +29,16 @@ public class KeyInputHandler {
     /**
      * Constructs a new KeyInputHandler.
      *
-     * @param eventListener The listener responsible for processing brick movement/control events.
+     * @param inputs The buffer the brick control inputs are written to, drained by the game engine.
      * @param newGameAction A consumer to execute the new game logic.
      * @param pauseGameAction A consumer to execute the pause/resume logic.
      */
     public KeyInputHandler(
-            InputEventListener eventListener,
+            InputRingBuffer inputs,
             Consumer<ActionEvent> newGameAction,
             Consumer<ActionEvent> pauseGameAction
     ) {
-        this.eventListener = eventListener;
+        this.inputs = inputs;
         this.newGameAction = newGameAction;
         this.pauseGameAction = pauseGameAction;
     }
@@ -62,47 +60,36 @@ public class KeyInputHandler {
     }
 
     /**
-     * Handles key inputs for controlling the falling brick and delegating to the core game logic.
+     * Queues the brick control input of a key for the game engine, stamped with the current
+     * {@code System.nanoTime()}.
      *
      * <ul>
      * <li>**LEFT/A**: Move Left</li>
      * <li>**RIGHT/D**: Move Right</li>
      * <li>**UP/W**: Rotate</li>
-     * <li>**DOWN/S**: Soft Drop (delegated to {@code moveDownHandler})</li>
-     * <li>**SPACE**: Hard Drop (delegated to {@code hardDropHandler})</li>
+     * <li>**DOWN/S**: Soft Drop</li>
+     * <li>**SPACE**: Hard Drop</li>
      * <li>**C**: Hold Brick</li>
      * </ul>
      *
      * @param keyEvent The KeyEvent generated by the user's key press.
-     * @param moveDownHandler A consumer for handling the soft drop (DOWN/S) event, which involves move-down game logic.
-     * @param refreshHandler A consumer to refresh the brick display after simple movements (Left, Right, Rotate, Hold).
-     * @param hardDropHandler A consumer for handling the instant drop (SPACE) event.
+     * @return true if the key is a brick control key.
      */
-    public void handleBrickControlKeys(KeyEvent keyEvent, Consumer<MoveEvent> moveDownHandler, Consumer<ViewData> refreshHandler,
-                                       Consumer<MoveEvent> hardDropHandler) {
-
-        switch (keyEvent.getCode()) {
-            case LEFT, A ->
-                    refreshHandler.accept(
-                            eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER))
-                    );
-            case RIGHT, D ->
-                    refreshHandler.accept(
-                            eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER))
-                    );
-            case UP, W ->
-                    refreshHandler.accept(
-                            eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER))
-                    );
-            case DOWN, S ->
-                    moveDownHandler.accept(
-                            new MoveEvent(EventType.DOWN, EventSource.USER)
-                    );
-            case SPACE -> hardDropHandler.accept(new MoveEvent(EventType.SLAM, EventSource.USER));
-            case C ->
-                    refreshHandler.accept(
-                            eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER))
-                    );
+    public boolean handleBrickControlKeys(KeyEvent keyEvent) {
+        EventType type = switch (keyEvent.getCode()) {
+            case LEFT, A -> EventType.LEFT;
+            case RIGHT, D -> EventType.RIGHT;
+            case UP, W -> EventType.ROTATE;
+            case DOWN, S -> EventType.DOWN;
+            case SPACE -> EventType.SLAM;
+            case C -> EventType.HOLD;
+            default -> null;
+        };
+        if (type == null) {
+            return false;
         }
+        // a full buffer means the engine has stalled, so dropping the key beats blocking the FX thread
+        inputs.offer(type, EventSource.USER, System.nanoTime());
+        return true;
     }
 }
@@ -4,7 +4,9 @@ package com.comp2042.events;
  * A final class that encapsulates all information required for a single brick control action
  * or game timing event.
  *
- * <p>It combines the specific {@code EventType} with the {@code EventSource}.</p>
+ * <p>It combines the specific {@code EventType} with the {@code EventSource}. Events are
+ * immutable, so the game loop and input handling share the instances returned by
+ * {@link #of(EventType, EventSource)} instead of allocating one per move.</p>
  *
  * <p>Design Pattern Used:</p>
  * <ul>
@@ -13,6 +15,16 @@ package com.comp2042.events;
  * </ul>
  */
 public final class MoveEvent {
+    private static final MoveEvent[][] SHARED = new MoveEvent[EventType.values().length][EventSource.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            for (EventSource source : EventSource.values()) {
+                SHARED[type.ordinal()][source.ordinal()] = new MoveEvent(type, source);
+            }
+        }
+    }
+
     private final EventType eventType;
     private final EventSource eventSource;
 
@@ -27,6 +39,17 @@ public final class MoveEvent {
         this.eventSource = eventSource;
     }
 
+    /**
+     * Returns the shared event for a type and source.
+     *
+     * @param eventType The type of action requested.
+     * @param eventSource The originator of the event.
+     * @return The shared, immutable {@code MoveEvent}.
+     */
+    public static MoveEvent of(EventType eventType, EventSource eventSource) {
+        return SHARED[eventType.ordinal()][eventSource.ordinal()];
+    }
+
     /**
      * Gets the type of the event.
      *
@@ -0,0 +1,50 @@
+package com.comp2042.model.brickShapeGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * A seeded 7-bag generator: each bag holds one of every brick in shuffled order, and a new bag
+ * is only opened when the previous one is empty. No brick can be missing for more than 12 turns.
+ */
+public class BagBrickGenerator extends SeededBrickGenerator {
+
+    private final int[] bag = new int[BrickShapes.COUNT];
+    private int position = BrickShapes.COUNT;
+
+    /**
+     * Constructs the generator.
+     * @param seed The seed that fixes the piece sequence.
+     */
+    public BagBrickGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected int nextId(SplittableRandom random) {
+        if (position == bag.length) {
+            shuffle(random);
+            position = 0;
+        }
+        return bag[position++];
+    }
+
+    @Override
+    protected void resetState() {
+        position = bag.length;
+    }
+
+    /**
+     * Refills the bag and shuffles it in place (Fisher-Yates).
+     */
+    private void shuffle(SplittableRandom random) {
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = i;
+        }
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = bag[i];
+            bag[i] = bag[j];
+            bag[j] = tmp;
+        }
+    }
+}
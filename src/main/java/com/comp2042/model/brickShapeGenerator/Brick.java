@@ -21,4 +21,12 @@ public interface Brick {
      * @return A list of 2D integer arrays representing the brick's shape matrices for all rotations.
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Returns the shared, immutable precompiled data (row masks, cell offsets, bounding boxes)
+     * for all rotation states of the brick. Unlike {@code getShapeMatrix()}, this does not allocate.
+     *
+     * @return The {@code BrickShape} describing this brick.
+     */
+    BrickShape getBrickShape();
 }
\ No newline at end of file
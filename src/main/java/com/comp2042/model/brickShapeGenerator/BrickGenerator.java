@@ -27,4 +27,13 @@ public interface BrickGenerator {
      * @return The {@code Brick} object next in line.
      */
     Brick getNextBrick();
+
+    /**
+     * Looks ahead in the piece sequence without removing anything. Index 0 is the brick that
+     * {@code getBrick()} will return next, so it matches {@code getNextBrick()}.
+     *
+     * @param index How many bricks ahead to look, starting at 0.
+     * @return The {@code Brick} object at that position in the sequence.
+     */
+    Brick peekBrick(int index);
 }
\ No newline at end of file
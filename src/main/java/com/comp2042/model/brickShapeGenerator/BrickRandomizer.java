@@ -0,0 +1,32 @@
+package com.comp2042.model.brickShapeGenerator;
+
+/**
+ * The available randomizer strategies for choosing the piece sequence.
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Strategy / Factory**: Each constant creates the matching seeded {@code BrickGenerator}.</li>
+ * </ul>
+ */
+public enum BrickRandomizer {
+    /** Every brick is picked independently with equal probability. */
+    UNIFORM,
+    /** Bricks are dealt from shuffled bags of all seven. */
+    BAG,
+    /** Recently seen bricks are rerolled a few times before being accepted. */
+    HISTORY;
+
+    /**
+     * Creates a generator using this strategy.
+     *
+     * @param seed The seed that fixes the piece sequence.
+     * @return A new seeded generator.
+     */
+    public SeededBrickGenerator create(long seed) {
+        return switch (this) {
+            case UNIFORM -> new UniformBrickGenerator(seed);
+            case BAG -> new BagBrickGenerator(seed);
+            case HISTORY -> new HistoryBrickGenerator(seed);
+        };
+    }
+}
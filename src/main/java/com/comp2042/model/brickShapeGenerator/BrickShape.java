@@ -0,0 +1,246 @@
+package com.comp2042.model.brickShapeGenerator;
+
+import com.comp2042.model.gameBoard.BitBoard;
+import com.comp2042.model.logic.MatrixOperations;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable, precompiled description of every rotation of one brick type.
+ *
+ * <p>Each rotation is compiled once into its shape matrix, the row bitmasks used by
+ * {@code BitBoard}, the list of occupied cell offsets and its bounding box. All lookups are
+ * plain array reads, so the rotator, the active-brick controller and the renderer can query
+ * shapes on every move without allocating.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Flyweight**: A single instance per brick type is shared by every game through {@code BrickShapes}.</li>
+ * </ul>
+ */
+public final class BrickShape {
+
+    private final int id;
+    private final int colour;
+    private final int[][][] matrices;
+    private final long[][] rowMasks;
+    private final int[][] cellRows;
+    private final int[][] cellCols;
+    private final int[][] columnBottoms;
+    private final int[] minRow;
+    private final int[] maxRow;
+    private final int[] minCol;
+    private final int[] maxCol;
+
+    /**
+     * Compiles the rotation matrices of a brick. The matrices are copied, so later changes to
+     * the given list do not affect this shape.
+     *
+     * @param rotations The shape matrices for all rotations, in rotation order.
+     */
+    public BrickShape(List<int[][]> rotations) {
+        int count = rotations.size();
+        matrices = new int[count][][];
+        rowMasks = new long[count][];
+        cellRows = new int[count][];
+        cellCols = new int[count][];
+        columnBottoms = new int[count][];
+        minRow = new int[count];
+        maxRow = new int[count];
+        minCol = new int[count];
+        maxCol = new int[count];
+
+        int shapeColour = 0;
+        for (int r = 0; r < count; r++) {
+            int[][] matrix = MatrixOperations.copy(rotations.get(r));
+            matrices[r] = matrix;
+            rowMasks[r] = new long[matrix.length];
+
+            int cells = 0;
+            for (int[] row : matrix) {
+                for (int cell : row) {
+                    if (cell != 0) {
+                        cells++;
+                    }
+                }
+            }
+            cellRows[r] = new int[cells];
+            cellCols[r] = new int[cells];
+            columnBottoms[r] = new int[matrix.length == 0 ? 0 : matrix[0].length];
+            Arrays.fill(columnBottoms[r], -1);
+            minRow[r] = Integer.MAX_VALUE;
+            minCol[r] = Integer.MAX_VALUE;
+            maxRow[r] = -1;
+            maxCol[r] = -1;
+
+            int cell = 0;
+            for (int i = 0; i < matrix.length; i++) {
+                rowMasks[r][i] = BitBoard.rowMask(matrix[i]);
+                for (int j = 0; j < matrix[i].length; j++) {
+                    if (matrix[i][j] != 0) {
+                        shapeColour = matrix[i][j];
+                        cellRows[r][cell] = i;
+                        cellCols[r][cell] = j;
+                        cell++;
+                        minRow[r] = Math.min(minRow[r], i);
+                        maxRow[r] = Math.max(maxRow[r], i);
+                        minCol[r] = Math.min(minCol[r], j);
+                        maxCol[r] = Math.max(maxCol[r], j);
+                        // rows are visited top to bottom, so the last hit is the lowest cell
+                        columnBottoms[r][j] = i;
+                    }
+                }
+            }
+        }
+        this.colour = shapeColour;
+        // colour codes start at 1, so the id is a dense 0-based index
+        this.id = shapeColour - 1;
+    }
+
+    /**
+     * Gets the dense identifier of this brick type (colour code minus one).
+     * @return The brick id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the colour code written into the board for this brick.
+     * @return The colour code.
+     */
+    public int getColour() {
+        return colour;
+    }
+
+    /**
+     * Gets the number of distinct rotation states.
+     * @return The rotation count.
+     */
+    public int getRotationCount() {
+        return matrices.length;
+    }
+
+    /**
+     * Gets the rotation index that follows {@code rotation}, wrapping back to 0.
+     *
+     * @param rotation The current rotation index.
+     * @return The next rotation index.
+     */
+    public int nextRotation(int rotation) {
+        return (rotation + 1) % matrices.length;
+    }
+
+    /**
+     * Returns the shared shape matrix of a rotation. The array is not copied and must be
+     * treated as read-only.
+     *
+     * @param rotation The rotation index.
+     * @return The shape matrix.
+     */
+    public int[][] getMatrix(int rotation) {
+        return matrices[rotation];
+    }
+
+    /**
+     * Gets the number of rows in the shape matrix of a rotation.
+     *
+     * @param rotation The rotation index.
+     * @return The matrix row count.
+     */
+    public int getRowCount(int rotation) {
+        return rowMasks[rotation].length;
+    }
+
+    /**
+     * Gets the occupancy bitmask of one shape row (bit {@code j} is matrix column {@code j}).
+     *
+     * @param rotation The rotation index.
+     * @param row The shape row.
+     * @return The row bitmask.
+     */
+    public long getRowMask(int rotation, int row) {
+        return rowMasks[rotation][row];
+    }
+
+    /**
+     * Gets the number of occupied cells in a rotation.
+     *
+     * @param rotation The rotation index.
+     * @return The cell count.
+     */
+    public int getCellCount(int rotation) {
+        return cellRows[rotation].length;
+    }
+
+    /**
+     * Gets the matrix row of an occupied cell.
+     *
+     * @param rotation The rotation index.
+     * @param cell The cell index, from 0 to {@code getCellCount(rotation) - 1}.
+     * @return The row offset of the cell.
+     */
+    public int getCellRow(int rotation, int cell) {
+        return cellRows[rotation][cell];
+    }
+
+    /**
+     * Gets the matrix column of an occupied cell.
+     *
+     * @param rotation The rotation index.
+     * @param cell The cell index, from 0 to {@code getCellCount(rotation) - 1}.
+     * @return The column offset of the cell.
+     */
+    public int getCellCol(int rotation, int cell) {
+        return cellCols[rotation][cell];
+    }
+
+    /**
+     * Gets the lowest occupied shape row in a matrix column, used to find where the brick
+     * rests on the board surface.
+     *
+     * @param rotation The rotation index.
+     * @param col The matrix column.
+     * @return The row offset of the lowest cell in that column, or -1 if the column is empty.
+     */
+    public int getColumnBottom(int rotation, int col) {
+        return columnBottoms[rotation][col];
+    }
+
+    /**
+     * Gets the first occupied row of a rotation's bounding box.
+     * @param rotation The rotation index.
+     * @return The top row offset.
+     */
+    public int getMinRow(int rotation) {
+        return minRow[rotation];
+    }
+
+    /**
+     * Gets the last occupied row of a rotation's bounding box.
+     * @param rotation The rotation index.
+     * @return The bottom row offset.
+     */
+    public int getMaxRow(int rotation) {
+        return maxRow[rotation];
+    }
+
+    /**
+     * Gets the first occupied column of a rotation's bounding box.
+     * @param rotation The rotation index.
+     * @return The left column offset.
+     */
+    public int getMinCol(int rotation) {
+        return minCol[rotation];
+    }
+
+    /**
+     * Gets the last occupied column of a rotation's bounding box.
+     * @param rotation The rotation index.
+     * @return The right column offset.
+     */
+    public int getMaxCol(int rotation) {
+        return maxCol[rotation];
+    }
+}
@@ -0,0 +1,55 @@
+package com.comp2042.model.brickShapeGenerator;
+
+/**
+ * The shared registry of the seven standard bricks and their precompiled shapes.
+ *
+ * <p>Bricks are stateless, so one instance per type is enough for every generator and every
+ * game. Bricks are indexed by their dense id (I, J, L, O, S, T, Z map to 0 to 6).</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Registry / Flyweight**: Central lookup of the shared {@code Brick} and {@code BrickShape} instances.</li>
+ * </ul>
+ */
+public final class BrickShapes {
+
+    private static final Brick[] BRICKS = {
+            new IBrick(),
+            new JBrick(),
+            new LBrick(),
+            new OBrick(),
+            new SBrick(),
+            new TBrick(),
+            new ZBrick()
+    };
+
+    /**
+     * The number of registered brick types.
+     */
+    public static final int COUNT = BRICKS.length;
+
+    //We don't want to instantiate this utility class
+    private BrickShapes() {
+
+    }
+
+    /**
+     * Gets the shared brick instance for an id.
+     *
+     * @param id The brick id, from 0 to {@code COUNT - 1}.
+     * @return The brick.
+     */
+    public static Brick getBrick(int id) {
+        return BRICKS[id];
+    }
+
+    /**
+     * Gets the precompiled shape for an id.
+     *
+     * @param id The brick id, from 0 to {@code COUNT - 1}.
+     * @return The brick shape.
+     */
+    public static BrickShape getShape(int id) {
+        return BRICKS[id].getBrickShape();
+    }
+}
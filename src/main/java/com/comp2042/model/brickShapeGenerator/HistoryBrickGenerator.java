@@ -0,0 +1,58 @@
+package com.comp2042.model.brickShapeGenerator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A seeded history-based generator. It remembers the last few bricks and rerolls a pick that
+ * appears in that history a limited number of times, which makes repeats rare without the
+ * strict cycle of a bag.
+ */
+public class HistoryBrickGenerator extends SeededBrickGenerator {
+
+    private static final int HISTORY_SIZE = 4;
+    private static final int ROLLS = 6;
+
+    private final int[] history = new int[HISTORY_SIZE];
+    private int oldest;
+
+    /**
+     * Constructs the generator.
+     * @param seed The seed that fixes the piece sequence.
+     */
+    public HistoryBrickGenerator(long seed) {
+        super(seed);
+        clearHistory();
+    }
+
+    @Override
+    protected int nextId(SplittableRandom random) {
+        int id = random.nextInt(BrickShapes.COUNT);
+        for (int roll = 1; roll < ROLLS && inHistory(id); roll++) {
+            id = random.nextInt(BrickShapes.COUNT);
+        }
+        history[oldest] = id;
+        oldest = (oldest + 1) % HISTORY_SIZE;
+        return id;
+    }
+
+    @Override
+    protected void resetState() {
+        clearHistory();
+    }
+
+    private void clearHistory() {
+        // an empty history never blocks a pick
+        Arrays.fill(history, -1);
+        oldest = 0;
+    }
+
+    private boolean inHistory(int id) {
+        for (int recent : history) {
+            if (recent == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
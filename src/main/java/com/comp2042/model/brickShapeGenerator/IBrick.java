@@ -17,6 +17,7 @@ import java.util.List;
 final class IBrick implements Brick {
 
     private final List<int[][]> brickMatrix = new ArrayList<>();
+    private final BrickShape brickShape;
 
     /**
      * Constructs the IBrick and initializes its two rotation matrices.
@@ -34,6 +35,7 @@ final class IBrick implements Brick {
                 {0, 1, 0, 0},
                 {0, 1, 0, 0}
         });
+        brickShape = new BrickShape(brickMatrix);
     }
 
     /**
@@ -46,4 +48,14 @@ final class IBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    /**
+     * Returns the shared, precompiled rotation data of the I-brick.
+     *
+     * @return The {@code BrickShape} of this brick.
+     */
+    @Override
+    public BrickShape getBrickShape() {
+        return brickShape;
+    }
+
 }
\ No newline at end of file
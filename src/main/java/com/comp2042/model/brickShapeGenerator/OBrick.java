@@ -17,6 +17,7 @@ import java.util.List;
 final class OBrick implements Brick {
 
     private final List<int[][]> brickMatrix = new ArrayList<>();
+    private final BrickShape brickShape;
 
     /**
      * Constructs the OBrick and initializes its single rotation matrix.
@@ -28,6 +29,7 @@ final class OBrick implements Brick {
                 {0, 4, 4, 0},
                 {0, 0, 0, 0}
         });
+        brickShape = new BrickShape(brickMatrix);
     }
 
     /**
@@ -40,4 +42,14 @@ final class OBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    /**
+     * Returns the shared, precompiled rotation data of the O-brick.
+     *
+     * @return The {@code BrickShape} of this brick.
+     */
+    @Override
+    public BrickShape getBrickShape() {
+        return brickShape;
+    }
+
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import java.util.List;
 final class SBrick implements Brick {
 
     private final List<int[][]> brickMatrix = new ArrayList<>();
+    private final BrickShape brickShape;
 
     /**
      * Constructs the SBrick and initializes its two rotation matrices.
@@ -34,6 +35,7 @@ final class SBrick implements Brick {
                 {0, 5, 0, 0},
                 {0, 0, 0, 0}
         });
+        brickShape = new BrickShape(brickMatrix);
     }
 
     /**
@@ -45,4 +47,14 @@ final class SBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Returns the shared, precompiled rotation data of the S-brick.
+     *
+     * @return The {@code BrickShape} of this brick.
+     */
+    @Override
+    public BrickShape getBrickShape() {
+        return brickShape;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.comp2042.model.brickShapeGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Base class for deterministic brick generators. The whole piece sequence is a function of the
+ * seed, so a game can be reproduced for replays, bot benchmarks and bug reports.
+ *
+ * <p>Upcoming brick ids are generated in bulk into a primitive ring buffer. The buffer grows on
+ * demand, so any amount of lookahead is available through {@link #peekBrick(int)}, while taking
+ * a brick is just an array read.</p>
+ *
+ * <p>Design Patterns Implemented:</p>
+ * <ul>
+ * <li>**Template Method**: Subclasses only decide the next brick id in {@link #nextId(SplittableRandom)}; buffering and lookahead live here.</li>
+ * <li>**Concrete Creator (Factory Method)**: Implements the generation logic defined in the {@code BrickGenerator} interface.</li>
+ * </ul>
+ */
+public abstract class SeededBrickGenerator implements BrickGenerator {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // ids are generated this many at a time, so the buffer is refilled rarely
+    private static final int FILL_CHUNK = 14;
+
+    private SplittableRandom random;
+    private long seed;
+    private byte[] ring = new byte[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    /**
+     * Constructs the generator.
+     *
+     * @param seed The seed that fixes the piece sequence.
+     */
+    protected SeededBrickGenerator(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Produces the id of the next brick in the sequence.
+     *
+     * @param random The seeded random source of this generator.
+     * @return A brick id from 0 to {@code BrickShapes.COUNT - 1}.
+     */
+    protected abstract int nextId(SplittableRandom random);
+
+    /**
+     * Clears any state kept by the randomizer (bags, history) when the generator is reseeded.
+     */
+    protected abstract void resetState();
+
+    /**
+     * Restarts the piece sequence from a new seed, reusing the existing buffers.
+     *
+     * @param seed The new seed.
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        head = 0;
+        size = 0;
+        resetState();
+    }
+
+    /**
+     * Gets the seed of the current sequence.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Takes the next brick id from the sequence.
+     * @return The brick id.
+     */
+    public int nextBrickId() {
+        fill(1);
+        int id = ring[head];
+        head = (head + 1) & (ring.length - 1);
+        size--;
+        return id;
+    }
+
+    /**
+     * Looks ahead in the sequence without taking anything.
+     *
+     * @param index How many bricks ahead to look, starting at 0.
+     * @return The brick id at that position.
+     */
+    public int peekBrickId(int index) {
+        fill(index + 1);
+        return ring[(head + index) & (ring.length - 1)];
+    }
+
+    /**
+     * @see BrickGenerator#getBrick()
+     */
+    @Override
+    public Brick getBrick() {
+        return BrickShapes.getBrick(nextBrickId());
+    }
+
+    /**
+     * @see BrickGenerator#getNextBrick()
+     */
+    @Override
+    public Brick getNextBrick() {
+        return peekBrick(0);
+    }
+
+    /**
+     * @see BrickGenerator#peekBrick(int)
+     */
+    @Override
+    public Brick peekBrick(int index) {
+        return BrickShapes.getBrick(peekBrickId(index));
+    }
+
+    /**
+     * Makes sure at least {@code count} ids are buffered, generating a whole chunk at a time.
+     */
+    private void fill(int count) {
+        if (size >= count) {
+            return;
+        }
+        int target = Math.max(count, size + FILL_CHUNK);
+        if (target > ring.length) {
+            grow(target);
+        }
+        int mask = ring.length - 1;
+        while (size < target) {
+            ring[(head + size) & mask] = (byte) nextId(random);
+            size++;
+        }
+    }
+
+    /**
+     * Grows the ring to the next power of two that holds {@code minCapacity} ids, unwrapping its content.
+     */
+    private void grow(int minCapacity) {
+        int capacity = Integer.highestOneBit(minCapacity - 1) << 1;
+        byte[] bigger = new byte[capacity];
+        int mask = ring.length - 1;
+        for (int i = 0; i < size; i++) {
+            bigger[i] = ring[(head + i) & mask];
+        }
+        ring = bigger;
+        head = 0;
+    }
+}
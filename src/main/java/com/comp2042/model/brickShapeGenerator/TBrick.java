@@ -17,6 +17,7 @@ import java.util.List;
 final class TBrick implements Brick {
 
     private final List<int[][]> brickMatrix = new ArrayList<>();
+    private final BrickShape brickShape;
 
     /**
      * Constructs the TBrick and initializes its four rotation matrices.
@@ -46,6 +47,7 @@ final class TBrick implements Brick {
                 {0, 6, 0, 0},
                 {0, 0, 0, 0}
         });
+        brickShape = new BrickShape(brickMatrix);
     }
 
     /**
@@ -57,4 +59,14 @@ final class TBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    /**
+     * Returns the shared, precompiled rotation data of the T-brick.
+     *
+     * @return The {@code BrickShape} of this brick.
+     */
+    @Override
+    public BrickShape getBrickShape() {
+        return brickShape;
+    }
 }
\ No newline at end of file
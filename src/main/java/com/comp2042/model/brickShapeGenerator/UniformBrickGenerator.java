@@ -0,0 +1,28 @@
+package com.comp2042.model.brickShapeGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * A seeded generator that picks every brick independently with equal probability, matching the
+ * behaviour of the original random generator.
+ */
+public class UniformBrickGenerator extends SeededBrickGenerator {
+
+    /**
+     * Constructs the generator.
+     * @param seed The seed that fixes the piece sequence.
+     */
+    public UniformBrickGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected int nextId(SplittableRandom random) {
+        return random.nextInt(BrickShapes.COUNT);
+    }
+
+    @Override
+    protected void resetState() {
+        // stateless
+    }
+}
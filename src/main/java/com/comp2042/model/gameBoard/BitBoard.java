@@ -0,0 +1,797 @@
+package com.comp2042.model.gameBoard;
+
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Stores the fixed blocks of the playfield as a primitive bitset per row, alongside a
+ * separate colour plane that is only used for rendering.
+ *
+ * <p>Each row is a run of {@code long} words, one per 64 columns: bit {@code c & 63} of word
+ * {@code c >> 6} is set when the cell in column {@code c} is occupied. The standard board fits in
+ * a single word. Collision, merge and full-row checks therefore work on whole rows at a time
+ * with a few AND/OR/compare operations instead of walking every cell of the brick matrix, and a
+ * brick row, being at most 64 columns wide, never touches more than two words.</p>
+ *
+ * <p>Two indexes are kept up to date as cells change: the fill count of every row and the
+ * surface (highest occupied row) of every column. The range of rows written since the last
+ * line clear is tracked too, so full-row detection only has to look at the rows a locked
+ * brick actually touched, and the ghost landing row can be read off the column surface.</p>
+ *
+ * <p>A Zobrist hash of the occupied cells is kept alongside, so searches can recognise a board
+ * they have already seen. Merges update it cell by cell, line clears only rehash the rows that
+ * moved, and a rising row (which moves every row) leaves it to be rebuilt the next time it is
+ * read, so garbage can rise any number of times without rehashing in between.</p>
+ *
+ * <p>Counting, packing and painting whole rows goes through the {@link RowKernel} picked at
+ * startup, which uses SIMD lanes on wide boards when the vector API is available.</p>
+ *
+ * <p>Every change is also marked in a {@link DirtyRegion}, so the renderer can update only the
+ * cells that changed instead of repainting the whole board.</p>
+ *
+ * <p>Line clears and rising rows work in place: rows are moved by swapping array references
+ * and emptied rows are recycled, so locking a brick never allocates.</p>
+ *
+ * <p>Rows are addressed through a base index into their slots, picked by the {@link RowStorage}
+ * mode. With {@link RowStorage#CIRCULAR} storage the slots form a ring, so garbage rising from
+ * the floor rotates the base instead of moving every row up, and the colour matrix handed to
+ * the renderer is put back in row order only when it is asked for.</p>
+ *
+ * <p>Design Patterns Implemented:</p>
+ * <ul>
+ * <li>**Single Responsibility Principle (SRP)**: Owns the board storage and its occupancy queries, leaving brick control to {@code CurrentBrickController} and game rules to {@code TetrisBoard}.</li>
+ * <li>**Adapter**: The colour plane is kept as an {@code int[][]} so that {@code GameStats.getBoardMatrix()} stays source-compatible for the renderer.</li>
+ * </ul>
+ */
+public final class BitBoard {
+
+    /**
+     * The widest supported board.
+     */
+    public static final int MAX_WIDTH = 256;
+    /**
+     * The tallest supported board.
+     */
+    public static final int MAX_HEIGHT = 2048;
+
+    private static final RowKernel KERNEL = RowKernel.get();
+
+    private final int width;
+    private final int height;
+    private final int words;
+    // the columns of the last word that are on the board
+    private final long lastWord;
+    private final RowStorage storage;
+    // every per-row array below is indexed by slot, see slot(int); rows holds words per slot
+    private final long[] rows;
+    private final int[][] colours;
+    // the colour rows in row order, the same array as colours unless the storage is circular
+    private final int[][] colourView;
+    private boolean colourViewStale;
+    private int base;
+    private final int[] rowFill;
+    private final int[] columnTop;
+    private final int[][] spareRows;
+    private final long[] singleRow;
+    private final long[] seenColumns;
+    private final DirtyRegion dirtyRegion;
+    private int touchedTop;
+    private int touchedBottom;
+    private long hash;
+    private boolean hashStale;
+    private long version;
+
+    /**
+     * Constructs an empty BitBoard with {@link RowStorage#SHIFTED} rows.
+     *
+     * @param width The number of columns (at most {@value #MAX_WIDTH}).
+     * @param height The number of rows (at most {@value #MAX_HEIGHT}).
+     * @throws IllegalArgumentException if the dimensions are not supported.
+     */
+    public BitBoard(int width, int height) {
+        this(width, height, RowStorage.SHIFTED);
+    }
+
+    /**
+     * Constructs an empty BitBoard.
+     *
+     * @param width The number of columns (at most {@value #MAX_WIDTH}).
+     * @param height The number of rows (at most {@value #MAX_HEIGHT}).
+     * @param storage How the rows are laid out.
+     * @throws IllegalArgumentException if the dimensions are not supported.
+     */
+    public BitBoard(int width, int height, RowStorage storage) {
+        if (width <= 0 || width > MAX_WIDTH || height <= 0 || height > MAX_HEIGHT) {
+            throw new IllegalArgumentException("Unsupported board size " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.words = wordCount(width);
+        this.lastWord = -1L >>> (words * Long.SIZE - width);
+        this.storage = storage;
+        this.rows = new long[height * words];
+        this.singleRow = new long[words];
+        this.seenColumns = new long[words];
+        this.colours = new int[height][width];
+        this.colourView = storage == RowStorage.CIRCULAR ? colours.clone() : colours;
+        this.rowFill = new int[height];
+        this.columnTop = new int[width];
+        this.spareRows = new int[height][];
+        this.dirtyRegion = new DirtyRegion(width, height);
+        clear();
+    }
+
+    /**
+     * Builds the occupancy bitmask of a single brick row, where bit {@code j} is set if
+     * {@code shapeRow[j]} is non-zero.
+     *
+     * @param shapeRow One row of a brick shape matrix.
+     * @return The row bitmask.
+     */
+    public static long rowMask(int[] shapeRow) {
+        long mask = 0;
+        for (int j = 0; j < shapeRow.length; j++) {
+            if (shapeRow[j] != 0) {
+                mask |= 1L << j;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the number of {@code long} words a row of the given width takes.
+     *
+     * @param width The number of columns.
+     * @return The words per row.
+     */
+    public static int wordCount(int width) {
+        return (width + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Maps a row to the slot that stores it. The base stays 0 unless the storage is circular.
+     */
+    private int slot(int row) {
+        int slot = row + base;
+        return slot >= height ? slot - height : slot;
+    }
+
+    /**
+     * Checks if the given brick shape, placed with its top-left corner at (x, y), overlaps an
+     * occupied cell or falls outside the board.
+     *
+     * @param shape The brick shape matrix.
+     * @param x The column of the shape's left edge.
+     * @param y The row of the shape's top edge.
+     * @return true if the placement collides, false otherwise.
+     */
+    public boolean intersects(int[][] shape, int x, int y) {
+        for (int i = 0; i < shape.length; i++) {
+            long mask = rowMask(shape[i]);
+            if (mask != 0 && rowCollides(mask, x, y + i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a rotation of a precompiled brick shape, placed with its top-left corner at
+     * (x, y), overlaps an occupied cell or falls outside the board. Uses the shape's row masks
+     * directly, so nothing is computed or allocated per call.
+     *
+     * @param shape The precompiled brick shape.
+     * @param rotation The rotation index.
+     * @param x The column of the shape's left edge.
+     * @param y The row of the shape's top edge.
+     * @return true if the placement collides, false otherwise.
+     */
+    public boolean intersects(BrickShape shape, int rotation, int x, int y) {
+        for (int i = shape.getMinRow(rotation); i <= shape.getMaxRow(rotation); i++) {
+            long mask = shape.getRowMask(rotation, i);
+            if (mask != 0 && rowCollides(mask, x, y + i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the row a brick lands on if dropped straight down from (x, y).
+     *
+     * <p>When the brick is above the surface in every column it covers, the landing row is a
+     * direct lookup of the column surfaces. If the brick has been tucked under an overhang,
+     * the surface says nothing about the gap below it, so the drop is probed row by row.</p>
+     *
+     * @param shape The precompiled brick shape.
+     * @param rotation The rotation index.
+     * @param x The column of the shape's left edge.
+     * @param y The current row of the shape's top edge, which must be a valid placement.
+     * @return The lowest row the shape's top edge can reach without colliding.
+     */
+    public int dropRow(BrickShape shape, int rotation, int x, int y) {
+        int landing = Integer.MAX_VALUE;
+        for (int c = shape.getMinCol(rotation); c <= shape.getMaxCol(rotation); c++) {
+            int bottom = shape.getColumnBottom(rotation, c);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = columnTop[x + c];
+            if (y + bottom >= top) {
+                // Under an overhang, fall back to probing
+                return probeDropRow(shape, rotation, x, y);
+            }
+            landing = Math.min(landing, top - 1 - bottom);
+        }
+        return landing;
+    }
+
+    /**
+     * Moves the shape down one row at a time until the next step would collide.
+     */
+    private int probeDropRow(BrickShape shape, int rotation, int x, int y) {
+        int row = y;
+        while (!intersects(shape, rotation, x, row + 1)) {
+            row++;
+        }
+        return row;
+    }
+
+    /**
+     * Checks a single shape row bitmask against the board row it would land on.
+     *
+     * @param shapeMask The bitmask of the shape row (bit 0 is the shape's left edge).
+     * @param x The column of the shape's left edge.
+     * @param row The board row being tested.
+     * @return true if any bit of the placed mask is out of bounds or already occupied.
+     */
+    public boolean rowCollides(long shapeMask, int x, int row) {
+        if (row < 0 || row >= height) {
+            return true;
+        }
+        if (shapeMask == 0) {
+            return false;
+        }
+        int offset = Long.numberOfTrailingZeros(shapeMask);
+        int left = x + offset;
+        int right = x + Long.SIZE - 1 - Long.numberOfLeadingZeros(shapeMask);
+        if (left < 0 || right >= width) {
+            return true;
+        }
+        // line the mask up with the word holding its leftmost cell
+        long placed = shapeMask >>> offset;
+        int bit = left & (Long.SIZE - 1);
+        int index = slot(row) * words + (left >>> 6);
+        if ((rows[index] & placed << bit) != 0) {
+            return true;
+        }
+        // the part that spills into the next word
+        return (right >>> 6) != (left >>> 6) && (rows[index + 1] & placed >>> (Long.SIZE - bit)) != 0;
+    }
+
+    /**
+     * Writes the non-zero cells of a brick shape into the board at (x, y), updating both the
+     * occupancy bitmasks and the colour plane in place.
+     *
+     * @param shape The brick shape matrix.
+     * @param x The column of the shape's left edge.
+     * @param y The row of the shape's top edge.
+     */
+    public void merge(int[][] shape, int x, int y) {
+        for (int i = 0; i < shape.length; i++) {
+            int[] shapeRow = shape[i];
+            for (int j = 0; j < shapeRow.length; j++) {
+                if (shapeRow[j] != 0) {
+                    setCell(y + i, x + j, shapeRow[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the colour of a single cell, keeping the occupancy bitmask in sync.
+     * A colour of 0 empties the cell.
+     *
+     * @param row The row index.
+     * @param col The column index.
+     * @param colour The colour code, or 0 for empty.
+     */
+    public void setCell(int row, int col, int colour) {
+        int slot = slot(row);
+        if (colours[slot][col] != colour) {
+            dirtyRegion.markCell(row, col);
+        }
+        colours[slot][col] = colour;
+        int index = slot * words + (col >>> 6);
+        long bit = 1L << col;
+        boolean wasOccupied = (rows[index] & bit) != 0;
+        if (colour != 0 && !wasOccupied) {
+            version++;
+            rows[index] |= bit;
+            hash ^= Zobrist.cellKey(row, col);
+            rowFill[slot]++;
+            if (row < columnTop[col]) {
+                columnTop[col] = row;
+            }
+        } else if (colour == 0 && wasOccupied) {
+            version++;
+            rows[index] &= ~bit;
+            hash ^= Zobrist.cellKey(row, col);
+            rowFill[slot]--;
+            if (row == columnTop[col]) {
+                columnTop[col] = findColumnTop(col, row + 1);
+            }
+        }
+        touchRows(row, row);
+    }
+
+    /**
+     * Scans a column downwards from {@code fromRow} for its highest occupied cell.
+     *
+     * @return The row of that cell, or {@code height} if the rest of the column is empty.
+     */
+    private int findColumnTop(int col, int fromRow) {
+        int word = col >>> 6;
+        long bit = 1L << col;
+        for (int r = fromRow; r < height; r++) {
+            if ((rows[slot(r) * words + word] & bit) != 0) {
+                return r;
+            }
+        }
+        return height;
+    }
+
+    /**
+     * Rebuilds the column surfaces by scanning down from {@code fromRow}, which must be at or
+     * above the highest block, until every column has been found.
+     */
+    private void rebuildColumnTops(int fromRow) {
+        Arrays.fill(columnTop, height);
+        Arrays.fill(seenColumns, 0L);
+        int found = 0;
+        for (int r = fromRow; r < height && found < width; r++) {
+            int index = slot(r) * words;
+            for (int w = 0; w < words; w++) {
+                // columns seen for the first time have their surface on this row
+                long newColumns = rows[index + w] & ~seenColumns[w];
+                seenColumns[w] |= newColumns;
+                found += Long.bitCount(newColumns);
+                while (newColumns != 0) {
+                    columnTop[(w << 6) + Long.numberOfTrailingZeros(newColumns)] = r;
+                    newColumns &= newColumns - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the occupied cells of the row stored in a slot.
+     */
+    private int countCells(int slot) {
+        return KERNEL.countCells(rows, slot * words, words);
+    }
+
+    /**
+     * Gets the Zobrist keys of the blocks stored in a slot, as if they sat on the given row.
+     */
+    private long rowHash(int row, int slot) {
+        long rowHash = 0;
+        int index = slot * words;
+        for (int w = 0; w < words; w++) {
+            rowHash ^= Zobrist.rowHash(row, w << 6, rows[index + w]);
+        }
+        return rowHash;
+    }
+
+    /**
+     * Widens the range of rows written since the last line clear.
+     */
+    private void touchRows(int top, int bottom) {
+        touchedTop = Math.min(touchedTop, top);
+        touchedBottom = Math.max(touchedBottom, bottom);
+    }
+
+    /**
+     * Removes every full row in the touched range and lets the rows above fall into the gap.
+     *
+     * <p>Rows are compacted bottom-up by moving array references rather than copying cells.
+     * Only the rows between the stack top and the touched range are read, since the empty rows
+     * above the stack do not change. The arrays of the removed rows are emptied and reused to
+     * fill the gap left under them, so the colour plane keeps its identity and nothing is allocated.</p>
+     *
+     * @return The number of rows removed.
+     */
+    public int clearFullRows() {
+        int top = highestBlockRow();
+        int spares = 0;
+        int lowestCleared = -1;
+        int write = touchedBottom;
+        // rows below the touched range cannot be full and never move
+        for (int read = touchedBottom; read >= top; read--) {
+            int readSlot = slot(read);
+            if (read >= touchedTop && rowFill[readSlot] == width) {
+                if (spares == 0) {
+                    lowestCleared = read;
+                }
+                spareRows[spares++] = colours[readSlot];
+                hash ^= rowHash(read, readSlot);
+                continue;
+            }
+            if (write != read) {
+                // the same blocks now sit on another row
+                int writeSlot = slot(write);
+                hash ^= rowHash(read, readSlot) ^ rowHash(write, readSlot);
+                colours[writeSlot] = colours[readSlot];
+                System.arraycopy(rows, readSlot * words, rows, writeSlot * words, words);
+                rowFill[writeSlot] = rowFill[readSlot];
+            }
+            write--;
+        }
+        // the emptied arrays become the rows just under the old stack top
+        for (int i = 0; i < spares; i++) {
+            int[] recycled = spareRows[i];
+            spareRows[i] = null;
+            Arrays.fill(recycled, 0);
+            int slot = slot(write - i);
+            colours[slot] = recycled;
+            Arrays.fill(rows, slot * words, (slot + 1) * words, 0L);
+            rowFill[slot] = 0;
+        }
+        if (spares > 0) {
+            version++;
+            // blocks only move down, so the rows from the old stack top to the lowest cleared row changed
+            dirtyRegion.markRows(top, lowestCleared);
+            rebuildColumnTops(top);
+            markRowsMoved();
+        }
+        resetTouchedRows();
+        return spares;
+    }
+
+    /**
+     * Pushes every row up by one and inserts a garbage row at the bottom. The top row falls
+     * off the board and its array is recycled as the new bottom row.
+     *
+     * @param holeMask The columns left empty in the garbage row (bit {@code c} is column {@code c}),
+     *                 so only the first 64 columns can have holes.
+     * @param colour The colour code of the garbage blocks.
+     */
+    public void addRisingRow(long holeMask, int colour) {
+        singleRow[0] = holeMask;
+        addRisingRows(singleRow, 1, colour);
+    }
+
+    /**
+     * Pushes every row up by {@code count} and inserts that many garbage rows at the bottom in
+     * a single pass, the first mask becoming the highest of the new rows. The rows that fall off
+     * the top are recycled as the new bottom rows, so rows move by reference and nothing is
+     * allocated, however many lines rise at once.
+     *
+     * @param holeMasks The hole masks of the garbage rows, oldest first, {@link #getWordCount()} words per row.
+     * @param count The number of rows to insert, taken from the start of {@code holeMasks}.
+     * @param colour The colour code of the garbage blocks.
+     */
+    public void addRisingRows(long[] holeMasks, int count, int colour) {
+        if (count <= 0) {
+            return;
+        }
+        int shift = Math.min(count, height);
+        // rows above the highest block are empty before and after the shift
+        dirtyRegion.markRows(Math.max(0, highestBlockRow() - shift), height - 1);
+        if (storage == RowStorage.CIRCULAR) {
+            // the top rows wrap around to become the bottom rows, so only the base moves
+            base = slot(shift);
+            markRowsMoved();
+        } else {
+            System.arraycopy(colours, 0, spareRows, 0, shift);
+            System.arraycopy(colours, shift, colours, 0, height - shift);
+            System.arraycopy(spareRows, 0, colours, height - shift, shift);
+            Arrays.fill(spareRows, 0, shift, null);
+            System.arraycopy(rows, shift * words, rows, 0, (height - shift) * words);
+            System.arraycopy(rowFill, shift, rowFill, 0, height - shift);
+        }
+
+        // the arrays of the rows that fell off are rewritten as the new bottom rows;
+        // with more lines than rows, only the newest ones stay on the board
+        int first = count - shift;
+        for (int i = 0; i < shift; i++) {
+            int slot = slot(height - shift + i);
+            int index = slot * words;
+            int holes = (first + i) * words;
+            for (int w = 0; w < words; w++) {
+                rows[index + w] = (w == words - 1 ? lastWord : -1L) & ~holeMasks[holes + w];
+            }
+            KERNEL.unpack(rows, index, width, colour, colours[slot]);
+            rowFill[slot] = countCells(slot);
+        }
+
+        for (int c = 0; c < width; c++) {
+            if (columnTop[c] == height) {
+                // an empty column can only have blocks in the new rows
+                columnTop[c] = findColumnTop(c, height - shift);
+            } else if (columnTop[c] < shift) {
+                // the surface block was pushed off the top
+                columnTop[c] = findColumnTop(c, 0);
+            } else {
+                columnTop[c] -= shift;
+            }
+        }
+        if (touchedBottom - shift < 0) {
+            resetTouchedRows();
+        } else if (touchedTop <= touchedBottom) {
+            touchedTop = Math.max(0, touchedTop - shift);
+            touchedBottom -= shift;
+        }
+        touchRows(height - shift, height - 1);
+        version++;
+        // every block moved, so the hash is rebuilt once somebody needs it
+        hashStale = true;
+    }
+
+    /**
+     * Finds the highest occupied row from the column surfaces.
+     *
+     * @return The row index, or {@code height} if the board is empty.
+     */
+    private int highestBlockRow() {
+        int top = height;
+        for (int c = 0; c < width; c++) {
+            top = Math.min(top, columnTop[c]);
+        }
+        return top;
+    }
+
+    /**
+     * Recomputes the Zobrist hash from the row bitmasks. Empty rows add nothing to it, so only
+     * the rows from the stack top down are read; the column surfaces must be up to date.
+     */
+    private void rebuildHash() {
+        hashStale = false;
+        hash = 0;
+        for (int r = highestBlockRow(); r < height; r++) {
+            hash ^= rowHash(r, slot(r));
+        }
+    }
+
+    /**
+     * Notes that rows changed slots, so the colour view has to be put back in row order
+     * before it is handed out again.
+     */
+    private void markRowsMoved() {
+        colourViewStale = colourView != colours;
+    }
+
+    /**
+     * Gets the Zobrist hash of the occupied cells. Boards with the same blocks have the same
+     * hash; colours are not part of it.
+     *
+     * @return The board hash.
+     */
+    public long getHash() {
+        if (hashStale) {
+            rebuildHash();
+        }
+        return hash;
+    }
+
+    /**
+     * Gets a counter that changes every time a cell becomes occupied or empty, or rows move.
+     * Colour-only changes do not count. Results computed from the occupancy, such as a landing
+     * row, stay valid as long as the version is the same.
+     *
+     * @return The occupancy version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if a cell is occupied.
+     *
+     * @param row The row index.
+     * @param col The column index.
+     * @return true if the cell holds a block.
+     */
+    public boolean isOccupied(int row, int col) {
+        return (rows[slot(row) * words + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    /**
+     * Checks if every column of a row is occupied.
+     *
+     * @param row The row index.
+     * @return true if the row is full.
+     */
+    public boolean isRowFull(int row) {
+        return rowFill[slot(row)] == width;
+    }
+
+    /**
+     * Checks if any row of the board is full.
+     *
+     * @return true if at least one row is full.
+     */
+    public boolean hasFullRow() {
+        for (int fill : rowFill) {
+            if (fill == width) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if any row written since the last {@link #resetTouchedRows()} is full. A lock only
+     * writes up to four rows, so this is a handful of compares instead of a full board scan.
+     *
+     * @return true if at least one touched row is full.
+     */
+    public boolean hasFullTouchedRow() {
+        for (int r = touchedTop; r <= touchedBottom; r++) {
+            if (rowFill[slot(r)] == width) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forgets the rows written so far, typically once a line clear has been resolved.
+     */
+    public void resetTouchedRows() {
+        touchedTop = height;
+        touchedBottom = -1;
+    }
+
+    /**
+     * Gets the number of occupied cells in a row.
+     *
+     * @param row The row index.
+     * @return The fill count, from 0 to the board width.
+     */
+    public int getRowFill(int row) {
+        return rowFill[slot(row)];
+    }
+
+    /**
+     * Gets the highest occupied row of a column (the column's surface).
+     *
+     * @param col The column index.
+     * @return The row index of the topmost block, or the board height if the column is empty.
+     */
+    public int getColumnTop(int col) {
+        return columnTop[col];
+    }
+
+    /**
+     * Gets the stack height of a column, measured from the floor.
+     *
+     * @param col The column index.
+     * @return The number of rows between the floor and the top of the column, 0 if empty.
+     */
+    public int getColumnHeight(int col) {
+        return height - columnTop[col];
+    }
+
+    /**
+     * Gets the occupancy bitmask of the first 64 columns of a row, which is the whole row on
+     * boards up to 64 columns wide.
+     *
+     * @param row The row index.
+     * @return The row bitmask (bit {@code c} is column {@code c}).
+     */
+    public long getRow(int row) {
+        return rows[slot(row) * words];
+    }
+
+    /**
+     * Gets one word of the occupancy bitset of a row.
+     *
+     * @param row The row index.
+     * @param word The word index, covering columns {@code 64 * word} to {@code 64 * word + 63}.
+     * @return The word (bit {@code c & 63} is column {@code c}).
+     */
+    public long getRowWord(int row, int word) {
+        return rows[slot(row) * words + word];
+    }
+
+    /**
+     * Gets the number of {@code long} words each row takes.
+     * @return The words per row.
+     */
+    public int getWordCount() {
+        return words;
+    }
+
+    /**
+     * Replaces the whole board content with the given matrix. The colour plane keeps its
+     * identity, so references obtained from {@link #getColourMatrix()} stay valid.
+     *
+     * @param matrix A matrix with the same dimensions as this board.
+     */
+    public void load(int[][] matrix) {
+        base = 0;
+        markRowsMoved();
+        for (int r = 0; r < height; r++) {
+            System.arraycopy(matrix[r], 0, colours[r], 0, width);
+            rowFill[r] = KERNEL.pack(colours[r], width, rows, r * words);
+        }
+        rebuildColumnTops(0);
+        rebuildHash();
+        version++;
+        touchRows(0, height - 1);
+        dirtyRegion.markAll();
+    }
+
+    /**
+     * Empties every cell of the board.
+     */
+    public void clear() {
+        // every row is empty, so the slots can start over from the base without moving
+        base = 0;
+        markRowsMoved();
+        Arrays.fill(rows, 0L);
+        for (int[] row : colours) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(rowFill, 0);
+        Arrays.fill(columnTop, height);
+        hash = 0;
+        hashStale = false;
+        version++;
+        resetTouchedRows();
+        dirtyRegion.markAll();
+    }
+
+    /**
+     * Returns the live colour plane used for rendering. Callers must treat it as read-only:
+     * writes into it are not reflected in the occupancy bitmasks, use {@link #setCell(int, int, int)} instead.
+     * The outer array keeps its identity, but line clears and rising rows reorder the row arrays inside it.
+     * With {@link RowStorage#CIRCULAR} storage the order is only restored by this call, so the
+     * matrix must be fetched again after the board changed rather than kept from an earlier call.
+     *
+     * @return The colour matrix, indexed as {@code [row][column]}.
+     */
+    public int[][] getColourMatrix() {
+        if (colourViewStale) {
+            for (int r = 0; r < height; r++) {
+                colourView[r] = colours[slot(r)];
+            }
+            colourViewStale = false;
+        }
+        return colourView;
+    }
+
+    /**
+     * Gets how the rows are laid out.
+     * @return The row storage mode.
+     */
+    public RowStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Gets the cells changed since the renderer last cleared the region.
+     * @return The live dirty region of this board.
+     */
+    public DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
+
+    /**
+     * Gets the number of columns.
+     * @return The board width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows.
+     * @return The board height.
+     */
+    public int getHeight() {
+        return height;
+    }
+}
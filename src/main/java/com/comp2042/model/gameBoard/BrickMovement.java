@@ -40,6 +40,14 @@ public interface BrickMovement {
      */
     boolean rotateBrickLeft();
 
+    /**
+     * Drops the current falling brick straight to its landing row in a single step. The brick
+     * is left resting on the stack, ready to be merged into the background.
+     *
+     * @return The number of rows the brick fell.
+     */
+    int hardDropBrick();
+
     /**
      * Attempts to swap the current falling brick with the piece in the hold queue.
      */
@@ -2,11 +2,8 @@ package com.comp2042.model.gameBoard;
 
 import com.comp2042.model.brickShapeGenerator.Brick;
 import com.comp2042.model.brickShapeGenerator.BrickGenerator;
+import com.comp2042.model.brickShapeGenerator.BrickShape;
 import com.comp2042.model.logic.BrickRotator;
-import com.comp2042.model.logic.MatrixOperations;
-import com.comp2042.model.logic.NextShapeInfo;
-
-import java.awt.*;
 
 /**
  * Manages the position, movement, rotation, and hold/swap logic for the *current* * falling Tetris brick, isolating this functionality from the main {@code TetrisBoard}.
@@ -15,15 +12,37 @@ import java.awt.*;
  * <ul>
  * <li>**Single Responsibility Principle (SRP)**: Isolates all logic related to the active piece's control and state, delegating board interaction to the {@code TetrisBoard} and rotation state to the {@code BrickRotator}.</li>
  * </ul>
+ *
+ * <p>The position is held in primitive fields and every collision test reads the precompiled
+ * {@code BrickShape} row masks, so moves, rotations and the ghost search never allocate. The
+ * ghost landing row is cached and only searched again when the board's blocks, the brick's
+ * shape or rotation, or its column change, or when it moves up; falling towards the ghost
+ * keeps it valid.</p>
  */
 public class CurrentBrickController {
 
-    private Point currentOffset;
+    /**
+     * The row where every new brick appears.
+     */
+    public static final int SPAWN_Y = 1;
+
+    private final int spawnX;
+
+    private int currentX;
+    private int currentY;
     private final BrickRotator brickRotator;
     private final TetrisBoard board;
     private final BrickGenerator brickGenerator;
     private Brick heldBrick = null; // ADDED
     private boolean hasSwapped = false; // ADDED
+    // the last ghost search: the brick at ghostX fell from ghostFromY to ghostY
+    private BitBoard ghostBoard;
+    private long ghostBoardVersion;
+    private BrickShape ghostShape;
+    private int ghostRotation;
+    private int ghostX;
+    private int ghostFromY;
+    private int ghostY;
 
     /**
      * Constructs the CurrentBrickController, requiring dependencies for rotation, board state, and brick generation.
@@ -36,7 +55,26 @@ public class CurrentBrickController {
         this.brickRotator = brickRotator;
         this.board = board;
         this.brickGenerator = brickGenerator;
-        this.currentOffset = new Point(0, 0);
+        this.spawnX = spawnX(board.getBitBoard().getWidth());
+    }
+
+    /**
+     * Gets the column where new bricks appear on a board: just left of the middle, so a brick's
+     * 4x4 box is centred on even widths (column 4 on the standard 10-wide board).
+     *
+     * @param boardWidth The board width.
+     * @return The spawn column.
+     */
+    public static int spawnX(int boardWidth) {
+        return boardWidth / 2 - 1;
+    }
+
+    /**
+     * Gets the column where every new brick appears on this board.
+     * @return The spawn column.
+     */
+    public int getSpawnX() {
+        return spawnX;
     }
 
     /**
@@ -46,7 +84,8 @@ public class CurrentBrickController {
      * @param y The starting Y coordinate.
      */
     public void setInitialPosition(int x, int y) {
-        this.currentOffset = new Point(x, y);
+        this.currentX = x;
+        this.currentY = y;
     }
 
     /**
@@ -82,40 +121,52 @@ public class CurrentBrickController {
      * @return true if the rotation was successful, false otherwise.
      */
     public boolean rotateLeft() {
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean canRotate = checkConflict(nextShape.getShape(), currentOffset);
+        int nextRotation = brickRotator.getBrickShape().nextRotation(brickRotator.getRotation());
+        boolean canRotate = checkConflict(brickRotator.getBrickShape(), nextRotation, currentX, currentY);
         if (canRotate) {
             // update the shape by applying rotation, if can rotate
-            brickRotator.setCurrentShape(nextShape.getPosition());
+            brickRotator.setCurrentShape(nextRotation);
         }
         return canRotate;
     }
 
+    /**
+     * Moves the brick straight down to its landing row. The landing row is looked up once
+     * instead of stepping down one row at a time.
+     *
+     * @return The number of rows the brick fell.
+     */
+    public int hardDrop() {
+        int landingY = getShadowY();
+        int distance = landingY - currentY;
+        currentY = landingY;
+        return distance;
+    }
+
     /**
      * Moves the current brick up by a specified number of rows. This is used when a rising row is added from the bottom.
      *
      * @param y The number of rows to move up.
      */
     public void moveUp(int y) {
-        currentOffset.translate(0, -y);
+        currentY -= y;
     }
 
     /**
-     * The core logic for movement. Calculates the new offset and calls {@code checkConflict}.
-     * If the new position is safe, the {@code currentOffset} is updated.
+     * The core logic for movement. Calculates the new position and calls {@code checkConflict}.
+     * If the new position is safe, {@code currentX} and {@code currentY} are updated.
      *
      * @param dx The change in the X coordinate.
      * @param dy The change in the Y coordinate.
      * @return true if the movement was executed, false otherwise.
      */
     private boolean offsetMovement(int dx, int dy) {
-        // create a new point/offset based on the current brick position
-        Point newOffset = new Point(currentOffset);
-        newOffset.translate(dx, dy);
-        boolean noConflict = checkConflict(brickRotator.getCurrentShape(), newOffset);
+        int newX = currentX + dx;
+        int newY = currentY + dy;
         // return check if moving brick to new position will cause a collision
-        if (noConflict) {
-            currentOffset = newOffset;
+        if (checkConflict(brickRotator.getBrickShape(), brickRotator.getRotation(), newX, newY)) {
+            currentX = newX;
+            currentY = newY;
             return true;
         } else {
             return false;
@@ -123,27 +174,38 @@ public class CurrentBrickController {
     }
 
     /**
-     * Checks for collision by delegating to {@code MatrixOperations.intersect}.
-     * A result of `true` means NO conflict, as the method returns the negation of `MatrixOperations.intersect`.
+     * Checks for collision by delegating to the board's {@code BitBoard}.
+     * A result of `true` means NO conflict, as the method returns the negation of `BitBoard.intersects`.
      *
-     * @param shape The 2D matrix of the brick shape to check.
-     * @param newOffset The target position (x, y) for the check.
+     * @param shape The precompiled shape of the brick to check.
+     * @param rotation The rotation index of the shape.
+     * @param x The target X position for the check.
+     * @param y The target Y position for the check.
      * @return true if there is no conflict, false if a collision occurs.
      */
-    private boolean checkConflict(int[][] shape, Point newOffset) {
-        // create a copy of the current game matrix so that the original matrix will not be modified
-        int[][] currentMatrix = board.getBoardMatrix();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, shape, (int) newOffset.getX(), (int) newOffset.getY());
+    private boolean checkConflict(BrickShape shape, int rotation, int x, int y) {
+        // test the shape row by row against the bitmasks of the fixed blocks
+        boolean conflict = board.getBitBoard().intersects(shape, rotation, x, y);
         return !conflict;
     }
 
+    /**
+     * Checks if the brick overlaps a block or leaves the board where it stands, which happens
+     * once rising rows push the stack into it.
+     *
+     * @return true if the brick is blocked in place.
+     */
+    public boolean isBlocked() {
+        return !checkConflict(brickRotator.getBrickShape(), brickRotator.getRotation(), currentX, currentY);
+    }
+
     /**
      * Gets the current X position of the brick.
      *
      * @return The X coordinate.
      */
     public int getX() {
-        return (int) currentOffset.getX();
+        return currentX;
     }
 
     /**
@@ -152,7 +214,7 @@ public class CurrentBrickController {
      * @return The Y coordinate.
      */
     public int getY() {
-        return (int) currentOffset.getY();
+        return currentY;
     }
 
     /**
@@ -165,18 +227,32 @@ public class CurrentBrickController {
     }
 
     /**
-     * Calculates the final landing position (shadow position) of the current brick by simulating its fall.
+     * Calculates the final landing row (shadow position) of the current brick. The board's
+     * column surfaces give the answer directly; only a brick tucked under an overhang is
+     * dropped row by row. The shadow always shares the brick's X position.
+     *
+     * <p>Every row between the one the last search started from and the landing row is free,
+     * so as long as the board, the shape, the rotation and the column are the same and the
+     * brick is still on that path, the cached landing row is returned without searching.</p>
      *
-     * @return The Point representing the final landing position of the shadow piece.
+     * @return The Y coordinate of the shadow piece.
      */
-    public Point getShadowPosition() {
-        Point shadowOffset = new Point(currentOffset);
-
-        // Simulate falling until moving one step down *further* causes a conflict.
-        while (checkConflict(brickRotator.getCurrentShape(), new Point(shadowOffset.x, shadowOffset.y + 1))) {
-            shadowOffset.translate(0, 1);
+    public int getShadowY() {
+        BitBoard bitBoard = board.getBitBoard();
+        BrickShape shape = brickRotator.getBrickShape();
+        int rotation = brickRotator.getRotation();
+        if (bitBoard == ghostBoard && bitBoard.getVersion() == ghostBoardVersion && shape == ghostShape
+                && rotation == ghostRotation && currentX == ghostX && currentY >= ghostFromY && currentY <= ghostY) {
+            return ghostY;
         }
-        return shadowOffset;
+        ghostBoard = bitBoard;
+        ghostBoardVersion = bitBoard.getVersion();
+        ghostShape = shape;
+        ghostRotation = rotation;
+        ghostX = currentX;
+        ghostFromY = currentY;
+        ghostY = bitBoard.dropRow(shape, rotation, currentX, currentY);
+        return ghostY;
     }
 
     /**
@@ -206,10 +282,8 @@ public class CurrentBrickController {
             heldBrick = currentBrick;
         }
 
-        // 3. Check for collision at spawn point (4, 1) with the piece to spawn
-        Point spawnOffset = new Point(4, 1);
-        int[][] initialShape = brickToSpawn.getShapeMatrix().getFirst();
-        if (!checkConflict(initialShape, spawnOffset)) {
+        // 3. Check for collision at the spawn point with the piece to spawn
+        if (!checkConflict(brickToSpawn.getBrickShape(), 0, spawnX, SPAWN_Y)) {
             // Cannot spawn the piece without conflict. Cancel the hold/swap.
             if (heldBrick != currentBrick) {
                 // If it was a swap, revert the swap in the controller state.
@@ -221,17 +295,26 @@ public class CurrentBrickController {
 
         // 4. Perform the actual swap/spawn
         brickRotator.setBrick(brickToSpawn);
-        setInitialPosition(spawnOffset.x, spawnOffset.y);
+        setInitialPosition(spawnX, SPAWN_Y);
         this.hasSwapped = true;
     }
 
+    /**
+     * Gets the id of the brick in the hold queue.
+     *
+     * @return The held brick's id, or -1 if no brick is held.
+     */
+    public int getHeldBrickId() {
+        return heldBrick != null ? heldBrick.getBrickShape().getId() : -1;
+    }
+
     /**
      * Gets the shape matrix of the brick currently in the hold queue.
      *
      * @return The 2D matrix of the held brick's first rotation state, or null if no brick is held.
      */
     public int[][] getHeldBrickShape() {
-        return heldBrick != null ? heldBrick.getShapeMatrix().getFirst() : null;
+        return heldBrick != null ? heldBrick.getBrickShape().getMatrix(0) : null;
     }
 
     /**
@@ -0,0 +1,146 @@
+package com.comp2042.model.gameBoard;
+
+import java.util.Arrays;
+
+/**
+ * Records which cells of the board changed since the renderer last drew it.
+ *
+ * <p>Changes are kept as one column bitset per row, a {@code long} word per 64 columns, plus the range of rows that have any bit
+ * set. A lock marks its four cells, while a line clear or a rising row marks whole rows for the
+ * range that shifted. Marks accumulate until the renderer calls {@link #clear()}, so several
+ * board changes between two frames are drawn together. Marking never allocates.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Dirty Flag**: The renderer only updates the cells flagged here instead of the whole board.</li>
+ * </ul>
+ */
+public final class DirtyRegion {
+
+    private final int height;
+    private final int words;
+    private final long[] masks;
+    private final long lastWord;
+    private int top;
+    private int bottom;
+
+    /**
+     * Constructs an empty region for a board.
+     *
+     * @param width The number of board columns.
+     * @param height The number of board rows.
+     */
+    public DirtyRegion(int width, int height) {
+        this.height = height;
+        this.words = BitBoard.wordCount(width);
+        this.masks = new long[height * words];
+        this.lastWord = -1L >>> (words * Long.SIZE - width);
+        clear();
+    }
+
+    /**
+     * Marks a single cell as changed.
+     *
+     * @param row The row index.
+     * @param col The column index.
+     */
+    public void markCell(int row, int col) {
+        masks[row * words + (col >>> 6)] |= 1L << col;
+        top = Math.min(top, row);
+        bottom = Math.max(bottom, row);
+    }
+
+    /**
+     * Marks every cell of a range of rows as changed.
+     *
+     * @param fromRow The first row, inclusive.
+     * @param toRow The last row, inclusive.
+     */
+    public void markRows(int fromRow, int toRow) {
+        if (fromRow > toRow) {
+            return;
+        }
+        if (words == 1) {
+            Arrays.fill(masks, fromRow, toRow + 1, lastWord);
+        } else {
+            Arrays.fill(masks, fromRow * words, (toRow + 1) * words, -1L);
+            for (int row = fromRow; row <= toRow; row++) {
+                masks[row * words + words - 1] = lastWord;
+            }
+        }
+        top = Math.min(top, fromRow);
+        bottom = Math.max(bottom, toRow);
+    }
+
+    /**
+     * Marks the whole board as changed.
+     */
+    public void markAll() {
+        markRows(0, height - 1);
+    }
+
+    /**
+     * Checks if nothing changed since the last {@link #clear()}.
+     * @return true if no cell is marked.
+     */
+    public boolean isEmpty() {
+        return top > bottom;
+    }
+
+    /**
+     * Gets the first row with a marked cell.
+     * @return The top row, or the board height if the region is empty.
+     */
+    public int getTop() {
+        return top;
+    }
+
+    /**
+     * Gets the last row with a marked cell.
+     * @return The bottom row, or -1 if the region is empty.
+     */
+    public int getBottom() {
+        return bottom;
+    }
+
+    /**
+     * Gets the changed columns among the first 64 of a row, which is the whole row on boards
+     * up to 64 columns wide.
+     *
+     * @param row The row index.
+     * @return The column bitmask (bit {@code c} is column {@code c}).
+     */
+    public long getMask(int row) {
+        return masks[row * words];
+    }
+
+    /**
+     * Gets the changed columns of one word of a row.
+     *
+     * @param row The row index.
+     * @param word The word index, covering columns {@code 64 * word} to {@code 64 * word + 63}.
+     * @return The column bitmask (bit {@code c & 63} is column {@code c}).
+     */
+    public long getMask(int row, int word) {
+        return masks[row * words + word];
+    }
+
+    /**
+     * Gets the number of {@code long} words each row of the region takes.
+     * @return The words per row.
+     */
+    public int getWordCount() {
+        return words;
+    }
+
+    /**
+     * Forgets every mark, typically once the renderer has drawn them.
+     */
+    public void clear() {
+        if (top <= bottom) {
+            Arrays.fill(masks, top * words, (bottom + 1) * words, 0L);
+        }
+        top = height;
+        bottom = -1;
+    }
+}
@@ -25,6 +25,14 @@ public interface GameStats {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Retrieves the cells of the board matrix that changed since the view last picked them up.
+     * The view clears the region once it has copied or drawn the marked cells.
+     *
+     * @return The live {@code DirtyRegion} of the board.
+     */
+    DirtyRegion getDirtyRegion();
+
     /**
      * Retrieves a container object holding the transient information needed for rendering
      * the current falling brick, its ghost piece, the next brick, and the held brick.
@@ -35,6 +35,24 @@ public interface Gameplay {
      */
     void addRisingRow(int level);
 
+    /**
+     * Queues garbage lines to rise into the board later, e.g. lines sent by an opponent.
+     *
+     * @param lines The number of lines.
+     * @param numHoles The number of holes in each line.
+     * @return The number of lines actually queued; lines beyond the queue's capacity are dropped.
+     */
+    int queueGarbage(int lines, int numHoles);
+
+    /**
+     * Inserts up to {@code maxLines} of the queued garbage lines at the bottom in one pass,
+     * shifting all existing rows (including the current falling brick) up by that many units.
+     *
+     * @param maxLines The most lines to insert.
+     * @return The number of lines inserted.
+     */
+    int insertGarbage(int maxLines);
+
     /**
      * Generates a new random brick, spawns it at the starting position, and sets it as the
      * active piece.
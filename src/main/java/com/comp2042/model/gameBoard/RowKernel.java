@@ -0,0 +1,99 @@
+package com.comp2042.model.gameBoard;
+
+/**
+ * The bulk row operations behind {@link BitBoard} and the search board: counting the blocks of a
+ * row, checking if it is full, and converting between a colour row and its occupancy words.
+ *
+ * <p>Rows are runs of {@code long} words in a flat array, laid out as in {@code BitBoard}: bit
+ * {@code c & 63} of word {@code c >> 6} is column {@code c}. Two implementations exist: a plain
+ * scalar one, and one built on the {@code jdk.incubator.vector} API that works on several
+ * cells or words per instruction, which pays off on wide boards. The vector one is only
+ * available when the JVM is started with {@code --add-modules jdk.incubator.vector}; it is
+ * loaded reflectively, so without the module the game silently runs on the scalar one.
+ * {@value #KERNEL_PROPERTY} can force either ({@code scalar} or {@code vector}).</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Strategy Pattern**: The board code is the same whichever implementation does the row work.</li>
+ * <li>**Factory Method**: {@link #get()} picks the implementation once, from the startup setting and what the JVM supports.</li>
+ * </ul>
+ */
+public interface RowKernel {
+
+    /**
+     * The system property that selects the row kernel.
+     */
+    String KERNEL_PROPERTY = "tetris.kernel";
+
+    /**
+     * Counts the occupied cells of a row.
+     *
+     * @param rows The row words.
+     * @param offset The index of the first word of the row.
+     * @param words The number of words per row.
+     * @return The number of set bits.
+     */
+    int countCells(long[] rows, int offset, int words);
+
+    /**
+     * Checks if every column of a row is occupied.
+     *
+     * @param rows The row words.
+     * @param offset The index of the first word of the row.
+     * @param words The number of words per row.
+     * @param lastWord The columns of the last word that are on the board.
+     * @return true if the row is full.
+     */
+    boolean isFull(long[] rows, int offset, int words, long lastWord);
+
+    /**
+     * Builds the occupancy words of a colour row, a cell being occupied when its colour is not 0.
+     *
+     * @param colourRow The colour row.
+     * @param width The number of columns.
+     * @param rows The row words to overwrite.
+     * @param offset The index of the first word of the row.
+     * @return The number of occupied cells.
+     */
+    int pack(int[] colourRow, int width, long[] rows, int offset);
+
+    /**
+     * Paints a colour row from its occupancy words: occupied cells get {@code colour}, the rest 0.
+     *
+     * @param rows The row words.
+     * @param offset The index of the first word of the row.
+     * @param width The number of columns.
+     * @param colour The colour code of the occupied cells.
+     * @param colourRow The colour row to overwrite.
+     */
+    void unpack(long[] rows, int offset, int width, int colour, int[] colourRow);
+
+    /**
+     * Gets the kernel the game runs on, chosen once with {@value #KERNEL_PROPERTY}. Unless it
+     * asks for {@code scalar}, the vector kernel is used whenever the JVM supports it.
+     *
+     * @return The selected kernel.
+     */
+    static RowKernel get() {
+        return RowKernels.SELECTED;
+    }
+
+    /**
+     * Gets the scalar kernel, which works everywhere.
+     *
+     * @return The scalar kernel.
+     */
+    static RowKernel scalar() {
+        return RowKernels.SCALAR;
+    }
+
+    /**
+     * Loads the vector kernel.
+     *
+     * @return The vector kernel, or null if the {@code jdk.incubator.vector} module is missing
+     *         or the CPU has no useful vector registers.
+     */
+    static RowKernel vector() {
+        return RowKernels.loadVector();
+    }
+}
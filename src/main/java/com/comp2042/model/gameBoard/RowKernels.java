@@ -0,0 +1,53 @@
+package com.comp2042.model.gameBoard;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Picks the {@link RowKernel} implementation. The vector kernel is never referenced directly,
+ * so this class (and the game) still loads when the incubator module is missing.
+ */
+final class RowKernels {
+
+    private static final Logger LOGGER = Logger.getLogger(RowKernels.class.getName());
+    private static final String VECTOR_KERNEL = "com.comp2042.model.gameBoard.VectorRowKernel";
+
+    static final RowKernel SCALAR = new ScalarRowKernel();
+    static final RowKernel SELECTED = select();
+
+    //We don't want to instantiate this utility class
+    private RowKernels() {
+
+    }
+
+    /**
+     * Loads the vector kernel reflectively.
+     *
+     * @return The kernel, or null if it cannot run on this JVM.
+     */
+    static RowKernel loadVector() {
+        try {
+            return (RowKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // no --add-modules jdk.incubator.vector, or no vector registers worth using
+            LOGGER.log(Level.FINE, "Vector row kernel unavailable.", e);
+            return null;
+        }
+    }
+
+    private static RowKernel select() {
+        String setting = System.getProperty(RowKernel.KERNEL_PROPERTY, "auto");
+        if ("scalar".equalsIgnoreCase(setting)) {
+            return SCALAR;
+        }
+        RowKernel vector = loadVector();
+        if (vector == null) {
+            if ("vector".equalsIgnoreCase(setting)) {
+                LOGGER.log(Level.WARNING, "Vector row kernel requested but unavailable, using the scalar one.");
+            }
+            return SCALAR;
+        }
+        LOGGER.log(Level.FINE, "Using the vector row kernel.");
+        return vector;
+    }
+}
@@ -0,0 +1,33 @@
+package com.comp2042.model.gameBoard;
+
+/**
+ * How a {@link BitBoard} lays out its rows in memory. Both modes give the same results through
+ * the same accessors; they only differ in what it costs to move rows around.
+ */
+public enum RowStorage {
+    /**
+     * Row {@code r} is always stored in slot {@code r}, so a rising row shifts the reference of
+     * every row on the board. Cheapest to index, and a good fit for the standard 10x25 board.
+     */
+    SHIFTED,
+    /**
+     * Rows live in a circular array of slots starting at a moving base index. Garbage rising
+     * from the floor only moves the base and rewrites the new rows, however tall the board is,
+     * so this suits tall custom boards and garbage-heavy modes.
+     */
+    CIRCULAR;
+
+    // below this, shifting a few dozen row references is cheaper than indexing through the ring
+    private static final int CIRCULAR_MIN_HEIGHT = 64;
+
+    /**
+     * Picks the storage suited to a board height: shifted rows for ordinary boards and
+     * circular rows for tall ones.
+     *
+     * @param height The board height.
+     * @return The row storage mode.
+     */
+    public static RowStorage forHeight(int height) {
+        return height >= CIRCULAR_MIN_HEIGHT ? CIRCULAR : SHIFTED;
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.model.gameBoard;
+
+/**
+ * The {@link RowKernel} that works one word or one cell at a time. It runs on any JVM and is
+ * the fastest choice for the standard board, whose rows are a single word.
+ */
+final class ScalarRowKernel implements RowKernel {
+
+    @Override
+    public int countCells(long[] rows, int offset, int words) {
+        int count = 0;
+        for (int i = offset, end = offset + words; i < end; i++) {
+            count += Long.bitCount(rows[i]);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isFull(long[] rows, int offset, int words, long lastWord) {
+        int last = offset + words - 1;
+        for (int i = offset; i < last; i++) {
+            if (rows[i] != -1L) {
+                return false;
+            }
+        }
+        return rows[last] == lastWord;
+    }
+
+    @Override
+    public int pack(int[] colourRow, int width, long[] rows, int offset) {
+        int count = 0;
+        for (int w = 0, words = BitBoard.wordCount(width); w < words; w++) {
+            long word = 0;
+            for (int c = w << 6, end = Math.min(width, c + Long.SIZE); c < end; c++) {
+                if (colourRow[c] != 0) {
+                    word |= 1L << c;
+                }
+            }
+            rows[offset + w] = word;
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    @Override
+    public void unpack(long[] rows, int offset, int width, int colour, int[] colourRow) {
+        for (int c = 0; c < width; c++) {
+            colourRow[c] = (rows[offset + (c >>> 6)] & (1L << c)) != 0 ? colour : 0;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.comp2042.model.gameBoard;
 
 import com.comp2042.model.brickShapeGenerator.Brick;
-import com.comp2042.model.brickShapeGenerator.BrickGenerator;
-import com.comp2042.model.brickShapeGenerator.RandomBrickGenerator;
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.brickShapeGenerator.SeededBrickGenerator;
 import com.comp2042.model.logic.*;
 import com.comp2042.view.data.ViewData;
 
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
 /**
  * The core model class representing the Tetris game board and state.
  * It implements the composite {@code Board} interface, which delegates to the
@@ -15,38 +19,128 @@ import com.comp2042.view.data.ViewData;
  * <ul>
  * <li>**Composition**: Delegates brick movement logic to the {@code CurrentBrickController} to uphold SRP.</li>
  * </ul>
+ *
+ * <p>Every game is driven by a seed: the piece sequence and the rising-row holes are both derived
+ * from it, so a game can be replayed exactly by starting it with the same seed.</p>
  */
 public class TetrisBoard implements Board {
 
+    /**
+     * How many upcoming bricks the view data lists for the next queue.
+     */
+    public static final int PREVIEW_COUNT = 5;
+    /**
+     * The width of the standard board.
+     */
+    public static final int STANDARD_WIDTH = 10;
+    /**
+     * The height of the standard board, including its two hidden rows.
+     */
+    public static final int STANDARD_HEIGHT = 25;
+    /**
+     * The smallest width and height a board can be played on: room for a brick's 4x4 spawn box
+     * next to the spawn column and under the hidden rows.
+     */
+    public static final int MIN_SIZE = 6;
+
+    private static final int GARBAGE_COLOUR = 8;
+    private static final int SCORE_PER_LINE_SQUARED = 50;
+    // keeps the garbage stream independent of the piece stream for the same seed
+    private static final long GARBAGE_SEED_SALT = 0x9E3779B97F4A7C15L;
+
     private final int width;
     private final int height;
-    private final BrickGenerator brickGenerator;
+    private final SeededBrickGenerator brickGenerator;
+    private final GarbageGenerator garbageGenerator;
+    private final GarbageQueue garbageQueue;
+    private final SplittableRandom seedSource;
+    private long seed;
+    private long nextSeed;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
+    private final BitBoard bitBoard;
+    private final BrickRandomizer randomizer;
     private final Score score;
     private final CurrentBrickController brickController;
     private final GameTime gameTime;
     private final CountClearedRows countRows;
     private final LevelUp levelUp;
+    // one reusable result per number of lines cleared, so a lock never allocates
+    private final ClearFullRow[] clearResults;
+    // double-buffered view data, see getViewData()
+    private final ViewData[] views = {new ViewData(PREVIEW_COUNT), new ViewData(PREVIEW_COUNT)};
+    private int frontView;
 
     /**
-     * Constructs the TetrisBoard, initializing the game matrix and all supporting components
-     * (generators, controllers, and stats trackers).
+     * Constructs the TetrisBoard with a random seed and the uniform randomizer.
      *
      * @param width The width of the game board (number of columns).
      * @param height The height of the game board (number of rows).
      */
     public TetrisBoard(int width, int height) {
+        this(width, height, ThreadLocalRandom.current().nextLong(), BrickRandomizer.UNIFORM);
+    }
+
+    /**
+     * Constructs the TetrisBoard, initializing the game matrix and all supporting components
+     * (generators, controllers, and stats trackers). Tall boards store their rows in a ring,
+     * see {@link RowStorage#forHeight(int)}.
+     *
+     * @param width The width of the game board (number of columns).
+     * @param height The height of the game board (number of rows).
+     * @param seed The seed of the first game; later games draw their seeds from it.
+     * @param randomizer The strategy used to choose the piece sequence.
+     */
+    public TetrisBoard(int width, int height, long seed, BrickRandomizer randomizer) {
+        this(width, height, seed, randomizer, RowStorage.forHeight(height));
+    }
+
+    /**
+     * Constructs the TetrisBoard with a chosen row storage, e.g. {@link RowStorage#CIRCULAR} for
+     * tall custom boards where rising garbage would otherwise move every row.
+     *
+     * @param width The width of the game board (number of columns).
+     * @param height The height of the game board (number of rows).
+     * @param seed The seed of the first game; later games draw their seeds from it.
+     * @param randomizer The strategy used to choose the piece sequence.
+     * @param storage How the board rows are laid out.
+     */
+    public TetrisBoard(int width, int height, long seed, BrickRandomizer randomizer, RowStorage storage) {
+        this(width, height, seed, randomizer, storage, System::nanoTime);
+    }
+
+    /**
+     * Constructs the TetrisBoard with the clock its game timer reads, e.g. a simulated clock for
+     * headless games so their times do not depend on how fast the machine plays them.
+     *
+     * @param width The width of the game board (number of columns).
+     * @param height The height of the game board (number of rows).
+     * @param seed The seed of the first game; later games draw their seeds from it.
+     * @param randomizer The strategy used to choose the piece sequence.
+     * @param storage How the board rows are laid out.
+     * @param clock A monotonic clock returning the current time in nanoseconds.
+     */
+    public TetrisBoard(int width, int height, long seed, BrickRandomizer randomizer, RowStorage storage, LongSupplier clock) {
         this.width = width;
         this.height = height;
-        currentGameMatrix = new int[height][width];
-        brickGenerator = new RandomBrickGenerator();
+        bitBoard = new BitBoard(width, height, storage);
+        this.seed = seed;
+        this.seedSource = new SplittableRandom(seed);
+        this.nextSeed = seed;
+        this.randomizer = randomizer;
+        brickGenerator = randomizer.create(seed);
+        garbageGenerator = new GarbageGenerator(seed ^ GARBAGE_SEED_SALT);
+        // more lines than rows would push each other off the board anyway
+        garbageQueue = new GarbageQueue(garbageGenerator, width, height);
         brickRotator = new BrickRotator();
         score = new Score();
         this.brickController = new CurrentBrickController(brickRotator, this, brickGenerator);
-        gameTime = new GameTime();
+        gameTime = new GameTime(clock);
         this.countRows = new CountClearedRows();
         this.levelUp = new LevelUp();
+        this.clearResults = new ClearFullRow[height + 1];
+        for (int lines = 0; lines <= height; lines++) {
+            clearResults[lines] = new ClearFullRow(lines, bitBoard.getColourMatrix(), SCORE_PER_LINE_SQUARED * lines * lines);
+        }
     }
 
     /**
@@ -81,6 +175,14 @@ public class TetrisBoard implements Board {
         return brickController.rotateLeft();
     }
 
+    /**
+     * @see BrickMovement#hardDropBrick()
+     */
+    @Override
+    public int hardDropBrick() {
+        return brickController.hardDrop();
+    }
+
     /**
      * @see BrickMovement#holdBrick()
      */
@@ -90,7 +192,7 @@ public class TetrisBoard implements Board {
     }
 
     /**
-     * Generates a new random brick, spawns it at (4, 1), resets the hold-swap state,
+     * Generates a new random brick, spawns it at the top centre of the board, resets the hold-swap state,
      * and checks for immediate game over.
      *
      * @return true if the new brick immediately collides (Game Over), false otherwise.
@@ -105,18 +207,20 @@ public class TetrisBoard implements Board {
         // set the newly generated brick as the active brick for rotation and movement
         brickRotator.setBrick(currentBrick);
         // manually set the starting position of the new brick
-        brickController.setInitialPosition(4, 1);
+        brickController.setInitialPosition(brickController.getSpawnX(), CurrentBrickController.SPAWN_Y);
         // Check if the new brick immediately conflicts with existing blocks in the game matrix
         // If this returns true, means the game is over
-        return MatrixOperations.intersect(currentGameMatrix, brickController.getCurrentShape(), brickController.getX(), brickController.getY());
+        return bitBoard.intersects(brickRotator.getBrickShape(), brickRotator.getRotation(),
+                brickController.getX(), brickController.getY());
     }
 
     /**
      * Implements the Rising Row feature.
      * <ol>
      * <li>Determines the number of holes (max 3) based on the current level.</li>
-     * <li>Uses {@code MatrixOperations.implementRisingRow} to add a garbage row at the bottom and shift all other rows up.</li>
-     * <li>Moves the current falling brick up by 1 position to maintain its relative position to the board.</li>
+     * <li>Queues a garbage line with that many holes.</li>
+     * <li>Inserts every queued line at the bottom of the board in place, shifting all other rows up
+     * and moving the current falling brick up with them.</li>
      * </ol>
      *
      * @param level The current game level, which determines the complexity (number of holes)
@@ -128,11 +232,50 @@ public class TetrisBoard implements Board {
         if (numHoles > 3) {
             numHoles = 3;
         }
-        // 1. Add the row to the bottom of the matrix, shifting all rows up.
-        currentGameMatrix = MatrixOperations.implementRisingRow(currentGameMatrix, numHoles);
+        queueGarbage(1, numHoles);
+        insertGarbage(garbageQueue.size());
+    }
 
-        // 2. Move the current falling brick up by 1 position.
-        brickController.moveUp(1);
+    /**
+     * @see Gameplay#queueGarbage(int, int)
+     */
+    @Override
+    public int queueGarbage(int lines, int numHoles) {
+        return garbageQueue.add(lines, Math.min(numHoles, width));
+    }
+
+    /**
+     * Inserts the oldest queued garbage lines with one row shift of the bitboard, whatever
+     * their number, and moves the falling brick up by the same amount.
+     *
+     * @see Gameplay#insertGarbage(int)
+     */
+    @Override
+    public int insertGarbage(int maxLines) {
+        int lines = Math.min(maxLines, garbageQueue.size());
+        if (lines <= 0) {
+            return 0;
+        }
+        bitBoard.addRisingRows(garbageQueue.getHoleMasks(), lines, GARBAGE_COLOUR);
+        garbageQueue.remove(lines);
+        brickController.moveUp(lines);
+        return lines;
+    }
+
+    /**
+     * Sets the cheese pattern of the garbage queued from now on.
+     * @param pattern The garbage pattern.
+     */
+    public void setGarbagePattern(GarbagePattern pattern) {
+        garbageQueue.setPattern(pattern);
+    }
+
+    /**
+     * Gets the garbage lines waiting to rise.
+     * @return The garbage queue.
+     */
+    public GarbageQueue getGarbageQueue() {
+        return garbageQueue;
     }
 
     /**
@@ -141,7 +284,7 @@ public class TetrisBoard implements Board {
     @Override
     public void mergeBrickToBackground() {
         // merge the current falling brick into the background game matrix so it becomes a fixed part of the board
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickController.getCurrentShape(), brickController.getX(), brickController.getY());
+        bitBoard.merge(brickController.getCurrentShape(), brickController.getX(), brickController.getY());
     }
 
     /**
@@ -149,14 +292,14 @@ public class TetrisBoard implements Board {
      */
     @Override
     public ClearFullRow clearRows() {
-        // Check for any complete rows and remove them if found
-        ClearFullRow clearFullRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        // Update the game matrix with the new matrix after clearing rows
-        currentGameMatrix = clearFullRow.getNewMatrix();
-        countRows.add(clearFullRow.getLinesRemoved());
-        levelUp.checkAndAdvance(clearFullRow.getLinesRemoved());
+        // Only the rows the brick touched can have become full; they are removed in place
+        int linesRemoved = bitBoard.clearFullRows();
+        if (linesRemoved > 0) {
+            countRows.add(linesRemoved);
+            levelUp.checkAndAdvance(linesRemoved);
+        }
         // Return information about the cleared rows
-        return clearFullRow;
+        return clearResults[linesRemoved];
     }
 
     /**
@@ -164,6 +307,22 @@ public class TetrisBoard implements Board {
      */
     @Override
     public void newGame() {
+        // the first game uses the constructor seed, every later one the next seed in the chain
+        long gameSeed = nextSeed;
+        nextSeed = seedSource.nextLong();
+        newGame(gameSeed);
+    }
+
+    /**
+     * Starts a new game whose pieces and garbage are fully determined by {@code seed}.
+     *
+     * @param seed The seed of the game.
+     */
+    public void newGame(long seed) {
+        this.seed = seed;
+        brickGenerator.reseed(seed);
+        garbageGenerator.reseed(seed ^ GARBAGE_SEED_SALT);
+        garbageQueue.clear();
         resetStats();
         gameTime.start();
         // Create and spawn a new brick to start the game
@@ -175,8 +334,8 @@ public class TetrisBoard implements Board {
      * This includes clearing the matrix, score, timer, level, and held brick.
      */
     private void resetStats() {
-        // Reset the game board by creating a new empty matrix
-        currentGameMatrix = new int[height][width];
+        // Reset the game board by emptying every cell
+        bitBoard.clear();
         // Reset the player's score
         score.reset();
         gameTime.reset();
@@ -187,36 +346,159 @@ public class TetrisBoard implements Board {
     }
 
     /**
-     * Compiles all necessary rendering data into a single {@code ViewData} object for the GUI.
-     * This includes the current brick's shape and position, its shadow position, the next brick's
-     * shape from the generator, and the held brick's shape.
+     * Compiles all necessary rendering data into a {@code ViewData} object for the GUI.
+     * This includes the current brick's shape and position, its shadow position, the ids of
+     * the upcoming bricks from the generator, and the held brick's id.
+     *
+     * <p>Nothing is allocated or copied: the view data only references the shared brick shapes.
+     * The board keeps two instances. If the game did not change since the last call, the same
+     * instance is returned again; otherwise the other one is refilled, so the view data handed
+     * out before stays intact for whoever still reads it.</p>
      *
      * @return A {@code ViewData} object with the current game view state.
      * @see GameStats#getViewData()
      */
     @Override
     public ViewData getViewData() {
-        // create and return view-related data including:
-        // current brick shape
-        // current brick X position
-        // current brick Y position
-        // next brick preview shape
-        return new ViewData(brickController.getCurrentShape(),
-                brickController.getX(),
-                brickController.getY(),
-                brickGenerator.getNextBrick().getShapeMatrix().getFirst(),
-                brickController.getShadowPosition().x,
-                brickController.getShadowPosition().y,
-                brickController.getHeldBrickShape());
+        int shadowY = brickController.getShadowY();
+        ViewData front = views[frontView];
+        if (isCurrent(front, shadowY)) {
+            return front;
+        }
+        frontView ^= 1;
+        ViewData back = views[frontView];
+        back.set(brickRotator.getBrickShape(), brickRotator.getRotation(), brickController.getX(),
+                brickController.getY(), shadowY, brickController.getHeldBrickId());
+        // ids of the upcoming bricks, so the previews can tell when they change
+        for (int i = 0; i < PREVIEW_COUNT; i++) {
+            back.setNextBrickId(i, brickGenerator.peekBrickId(i));
+        }
+        return back;
+    }
+
+    /**
+     * Checks if a view data still describes the current brick, ghost piece and queues.
+     */
+    private boolean isCurrent(ViewData view, int shadowY) {
+        if (view.getBrickShape() != brickRotator.getBrickShape()
+                || view.getRotation() != brickRotator.getRotation()
+                || view.getxPosition() != brickController.getX()
+                || view.getyPosition() != brickController.getY()
+                || view.getShadowYPosition() != shadowY
+                || view.getHeldBrickId() != brickController.getHeldBrickId()) {
+            return false;
+        }
+        for (int i = 0; i < PREVIEW_COUNT; i++) {
+            if (view.getNextBrickId(i) != brickGenerator.peekBrickId(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
+     * Returns the colour plane of the bitboard. The matrix is kept for rendering and for
+     * source compatibility; it must be treated as read-only.
+     *
      * @see GameStats#getBoardMatrix()
      */
     @Override
     public int[][] getBoardMatrix() {
         // Return the current state of the game board matrix
-        return currentGameMatrix;
+        return bitBoard.getColourMatrix();
+    }
+
+    /**
+     * @see GameStats#getDirtyRegion()
+     */
+    @Override
+    public DirtyRegion getDirtyRegion() {
+        return bitBoard.getDirtyRegion();
+    }
+
+    /**
+     * Gets the seed of the current game.
+     *
+     * @return The seed that reproduces the current game's pieces and garbage.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the strategy that chooses the piece sequence.
+     *
+     * @return The brick randomizer.
+     */
+    public BrickRandomizer getRandomizer() {
+        return randomizer;
+    }
+
+    /**
+     * Gets the generator of the piece sequence, which also offers lookahead beyond the next brick.
+     *
+     * @return The seeded brick generator.
+     */
+    public SeededBrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    /**
+     * Gets the Zobrist key of the whole game state: the fixed blocks, the falling brick and the held brick.
+     *
+     * @return The state key.
+     */
+    public long getStateHash() {
+        return Zobrist.stateKey(bitBoard.getHash(), brickRotator.getBrickShape().getId(), brickController.getHeldBrickId());
+    }
+
+    /**
+     * Gets the rotator holding the falling brick and its rotation.
+     *
+     * @return The {@code BrickRotator} of the falling brick.
+     */
+    public BrickRotator getBrickRotator() {
+        return brickRotator;
+    }
+
+    /**
+     * Checks if the falling brick overlaps the fixed blocks where it stands, e.g. after rising
+     * rows pushed the stack into it.
+     *
+     * @return true if the brick is blocked, which ends the game.
+     */
+    public boolean isBrickBlocked() {
+        return brickController.isBlocked();
+    }
+
+    /**
+     * Gets the controller holding the falling brick's position and the held brick.
+     *
+     * @return The {@code CurrentBrickController} of the falling brick.
+     */
+    public CurrentBrickController getBrickController() {
+        return brickController;
+    }
+
+    /**
+     * Gets the bitboard holding the fixed blocks, used for fast collision checks.
+     *
+     * @return The {@code BitBoard} of this game board.
+     */
+    public BitBoard getBitBoard() {
+        return bitBoard;
+    }
+
+    /**
+     * Sets a single fixed cell on the board, keeping the bitboard in sync.
+     * Intended for setting up board states in tests.
+     *
+     * @param row The row index.
+     * @param col The column index.
+     * @param colour The colour code, or 0 to empty the cell.
+     */
+    void setCell(int row, int col, int colour) {
+        bitBoard.setCell(row, col, colour);
     }
 
     /**
@@ -0,0 +1,109 @@
+package com.comp2042.model.gameBoard;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link RowKernel} built on the {@code jdk.incubator.vector} API. Colour rows are packed
+ * and painted a whole vector of cells at a time, going through a lane mask instead of testing
+ * every cell, and rows of several words are counted and compared a vector of words at a time.
+ * Rows, or the ends of rows, that do not fill a vector fall back to the scalar loops.
+ *
+ * <p>Only ever loaded reflectively by {@code RowKernels}; referencing it directly would fail
+ * to link on a JVM started without the incubator module.</p>
+ */
+final class VectorRowKernel implements RowKernel {
+
+    private static final VectorSpecies<Integer> CELLS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> WORDS = LongVector.SPECIES_PREFERRED;
+
+    // rows narrower than a vector are left to the scalar loops
+    private final RowKernel scalar = new ScalarRowKernel();
+
+    /**
+     * Constructs the kernel.
+     *
+     * @throws UnsupportedOperationException if the CPU has no vector registers wider than a
+     *         couple of lanes, where the API would only emulate them.
+     */
+    VectorRowKernel() {
+        if (CELLS.length() < 4) {
+            throw new UnsupportedOperationException("No vector registers worth using.");
+        }
+    }
+
+    @Override
+    public int countCells(long[] rows, int offset, int words) {
+        int count = 0;
+        int w = 0;
+        for (int bound = WORDS.loopBound(words); w < bound; w += WORDS.length()) {
+            count += (int) LongVector.fromArray(WORDS, rows, offset + w)
+                    .lanewise(VectorOperators.BIT_COUNT)
+                    .reduceLanes(VectorOperators.ADD);
+        }
+        for (; w < words; w++) {
+            count += Long.bitCount(rows[offset + w]);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isFull(long[] rows, int offset, int words, long lastWord) {
+        int last = words - 1;
+        int w = 0;
+        for (int bound = WORDS.loopBound(last); w < bound; w += WORDS.length()) {
+            if (!LongVector.fromArray(WORDS, rows, offset + w).compare(VectorOperators.EQ, -1L).allTrue()) {
+                return false;
+            }
+        }
+        for (; w < last; w++) {
+            if (rows[offset + w] != -1L) {
+                return false;
+            }
+        }
+        return rows[offset + last] == lastWord;
+    }
+
+    @Override
+    public int pack(int[] colourRow, int width, long[] rows, int offset) {
+        if (width < CELLS.length()) {
+            return scalar.pack(colourRow, width, rows, offset);
+        }
+        int words = BitBoard.wordCount(width);
+        for (int w = 0; w < words; w++) {
+            rows[offset + w] = 0;
+        }
+        // a vector covers a power of two of at most 64 cells, so its bits never straddle two words
+        int c = 0;
+        for (int bound = CELLS.loopBound(width); c < bound; c += CELLS.length()) {
+            long cells = IntVector.fromArray(CELLS, colourRow, c).compare(VectorOperators.NE, 0).toLong();
+            rows[offset + (c >>> 6)] |= cells << c;
+        }
+        for (; c < width; c++) {
+            if (colourRow[c] != 0) {
+                rows[offset + (c >>> 6)] |= 1L << c;
+            }
+        }
+        return countCells(rows, offset, words);
+    }
+
+    @Override
+    public void unpack(long[] rows, int offset, int width, int colour, int[] colourRow) {
+        if (width < CELLS.length()) {
+            scalar.unpack(rows, offset, width, colour, colourRow);
+            return;
+        }
+        IntVector empty = IntVector.zero(CELLS);
+        int c = 0;
+        for (int bound = CELLS.loopBound(width); c < bound; c += CELLS.length()) {
+            VectorMask<Integer> cells = VectorMask.fromLong(CELLS, rows[offset + (c >>> 6)] >>> c);
+            empty.blend(colour, cells).intoArray(colourRow, c);
+        }
+        for (; c < width; c++) {
+            colourRow[c] = (rows[offset + (c >>> 6)] & (1L << c)) != 0 ? colour : 0;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.comp2042.model.gameBoard;
+
+/**
+ * Zobrist keys for hashing board states.
+ *
+ * <p>Every (row, column) cell has a fixed random 64-bit key, and a board's hash is the XOR of
+ * the keys of its occupied cells. Setting or clearing a cell therefore updates the hash with a
+ * single XOR, and two boards with the same blocks always get the same hash, however they were
+ * reached. The keys are derived from a fixed seed with a SplitMix64 finaliser, so they are
+ * the same in every game and work for any board size; the keys of boards up to 64x64 are
+ * precomputed into a table.</p>
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x2042_C0DE_B10C_5EEDL;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    // piece and hold keys live far away from any cell index
+    private static final int PIECE_SLOT = 1 << 20;
+    private static final int HOLD_SLOT = PIECE_SLOT + 64;
+    // keys of the usual board sizes are looked up instead of mixed on every call
+    private static final int TABLE_ROWS = 64;
+    private static final int TABLE_COLS = 64;
+    private static final long[] CELL_KEYS = new long[TABLE_ROWS * TABLE_COLS];
+
+    static {
+        for (int row = 0; row < TABLE_ROWS; row++) {
+            for (int col = 0; col < TABLE_COLS; col++) {
+                CELL_KEYS[row * TABLE_COLS + col] = mix(((long) row << 16) | col);
+            }
+        }
+    }
+
+    //We don't want to instantiate this utility class
+    private Zobrist() {
+
+    }
+
+    /**
+     * Gets the key of one cell.
+     *
+     * @param row The row index.
+     * @param col The column index.
+     * @return The cell's key.
+     */
+    public static long cellKey(int row, int col) {
+        if (row < TABLE_ROWS && col < TABLE_COLS) {
+            return CELL_KEYS[row * TABLE_COLS + col];
+        }
+        return mix(((long) row << 16) | col);
+    }
+
+    /**
+     * Hashes the occupied cells of one row.
+     *
+     * @param row The row index the mask sits on.
+     * @param mask The occupancy bitmask (bit {@code c} is column {@code c}).
+     * @return The XOR of the keys of the occupied cells.
+     */
+    public static long rowHash(int row, long mask) {
+        return rowHash(row, 0, mask);
+    }
+
+    /**
+     * Hashes the occupied cells of one word of a wide row.
+     *
+     * @param row The row index the word sits on.
+     * @param firstCol The column of bit 0 of the word.
+     * @param mask The occupancy bitmask (bit {@code c} is column {@code firstCol + c}).
+     * @return The XOR of the keys of the occupied cells.
+     */
+    public static long rowHash(int row, int firstCol, long mask) {
+        long hash = 0;
+        while (mask != 0) {
+            hash ^= cellKey(row, firstCol + Long.numberOfTrailingZeros(mask));
+            mask &= mask - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Combines a board hash with the falling and held brick into the key of a whole game state.
+     *
+     * @param boardHash The hash of the fixed blocks.
+     * @param brickId The id of the brick to play, or -1 for none.
+     * @param heldBrickId The id of the held brick, or -1 for none.
+     * @return The state key.
+     */
+    public static long stateKey(long boardHash, int brickId, int heldBrickId) {
+        long key = boardHash;
+        if (brickId >= 0) {
+            key ^= mix(PIECE_SLOT + brickId);
+        }
+        if (heldBrickId >= 0) {
+            key ^= mix(HOLD_SLOT + heldBrickId);
+        }
+        return key;
+    }
+
+    /**
+     * The SplitMix64 finaliser applied to the index-th step of the seeded sequence.
+     */
+    private static long mix(long index) {
+        long z = SEED + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
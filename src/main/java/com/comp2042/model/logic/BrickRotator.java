@@ -1,6 +1,7 @@
 package com.comp2042.model.logic;
 
 import com.comp2042.model.brickShapeGenerator.Brick;
+import com.comp2042.model.brickShapeGenerator.BrickShape;
 
 /**
  * Manages the current brick's rotation state by tracking the active rotation index
@@ -23,18 +24,37 @@ public class BrickRotator {
      * @return A {@code NextShapeInfo} object containing the shape matrix for the next rotation and its index.
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        BrickShape shape = brick.getBrickShape();
+        int nextShape = shape.nextRotation(currentShape);
+        return new NextShapeInfo(shape.getMatrix(nextShape), nextShape);
     }
 
     /**
      * Retrieves the 2D matrix of the currently active brick rotation.
+     * The matrix is shared with the {@code BrickShape} registry and must not be modified.
      *
      * @return The current shape matrix.
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return brick.getBrickShape().getMatrix(currentShape);
+    }
+
+    /**
+     * Retrieves the precompiled shape of the active brick.
+     *
+     * @return The {@code BrickShape} of the current brick.
+     */
+    public BrickShape getBrickShape() {
+        return brick.getBrickShape();
+    }
+
+    /**
+     * Retrieves the index of the active rotation state.
+     *
+     * @return The current rotation index.
+     */
+    public int getRotation() {
+        return currentShape;
     }
 
     /**
@@ -1,27 +1,24 @@
 package com.comp2042.model.logic;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Manages and tracks the total number of lines cleared by the player throughout a single game session.
  *
  * <p>Design Pattern Used:</p>
  * <ul>
- * <li>**Observable/Listener Pattern**: Uses an {@code IntegerProperty} to allow the GUI
- * (View) to bind directly to the line count for automatic, real-time updates.</li>
+ * <li>**State Manager**: Keeps the running line count as a primitive counter, which the GUI
+ * picks up through {@code GameStatsAdapter}.</li>
  * </ul>
  */
 public class CountClearedRows {
 
-    private final IntegerProperty countRows = new SimpleIntegerProperty(0);
+    private int countRows;
 
     /**
-     * Returns the observable property for the line count.
+     * Gets the total number of lines cleared.
      *
-     * @return The {@code IntegerProperty} containing the total lines cleared.
+     * @return The line count.
      */
-    public IntegerProperty countRowsProperty() {
+    public int getCountRows() {
         return countRows;
     }
 
@@ -31,14 +28,14 @@ public class CountClearedRows {
      * @param i The number of lines cleared.
      */
     public void add(int i){
-        countRows.setValue(countRows.getValue() + i);
+        countRows += i;
     }
 
     /**
      * Resets the total lines cleared count to zero.
      */
     public void reset() {
-        countRows.setValue(0);
+        countRows = 0;
     }
 
-}
\ No newline at end of file
+}
@@ -1,68 +1,55 @@
 package com.comp2042.model.logic;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
-import javafx.util.Duration;
+import java.util.function.LongSupplier;
 
 /**
  * Manages the elapsed time for the current game session, providing accurate time tracking
  * that accounts for time spent while the game is paused.
  *
+ * <p>Time is read from an injectable nanosecond clock rather than a JavaFX {@code Timeline}, so
+ * the timer works without the FX toolkit and tests or simulations can drive it with a fake clock.
+ * Nothing ticks in the background: the elapsed time is computed whenever it is asked for.</p>
+ *
  * <p>Design Patterns Implemented:</p>
  * <ul>
- * <li>**Observable/Listener Pattern (via JavaFX Property)**: Exposes the elapsed time as a bindable {@code StringProperty}
- * (MM:SS), allowing the GUI to update automatically.</li>
+ * <li>**Strategy Pattern**: The time source is a {@code LongSupplier}, defaulting to {@code System.nanoTime}.</li>
  * </ul>
  */
 public final class GameTime {
 
-    private final StringProperty timeString = new SimpleStringProperty("00:00");
-    private final Timeline timeline;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final LongSupplier clock;
     private long startTime;
-    private long pauseDuration; // Stores time in seconds accumulated before a pause
+    private long pauseDuration; // Stores time in nanoseconds accumulated before a pause
+    private boolean running;
 
     /**
-     * Constructs the GameTime object, initializing the periodic {@code Timeline}.
+     * Constructs a GameTime object driven by the system's monotonic clock.
      */
     public GameTime() {
-        // Timeline to update the time every second
-        timeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> updateTime()));
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        this.pauseDuration = 0; // Initialize accumulated time
-    }
-
-    /**
-     * Calculates the total elapsed time in seconds (running time + accumulated paused duration)
-     * and updates the {@code timeString} property in MM:SS format.
-     */
-    private void updateTime() {
-        // Calculate elapsed time in seconds by adding the running time to the accumulated pauseDuration
-        long elapsedSeconds = ((System.currentTimeMillis() - startTime) / 1000) + pauseDuration;
-        long minutes = elapsedSeconds / 60;
-        long seconds = elapsedSeconds % 60;
-        // Format the time as MM:SS
-        timeString.set(String.format("%02d:%02d", minutes, seconds));
+        this(System::nanoTime);
     }
 
     /**
-     * Returns the observable property for the formatted time string.
-     * @return The {@code StringProperty} displaying "MM:SS".
+     * Constructs a GameTime object driven by the given clock.
+     *
+     * @param clock A monotonic clock returning the current time in nanoseconds.
      */
-    public StringProperty timeStringProperty() {
-        return timeString;
+    public GameTime(LongSupplier clock) {
+        this.clock = clock;
+        this.pauseDuration = 0; // Initialize accumulated time
     }
 
     /**
      * Starts or resumes the game timer. If the timer is not running, it records the new
-     * start time and begins the {@code Timeline} animation.
+     * start time.
      */
     public void start() {
-        if (timeline.getStatus() != Timeline.Status.RUNNING) {
+        if (!running) {
             // Set the new start time now, the running time will be calculated relative to this point
-            startTime = System.currentTimeMillis();
-            timeline.play();
+            startTime = clock.getAsLong();
+            running = true;
         }
     }
 
@@ -71,21 +58,70 @@ public final class GameTime {
      * start and adds it to the {@code pauseDuration} for later resumption.
      */
     public void stop() {
-        if (timeline.getStatus() == Timeline.Status.RUNNING) {
-            timeline.stop();
+        if (running) {
+            running = false;
             // Calculate time elapsed since last start and add it to the accumulated duration
-            pauseDuration += (System.currentTimeMillis() - startTime) / 1000;
+            pauseDuration += clock.getAsLong() - startTime;
         }
     }
 
     /**
-     * Resets the timer state for a new game, stopping the timeline and clearing all
-     * time counters.
+     * Resets the timer state for a new game, stopping it and clearing all time counters.
      */
     public void reset() {
         stop();
         startTime = 0;
         pauseDuration = 0; // Reset accumulated time
-        timeString.set("00:00");
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks if the timer is currently running.
+     * @return true if started and not paused.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the total running time, excluding time spent paused.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        long elapsed = pauseDuration;
+        if (running) {
+            elapsed += clock.getAsLong() - startTime;
+        }
+        return elapsed;
+    }
+
+    /**
+     * Gets the total running time in whole seconds.
+     *
+     * @return The elapsed time in seconds.
+     */
+    public long getElapsedSeconds() {
+        return getElapsedNanos() / NANOS_PER_SECOND;
+    }
+
+    /**
+     * Formats the elapsed time as MM:SS.
+     *
+     * @return The formatted time string.
+     */
+    public String getTimeString() {
+        return formatTime(getElapsedSeconds());
+    }
+
+    /**
+     * Formats a number of seconds as MM:SS.
+     *
+     * @param elapsedSeconds The time to format.
+     * @return The formatted time string.
+     */
+    public static String formatTime(long elapsedSeconds) {
+        long minutes = elapsedSeconds / 60;
+        long seconds = elapsedSeconds % 60;
+        return String.format("%02d:%02d", minutes, seconds);
+    }
+}
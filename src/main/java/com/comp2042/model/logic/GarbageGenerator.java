@@ -0,0 +1,185 @@
+package com.comp2042.model.logic;
+
+import com.comp2042.model.gameBoard.BitBoard;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Chooses the hole positions of rising garbage rows from a seeded random source, so the garbage
+ * of a game is reproducible from its seed just like the piece sequence.
+ *
+ * <p>For each hole count, every possible hole mask of the board width is listed once in a
+ * table, and a line takes one table entry with a single random draw; there is no retrying until
+ * distinct columns come up. Widths with too many combinations to list, and boards wider than
+ * one 64-bit word, fall back to a partial shuffle of the columns, which also takes exactly one
+ * draw per hole.</p>
+ */
+public final class GarbageGenerator {
+
+    // C(64, 3) is 41664, so the usual 1 to 3 holes are always tabled
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    private SplittableRandom random;
+    private int tableWidth = -1;
+    private long[][] maskTables;
+    private int[] columns;
+    private long[] alternate = new long[0];
+
+    /**
+     * Constructs the generator.
+     * @param seed The seed that fixes the hole positions.
+     */
+    public GarbageGenerator(long seed) {
+        reseed(seed);
+    }
+
+    /**
+     * Restarts the hole sequence from a new seed.
+     * @param seed The new seed.
+     */
+    public void reseed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Picks {@code numHoles} distinct random columns for the holes of a rising row on a board
+     * up to 64 columns wide.
+     *
+     * @param width The board width, at most 64.
+     * @param numHoles The number of holes to place, at most {@code width}.
+     * @return A bitmask with one bit set per hole column.
+     */
+    public long nextHoleMask(int width, int numHoles) {
+        prepare(width);
+        long[] table = maskTables[numHoles];
+        if (table == null && combinations(width, numHoles) <= MAX_TABLE_SIZE) {
+            table = buildTable(width, numHoles);
+            maskTables[numHoles] = table;
+        }
+        if (table != null) {
+            return table[random.nextInt(table.length)];
+        }
+        shuffleHoles(width, numHoles);
+        long holeMask = 0;
+        for (int i = 0; i < numHoles; i++) {
+            holeMask |= 1L << columns[i];
+        }
+        return holeMask;
+    }
+
+    /**
+     * Writes the hole masks of a batch of garbage lines, oldest first. Each line takes
+     * {@code BitBoard.wordCount(width)} words, a single one on boards up to 64 columns wide.
+     *
+     * @param masks The array to write to.
+     * @param offset The index of the first line.
+     * @param lines The number of lines.
+     * @param width The board width.
+     * @param numHoles The number of holes per line.
+     * @param pattern How the holes of the lines relate to each other.
+     */
+    public void nextHoleMasks(long[] masks, int offset, int lines, int width, int numHoles, GarbagePattern pattern) {
+        int words = BitBoard.wordCount(width);
+        int first = offset * words;
+        nextHoleWords(masks, first, width, numHoles);
+        if (pattern == GarbagePattern.ALTERNATING) {
+            if (alternate.length < words) {
+                alternate = new long[words];
+            }
+            nextHoleWords(alternate, 0, width, numHoles);
+        }
+        for (int i = 1; i < lines; i++) {
+            int line = first + i * words;
+            switch (pattern) {
+                case CLEAN -> System.arraycopy(masks, first, masks, line, words);
+                case MESSY -> nextHoleWords(masks, line, width, numHoles);
+                case ALTERNATING -> {
+                    if ((i & 1) == 0) {
+                        System.arraycopy(masks, first, masks, line, words);
+                    } else {
+                        System.arraycopy(alternate, 0, masks, line, words);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the hole mask of one line as {@code BitBoard.wordCount(width)} words.
+     */
+    private void nextHoleWords(long[] masks, int index, int width, int numHoles) {
+        if (width <= Long.SIZE) {
+            masks[index] = nextHoleMask(width, numHoles);
+            return;
+        }
+        prepare(width);
+        Arrays.fill(masks, index, index + BitBoard.wordCount(width), 0L);
+        shuffleHoles(width, numHoles);
+        for (int i = 0; i < numHoles; i++) {
+            masks[index + (columns[i] >>> 6)] |= 1L << columns[i];
+        }
+    }
+
+    /**
+     * Sizes the tables and the column scratch array for a board width.
+     */
+    private void prepare(int width) {
+        if (width != tableWidth) {
+            tableWidth = width;
+            // masks of wider boards do not fit in a long, so they are never tabled
+            maskTables = width <= Long.SIZE ? new long[width + 1][] : null;
+            columns = new int[width];
+        }
+    }
+
+    /**
+     * Lists every mask of {@code width} bits with exactly {@code numHoles} bits set, in
+     * increasing order.
+     */
+    private static long[] buildTable(int width, int numHoles) {
+        long[] table = new long[(int) combinations(width, numHoles)];
+        if (numHoles == 0) {
+            return table;
+        }
+        long mask = numHoles == Long.SIZE ? -1L : (1L << numHoles) - 1;
+        for (int i = 0; i < table.length; i++) {
+            table[i] = mask;
+            // next mask with the same number of bits (Gosper's hack)
+            long lowest = mask & -mask;
+            long ripple = mask + lowest;
+            mask = ((ripple ^ mask) >>> 2) / lowest | ripple;
+        }
+        return table;
+    }
+
+    /**
+     * Picks the hole columns with a partial Fisher-Yates shuffle, used when the table would
+     * be too large. The holes end up in the first {@code numHoles} entries of {@code columns}.
+     */
+    private void shuffleHoles(int width, int numHoles) {
+        for (int c = 0; c < width; c++) {
+            columns[c] = c;
+        }
+        for (int i = 0; i < numHoles; i++) {
+            int j = i + random.nextInt(width - i);
+            int column = columns[j];
+            columns[j] = columns[i];
+            columns[i] = column;
+        }
+    }
+
+    /**
+     * Counts the ways to choose {@code k} of {@code n} columns, saturating once it passes the table limit.
+     */
+    private static long combinations(int n, int k) {
+        long count = 1;
+        for (int i = 1; i <= k; i++) {
+            count = count * (n - k + i) / i;
+            if (count > MAX_TABLE_SIZE) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return count;
+    }
+}
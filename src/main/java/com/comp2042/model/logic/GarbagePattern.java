@@ -0,0 +1,21 @@
+package com.comp2042.model.logic;
+
+/**
+ * The "cheese" pattern of garbage lines, deciding how the holes of the lines in one batch
+ * relate to each other.
+ */
+public enum GarbagePattern {
+    /**
+     * Every line of a batch has its holes in the same columns, forming straight wells that
+     * can be cleared together.
+     */
+    CLEAN,
+    /**
+     * Every line gets holes of its own, so the garbage has to be dug through line by line.
+     */
+    MESSY,
+    /**
+     * Lines alternate between two sets of holes, a checkered cheese that needs both wells kept open.
+     */
+    ALTERNATING
+}
@@ -0,0 +1,116 @@
+package com.comp2042.model.logic;
+
+import com.comp2042.model.gameBoard.BitBoard;
+
+/**
+ * The garbage lines waiting to rise into a board, such as lines sent by an opponent in versus
+ * play or the batches of a heavy garbage mode.
+ *
+ * <p>Lines are stored as their hole masks in a pre-allocated array, oldest first, and their
+ * holes are chosen when they are queued, so a queue filled from the same seed always holds the
+ * same lines. The board takes any number of them at once and inserts them in a single pass.</p>
+ */
+public final class GarbageQueue {
+
+    private final GarbageGenerator generator;
+    private final int width;
+    private final int words;
+    private final long[] pending;
+    private int count;
+    private GarbagePattern pattern = GarbagePattern.MESSY;
+
+    /**
+     * Constructs an empty queue.
+     *
+     * @param generator The seeded source of the hole masks.
+     * @param width The board width.
+     * @param capacity The most lines that can wait at once.
+     */
+    public GarbageQueue(GarbageGenerator generator, int width, int capacity) {
+        this.generator = generator;
+        this.width = width;
+        this.words = BitBoard.wordCount(width);
+        this.pending = new long[capacity * words];
+    }
+
+    /**
+     * Sets the cheese pattern used for the batches queued from now on.
+     * @param pattern The garbage pattern.
+     */
+    public void setPattern(GarbagePattern pattern) {
+        this.pattern = pattern;
+    }
+
+    /**
+     * Gets the cheese pattern of new batches.
+     * @return The garbage pattern.
+     */
+    public GarbagePattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Queues a batch of garbage lines behind the ones already waiting. Lines that do not fit
+     * are dropped.
+     *
+     * @param lines The number of lines.
+     * @param numHoles The number of holes in each line, at most the board width.
+     * @return The number of lines actually queued.
+     */
+    public int add(int lines, int numHoles) {
+        int accepted = Math.min(lines, pending.length / words - count);
+        if (accepted <= 0) {
+            return 0;
+        }
+        generator.nextHoleMasks(pending, count, accepted, width, numHoles, pattern);
+        count += accepted;
+        return accepted;
+    }
+
+    /**
+     * Gets the number of lines waiting.
+     * @return The pending line count.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the hole mask of the first 64 columns of a waiting line, which is the whole line on
+     * boards up to 64 columns wide.
+     *
+     * @param index The line, 0 being the oldest.
+     * @return The hole mask (bit {@code c} is column {@code c}).
+     */
+    public long getHoleMask(int index) {
+        return pending[index * words];
+    }
+
+    /**
+     * Gives direct access to the hole masks, oldest first, so the board can insert them without
+     * a copy. Each line takes {@code BitBoard.wordCount(width)} words; only the first
+     * {@link #size()} lines are valid and the array must not be modified.
+     *
+     * @return The pending hole masks.
+     */
+    public long[] getHoleMasks() {
+        return pending;
+    }
+
+    /**
+     * Removes the oldest lines, once the board has inserted them.
+     * @param lines The number of lines to remove.
+     */
+    public void remove(int lines) {
+        lines = Math.min(lines, count);
+        count -= lines;
+        System.arraycopy(pending, lines * words, pending, 0, count * words);
+    }
+
+    /**
+     * Drops every waiting line, e.g. when a new game starts.
+     */
+    public void clear() {
+        count = 0;
+    }
+}
@@ -7,6 +7,10 @@ import java.util.stream.Collectors;
 /**
  * A utility class containing static methods for all 2D integer matrix manipulations,
  * including collision detection, merging, line clearing, and deep copying.
+ *
+ * <p>The merge, line clear and rising row operations here return new matrices. The game board
+ * itself uses the in-place equivalents on {@code BitBoard}; these copying versions are kept as
+ * simple reference implementations for tests and tooling.</p>
  */
 public class MatrixOperations {
 
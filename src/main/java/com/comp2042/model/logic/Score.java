@@ -1,28 +1,26 @@
 package com.comp2042.model.logic;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Manages and tracks the player's current score in the game.
  *
  * <p>Design Patterns Implemented:</p>
  * <ul>
  * <li>**State Manager**: Maintains and controls the value of the game score.</li>
- * <li>**Observable/Listener Pattern (via JavaFX Property)**: Uses an {@code IntegerProperty} to allow the GUI (View)
- * to bind directly to the score value for automatic, real-time updates.</li>
  * </ul>
+ *
+ * <p>The score is held as a primitive so it can be updated from headless simulations. The GUI
+ * reads it through {@code GameStatsAdapter} instead of binding to it directly.</p>
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score;
 
     /**
-     * Returns the observable property for the current score.
+     * Gets the current score.
      *
-     * @return The {@code IntegerProperty} containing the score.
+     * @return The score.
      */
-    public IntegerProperty scoreProperty() {
+    public int getScore() {
         return score;
     }
 
@@ -32,13 +30,13 @@ public final class Score {
      * @param i The value to add to the score.
      */
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        score += i;
     }
 
     /**
      * Resets the score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        score = 0;
     }
-}
\ No newline at end of file
+}
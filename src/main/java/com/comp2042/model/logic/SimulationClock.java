@@ -0,0 +1,192 @@
+package com.comp2042.model.logic;
+
+/**
+ * A fixed-timestep clock that drives every timed game event (gravity and rising rows).
+ *
+ * <p>The caller feeds it the current time in nanoseconds, typically once per rendered frame.
+ * The elapsed time is accumulated and consumed in fixed ticks of {@link #TICK_MILLIS} ms, and each
+ * event fires after a whole number of ticks. The game therefore advances the same way no matter
+ * how often or how regularly frames arrive, and a run can be reproduced by replaying the tick
+ * count. Changing an interval only rewrites a counter, nothing is recreated.</p>
+ *
+ * <p>The game has no lock delay: a brick locks on the gravity tick that fails to move it, so there
+ * is no separate lock timer.</p>
+ *
+ * <p>Design Patterns Implemented:</p>
+ * <ul>
+ * <li>**Command Pattern**: Gravity and rising-row behaviour are supplied as {@code Runnable} actions.</li>
+ * <li>**Game Loop (Fixed Timestep)**: Decouples simulation steps from the frame rate.</li>
+ * </ul>
+ */
+public final class SimulationClock {
+
+    /**
+     * The length of one simulation tick in milliseconds.
+     */
+    public static final int TICK_MILLIS = 1;
+    private static final long TICK_NANOS = TICK_MILLIS * 1_000_000L;
+    // After a long stall (e.g. the window was dragged) only catch up this much, instead of replaying every tick
+    private static final long MAX_CATCH_UP_NANOS = 250_000_000L;
+
+    private Runnable gravityAction;
+    private Runnable risingRowAction;
+    private int gravityInterval;
+    private int risingRowInterval;
+    private int ticksToGravity;
+    private int ticksToRisingRow;
+    private boolean risingRowsEnabled;
+    private boolean running;
+    private long lastTime;
+    private long accumulator;
+    private long ticks;
+
+    /**
+     * Constructs a stopped clock.
+     *
+     * @param gravityMillis The initial gravity interval in milliseconds.
+     * @param risingRowMillis The initial rising-row interval in milliseconds.
+     */
+    public SimulationClock(int gravityMillis, int risingRowMillis) {
+        setGravityInterval(gravityMillis);
+        setRisingRowInterval(risingRowMillis);
+        resetTimers();
+    }
+
+    /**
+     * Sets the action run on every gravity tick (moving the brick down).
+     * @param gravityAction The gravity action.
+     */
+    public void setGravityAction(Runnable gravityAction) {
+        this.gravityAction = gravityAction;
+    }
+
+    /**
+     * Sets the action run on every rising-row tick.
+     * @param risingRowAction The rising-row action.
+     */
+    public void setRisingRowAction(Runnable risingRowAction) {
+        this.risingRowAction = risingRowAction;
+    }
+
+    /**
+     * Changes the gravity interval. Time already counted towards the next drop is kept, but the
+     * drop is never delayed beyond the new interval.
+     *
+     * @param gravityMillis The new interval in milliseconds.
+     */
+    public void setGravityInterval(int gravityMillis) {
+        gravityInterval = toTicks(gravityMillis);
+        ticksToGravity = Math.min(ticksToGravity, gravityInterval);
+    }
+
+    /**
+     * Changes the rising-row interval, in the same way as {@link #setGravityInterval(int)}.
+     *
+     * @param risingRowMillis The new interval in milliseconds.
+     */
+    public void setRisingRowInterval(int risingRowMillis) {
+        risingRowInterval = toTicks(risingRowMillis);
+        ticksToRisingRow = Math.min(ticksToRisingRow, risingRowInterval);
+    }
+
+    /**
+     * Enables or disables the rising-row timer.
+     * @param enabled true to fire rising-row ticks.
+     */
+    public void setRisingRowsEnabled(boolean enabled) {
+        this.risingRowsEnabled = enabled;
+    }
+
+    /**
+     * Restarts both timers from a full interval, as at the start of a new game.
+     */
+    public void resetTimers() {
+        ticksToGravity = gravityInterval;
+        ticksToRisingRow = risingRowInterval;
+        accumulator = 0;
+        ticks = 0;
+    }
+
+    /**
+     * Starts or resumes the clock. Time before this call is not counted.
+     *
+     * @param now The current time in nanoseconds.
+     */
+    public void start(long now) {
+        if (!running) {
+            running = true;
+            lastTime = now;
+        }
+    }
+
+    /**
+     * Stops (pauses) the clock. Partially counted intervals are kept for when it resumes.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Checks if the clock is running.
+     * @return true if started and not stopped.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Accumulates the time since the previous call and runs every whole tick it covers.
+     *
+     * @param now The current time in nanoseconds.
+     * @return The number of ticks that were run.
+     */
+    public int advance(long now) {
+        if (!running) {
+            return 0;
+        }
+        accumulator += Math.min(now - lastTime, MAX_CATCH_UP_NANOS);
+        lastTime = now;
+        int steps = 0;
+        // an action may stop the clock (game over, pause), so check on every tick
+        while (running && accumulator >= TICK_NANOS) {
+            accumulator -= TICK_NANOS;
+            step();
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Runs a single tick: counts down both timers and fires the ones that expire.
+     */
+    public void step() {
+        ticks++;
+        if (--ticksToGravity <= 0) {
+            ticksToGravity = gravityInterval;
+            if (gravityAction != null) {
+                gravityAction.run();
+            }
+        }
+        if (risingRowsEnabled && --ticksToRisingRow <= 0) {
+            ticksToRisingRow = risingRowInterval;
+            if (risingRowAction != null) {
+                risingRowAction.run();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of ticks run since the last {@link #resetTimers()}.
+     * @return The tick count.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Converts a duration to whole ticks, never less than one.
+     */
+    private static int toTicks(int millis) {
+        return Math.max(1, millis / TICK_MILLIS);
+    }
+}
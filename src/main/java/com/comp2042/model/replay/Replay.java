@@ -0,0 +1,185 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.gameBoard.BitBoard;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.model.logic.GameMode;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A decoded replay: the game's seed, mode, randomizer and board size, and its records as primitive arrays
+ * of codes and absolute game times.
+ */
+public final class Replay {
+
+    private final long seed;
+    private final GameMode gameMode;
+    private final BrickRandomizer randomizer;
+    private final int width;
+    private final int height;
+    private final byte[] codes;
+    private final long[] timesNanos;
+    private final int size;
+
+    private Replay(long seed, GameMode gameMode, BrickRandomizer randomizer, int width, int height,
+                   byte[] codes, long[] timesNanos, int size) {
+        this.seed = seed;
+        this.gameMode = gameMode;
+        this.randomizer = randomizer;
+        this.width = width;
+        this.height = height;
+        this.codes = codes;
+        this.timesNanos = timesNanos;
+        this.size = size;
+    }
+
+    /**
+     * Reads a replay file through a {@code FileChannel}.
+     *
+     * @param file The replay file.
+     * @return The decoded replay.
+     * @throws IOException if the file cannot be read or is not a replay.
+     */
+    public static Replay read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the whole file is in the buffer
+            }
+            buffer.flip();
+            return decode(buffer);
+        }
+    }
+
+    /**
+     * Decodes a replay from a buffer. A record cut off at the end (e.g. the game was closed
+     * while recording) is ignored.
+     *
+     * @param buffer The encoded replay, positioned at the header.
+     * @return The decoded replay.
+     * @throws IOException if the header is missing or does not describe a supported replay.
+     */
+    public static Replay decode(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < ReplayFormat.HEADER_SIZE || buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        byte version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        long seed = buffer.getLong();
+        int modeOrdinal = Byte.toUnsignedInt(buffer.get());
+        if (modeOrdinal >= GameMode.values().length) {
+            throw new IOException("Unknown game mode " + modeOrdinal);
+        }
+        int randomizerOrdinal = Byte.toUnsignedInt(buffer.get());
+        if (randomizerOrdinal >= BrickRandomizer.values().length) {
+            throw new IOException("Unknown randomizer " + randomizerOrdinal);
+        }
+        GameMode mode = GameMode.values()[modeOrdinal];
+        BrickRandomizer randomizer = BrickRandomizer.values()[randomizerOrdinal];
+        int width = Short.toUnsignedInt(buffer.getShort());
+        int height = Short.toUnsignedInt(buffer.getShort());
+        if (width < TetrisBoard.MIN_SIZE || width > BitBoard.MAX_WIDTH
+                || height < TetrisBoard.MIN_SIZE || height > BitBoard.MAX_HEIGHT) {
+            throw new IOException("Unsupported board size " + width + "x" + height);
+        }
+
+        // every record takes at least two bytes
+        int capacity = Math.max(16, buffer.remaining() / 2);
+        byte[] codes = new byte[capacity];
+        long[] times = new long[capacity];
+        int size = 0;
+        long micros = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                byte code = buffer.get();
+                micros += ReplayFormat.getVarLong(buffer);
+                if (code < 0 || code > ReplayFormat.RISING_ROW) {
+                    throw new IOException("Corrupt replay record " + code);
+                }
+                codes[size] = code;
+                times[size] = micros * 1000;
+                size++;
+            }
+        } catch (BufferUnderflowException truncated) {
+            // the last record was not fully written
+        }
+        return new Replay(seed, mode, randomizer, width, height, Arrays.copyOf(codes, size), Arrays.copyOf(times, size), size);
+    }
+
+    /**
+     * Gets the seed of the recorded game.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the mode of the recorded game.
+     * @return The game mode.
+     */
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    /**
+     * Gets the piece randomizer of the recorded game.
+     * @return The randomizer.
+     */
+    public BrickRandomizer getRandomizer() {
+        return randomizer;
+    }
+
+    /**
+     * Gets the board width of the recorded game.
+     * @return The number of columns.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the board height of the recorded game.
+     * @return The number of rows.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the number of records.
+     * @return The record count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the code of a record: a move code or {@link ReplayFormat#RISING_ROW}.
+     *
+     * @param index The record index.
+     * @return The record code.
+     */
+    public int getCode(int index) {
+        return codes[index];
+    }
+
+    /**
+     * Gets the game time of a record.
+     *
+     * @param index The record index.
+     * @return The time in nanoseconds since the game started (microsecond precision).
+     */
+    public long getTimeNanos(int index) {
+        return timesNanos[index];
+    }
+}
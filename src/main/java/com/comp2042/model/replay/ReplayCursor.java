@@ -0,0 +1,57 @@
+package com.comp2042.model.replay;
+
+/**
+ * Walks through a {@code Replay} in time order, handing each record to a {@code ReplayTarget}.
+ * Advancing to the end at once plays the game back headless at full speed; advancing to the
+ * current game time every frame plays it back in real time.
+ */
+public final class ReplayCursor {
+
+    private final Replay replay;
+    private int position;
+
+    /**
+     * Constructs a cursor at the start of a replay.
+     * @param replay The replay to play.
+     */
+    public ReplayCursor(Replay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Plays every record up to and including {@code timeNanos}.
+     *
+     * @param timeNanos The game time to advance to.
+     * @param target The receiver of the records.
+     * @return The number of records played.
+     */
+    public int advanceTo(long timeNanos, ReplayTarget target) {
+        int played = 0;
+        while (position < replay.size() && replay.getTimeNanos(position) <= timeNanos) {
+            int code = replay.getCode(position++);
+            if (code == ReplayFormat.RISING_ROW) {
+                target.onRisingRow();
+            } else {
+                target.onMove(ReplayFormat.moveEvent(code));
+            }
+            played++;
+        }
+        return played;
+    }
+
+    /**
+     * Checks if every record has been played.
+     * @return true at the end of the replay.
+     */
+    public boolean isFinished() {
+        return position >= replay.size();
+    }
+
+    /**
+     * Gets the replay being played.
+     * @return The replay.
+     */
+    public Replay getReplay() {
+        return replay;
+    }
+}
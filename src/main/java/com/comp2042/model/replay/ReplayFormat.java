@@ -0,0 +1,107 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and encoding helpers of the binary replay format.
+ *
+ * <p>A replay file starts with a fixed header: the magic number, the format version, the game
+ * seed, the {@code GameMode} ordinal, the {@code BrickRandomizer} ordinal and the board width and
+ * height as two unsigned shorts. It is followed by
+ * one record per event: a one-byte code and the time since the previous record in microseconds,
+ * written as an unsigned varint. A typical record therefore takes two or three bytes.</p>
+ *
+ * <p>Move codes pack the {@code EventType} and {@code EventSource} ordinals as
+ * {@code type << 1 | source}; rising-row ticks have their own code.</p>
+ */
+public final class ReplayFormat {
+
+    /** The magic number at the start of every replay file ("CWRP"). */
+    public static final int MAGIC = 0x43575250;
+    /**
+     * The current format version. Version 2 games draw their garbage holes from a table, so a
+     * version 1 seed would rise different garbage and is rejected rather than replayed wrongly.
+     * Version 3 adds the board size, since games are no longer always played on 10x25.
+     */
+    public static final byte VERSION = 3;
+    /** The size of the file header in bytes. */
+    public static final int HEADER_SIZE = 4 + 1 + 8 + 1 + 1 + 2 + 2;
+    /** The record code of a rising-row tick. */
+    public static final int RISING_ROW = EventType.values().length << 1;
+    /** The largest size of one encoded record in bytes (code plus a 64-bit varint). */
+    public static final int MAX_RECORD_SIZE = 1 + 10;
+
+    private static final MoveEvent[] MOVE_EVENTS = new MoveEvent[RISING_ROW];
+
+    static {
+        for (EventType type : EventType.values()) {
+            for (EventSource source : EventSource.values()) {
+                MOVE_EVENTS[moveCode(type, source)] = MoveEvent.of(type, source);
+            }
+        }
+    }
+
+    //We don't want to instantiate this utility class
+    private ReplayFormat() {
+
+    }
+
+    /**
+     * Gets the record code of a move.
+     *
+     * @param type The event type.
+     * @param source The event source.
+     * @return The record code.
+     */
+    public static int moveCode(EventType type, EventSource source) {
+        return type.ordinal() << 1 | source.ordinal();
+    }
+
+    /**
+     * Gets the shared, immutable {@code MoveEvent} for a move code, so playback does not
+     * allocate an event per record.
+     *
+     * @param code A move record code.
+     * @return The matching move event.
+     */
+    public static MoveEvent moveEvent(int code) {
+        return MOVE_EVENTS[code];
+    }
+
+    /**
+     * Writes an unsigned value as a varint: seven bits per byte, lowest bits first, with the
+     * high bit set on every byte but the last.
+     *
+     * @param buffer The buffer to write to.
+     * @param value The non-negative value.
+     */
+    public static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint written by {@link #putVarLong(ByteBuffer, long)}.
+     *
+     * @param buffer The buffer to read from.
+     * @return The decoded value.
+     */
+    public static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.logic.GameMode;
+
+/**
+ * Receives the inputs of a game as they are applied, so that the game can be replayed later.
+ * Timestamps are game time in nanoseconds (paused time excluded).
+ */
+public interface ReplayRecorder extends AutoCloseable {
+
+    /**
+     * A recorder that drops everything, used when a game should not be recorded (e.g. during playback).
+     */
+    ReplayRecorder NONE = new ReplayRecorder() {
+        @Override
+        public void startGame(long seed, GameMode mode, BrickRandomizer randomizer, int width, int height) {
+        }
+
+        @Override
+        public void recordMove(EventType type, EventSource source, long timeNanos) {
+        }
+
+        @Override
+        public void recordRisingRow(long timeNanos) {
+        }
+
+        @Override
+        public void endGame() {
+        }
+    };
+
+    /**
+     * Starts recording a new game, ending the previous one if needed.
+     *
+     * @param seed The seed of the game.
+     * @param mode The game mode.
+     * @param randomizer The piece randomizer of the game.
+     * @param width The board width.
+     * @param height The board height.
+     */
+    void startGame(long seed, GameMode mode, BrickRandomizer randomizer, int width, int height);
+
+    /**
+     * Records a move that was applied to the board.
+     *
+     * @param type The event type.
+     * @param source The event source.
+     * @param timeNanos The game time of the move.
+     */
+    void recordMove(EventType type, EventSource source, long timeNanos);
+
+    /**
+     * Records a rising-row tick.
+     *
+     * @param timeNanos The game time of the tick.
+     */
+    void recordRisingRow(long timeNanos);
+
+    /**
+     * Finishes the current game's recording and releases its resources.
+     */
+    void endGame();
+
+    /**
+     * Ends the current game and releases the recorder itself, once nothing more will be
+     * recorded (e.g. the game screen is gone). By default this only ends the game.
+     */
+    @Override
+    default void close() {
+        endGame();
+    }
+}
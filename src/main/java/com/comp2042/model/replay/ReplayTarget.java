@@ -0,0 +1,20 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.events.MoveEvent;
+
+/**
+ * Receives the records of a replay during playback.
+ */
+public interface ReplayTarget {
+
+    /**
+     * Applies a recorded move.
+     * @param event The move event, shared and immutable.
+     */
+    void onMove(MoveEvent event);
+
+    /**
+     * Applies a recorded rising-row tick.
+     */
+    void onRisingRow();
+}
@@ -0,0 +1,180 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.logic.GameMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records every game into its own compact binary replay file (see {@code ReplayFormat}).
+ *
+ * <p>Recording runs on the game thread but never touches the disk there: records are encoded
+ * into a small reusable {@code ByteBuffer}, and full buffers are handed to a single background
+ * thread that writes them through a {@code FileChannel} and returns them to the pool. I/O
+ * errors are logged and the rest of that game's recording is dropped; they never stop the game.</p>
+ */
+public final class ReplayWriter implements ReplayRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(ReplayWriter.class.getName());
+    private static final int BUFFER_SIZE = 4096;
+    private static final int BUFFER_COUNT = 4;
+
+    private final Path directory;
+    private final ExecutorService writerThread;
+    private final ArrayBlockingQueue<ByteBuffer> freeBuffers = new ArrayBlockingQueue<>(BUFFER_COUNT);
+    private ByteBuffer current;
+    private boolean recording;
+    private long lastMicros;
+
+    // only accessed from the writer thread
+    private FileChannel channel;
+
+    /**
+     * Constructs a writer that stores replays in {@code directory}, creating it when the first game starts.
+     *
+     * @param directory The directory for replay files.
+     */
+    public ReplayWriter(Path directory) {
+        this.directory = directory;
+        this.writerThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replay-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            freeBuffers.add(ByteBuffer.allocateDirect(BUFFER_SIZE));
+        }
+        current = freeBuffers.poll();
+    }
+
+    @Override
+    public void startGame(long seed, GameMode mode, BrickRandomizer randomizer, int width, int height) {
+        endGame();
+        Path file = directory.resolve(String.format("replay-%d-%016x.cwr", System.currentTimeMillis(), seed));
+        writerThread.execute(() -> open(file));
+        current.putInt(ReplayFormat.MAGIC);
+        current.put(ReplayFormat.VERSION);
+        current.putLong(seed);
+        current.put((byte) mode.ordinal());
+        current.put((byte) randomizer.ordinal());
+        current.putShort((short) width);
+        current.putShort((short) height);
+        lastMicros = 0;
+        recording = true;
+    }
+
+    @Override
+    public void recordMove(EventType type, EventSource source, long timeNanos) {
+        record(ReplayFormat.moveCode(type, source), timeNanos);
+    }
+
+    @Override
+    public void recordRisingRow(long timeNanos) {
+        record(ReplayFormat.RISING_ROW, timeNanos);
+    }
+
+    /**
+     * Appends one record, handing the buffer to the writer thread when it is nearly full.
+     */
+    private void record(int code, long timeNanos) {
+        if (!recording) {
+            return;
+        }
+        if (current.remaining() < ReplayFormat.MAX_RECORD_SIZE) {
+            handOff();
+        }
+        long micros = timeNanos / 1000;
+        current.put((byte) code);
+        ReplayFormat.putVarLong(current, Math.max(0, micros - lastMicros));
+        lastMicros = Math.max(lastMicros, micros);
+    }
+
+    @Override
+    public void endGame() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        handOff();
+        writerThread.execute(this::closeChannel);
+    }
+
+    /**
+     * Ends the current game, waits for every pending write to reach the disk and stops the
+     * writer thread. The writer cannot record again afterwards.
+     */
+    @Override
+    public void close() {
+        endGame();
+        writerThread.shutdown();
+        try {
+            if (!writerThread.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOGGER.log(Level.WARNING, "Replay writer did not finish in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Passes the current buffer to the writer thread and continues with a free one. If the
+     * writer has fallen behind, a new buffer is allocated rather than blocking the game.
+     */
+    private void handOff() {
+        ByteBuffer full = current;
+        full.flip();
+        writerThread.execute(() -> write(full));
+        ByteBuffer next = freeBuffers.poll();
+        current = next != null ? next : ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    private void open(Path file) {
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not create replay file " + file, e);
+            channel = null;
+        }
+    }
+
+    private void write(ByteBuffer buffer) {
+        try {
+            while (channel != null && buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not write replay.", e);
+            closeChannel();
+        }
+        buffer.clear();
+        // extra buffers allocated under pressure are simply dropped when the pool is full
+        freeBuffers.offer(buffer);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not close replay file.", e);
+        }
+        channel = null;
+    }
+}
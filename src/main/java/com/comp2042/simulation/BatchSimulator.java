@@ -0,0 +1,107 @@
+package com.comp2042.simulation;
+
+import com.comp2042.controller.HeadlessGame;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.model.logic.GameMode;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Plays many headless games at once, one per {@code ForkJoinPool} task, and aggregates their results.
+ *
+ * <p>Games share nothing: each has its own {@code TetrisBoard}, policy instance and seed, and the
+ * only shared object is the lock-free {@code SimulationStats}. Throughput therefore grows with the
+ * number of cores. Seeds are derived from the batch seed in game order before anything runs, so a
+ * batch gives the same totals whatever the thread count.</p>
+ *
+ * <p>Simulated games run on a simulated clock that advances one second per brick, so a game's
+ * survival time is a function of its seed too. In modes with rising rows a row is added after
+ * every {@value #PIECES_PER_RISING_ROW} bricks, i.e. every 20 simulated seconds.</p>
+ */
+public final class BatchSimulator {
+
+    // bots have no real time, so rising rows are paced by bricks (about one brick per second at level 1)
+    private static final int PIECES_PER_RISING_ROW = 20;
+    private static final long NANOS_PER_PIECE = 1_000_000_000L;
+
+    private final LongFunction<MovePolicy> policyFactory;
+    private final BrickRandomizer randomizer;
+    private final int maxPieces;
+    private final int parallelism;
+
+    /**
+     * Constructs a simulator.
+     *
+     * @param policyFactory Creates the policy for one game from a seed.
+     * @param randomizer The piece randomizer of every game.
+     * @param maxPieces The number of bricks after which a surviving game is stopped.
+     * @param parallelism The number of worker threads.
+     */
+    public BatchSimulator(LongFunction<MovePolicy> policyFactory, BrickRandomizer randomizer, int maxPieces, int parallelism) {
+        this.policyFactory = policyFactory;
+        this.randomizer = randomizer;
+        this.maxPieces = maxPieces;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays a batch of games and waits for all of them.
+     *
+     * @param games The number of games.
+     * @param seed The batch seed, from which every game's seed is derived.
+     * @param modes The modes to play; game {@code i} uses {@code modes[i % modes.length]}.
+     * @return The results, per mode.
+     */
+    public SimulationStats run(int games, long seed, GameMode... modes) {
+        long[] seeds = new long[games];
+        SplittableRandom seedSource = new SplittableRandom(seed);
+        for (int i = 0; i < games; i++) {
+            seeds[i] = seedSource.nextLong();
+        }
+
+        SimulationStats stats = new SimulationStats();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, games).parallel()
+                    .forEach(i -> playGame(seeds[i], modes[i % modes.length], stats))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        return stats;
+    }
+
+    /**
+     * Plays one game until it tops out or reaches the piece limit, then records its result.
+     */
+    private void playGame(long seed, GameMode mode, SimulationStats stats) {
+        HeadlessGame game = new HeadlessGame(seed, randomizer, mode);
+        // the policy gets its own stream, so it does not follow the piece sequence
+        MovePolicy policy = policyFactory.apply(~seed);
+        TetrisBoard board = game.getBoard();
+        Consumer<MoveEvent> input = game::onMove;
+        long pieces = 0;
+        while (!game.isGameOver() && pieces < maxPieces) {
+            // the brick's second passes while it falls, so a topping out brick still counts
+            game.advanceClock(NANOS_PER_PIECE);
+            policy.playBrick(board, input);
+            pieces++;
+            if (pieces % PIECES_PER_RISING_ROW == 0) {
+                game.onRisingRow();
+            }
+        }
+        stats.addGame(mode, board.getScore().getScore(), board.getCountRows().getCountRows(),
+                board.getLevelUp().getLevel(), pieces, board.getGameTime().getElapsedNanos(), game.isGameOver());
+    }
+}
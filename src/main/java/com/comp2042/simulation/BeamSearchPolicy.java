@@ -0,0 +1,315 @@
+package com.comp2042.simulation;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+import com.comp2042.model.brickShapeGenerator.BrickShapes;
+import com.comp2042.model.brickShapeGenerator.SeededBrickGenerator;
+import com.comp2042.model.gameBoard.CurrentBrickController;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.model.gameBoard.Zobrist;
+import com.comp2042.model.logic.BrickRotator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A bot that places each brick by beam search over the current brick and the preview queue.
+ *
+ * <p>For every brick it enumerates the placements a player can actually reach from the spawn:
+ * rotate in place, slide left or right until blocked, then hard drop, with the same collision
+ * rules as the game. Each resulting board is scored on aggregate height, cleared lines, holes
+ * and bumpiness. Only the best {@code beamWidth} boards are expanded with the next brick, and
+ * the first move of the best final board is played by sending {@code ROTATE}, {@code LEFT}/{@code RIGHT}
+ * and {@code SLAM} events, just like a player at the keyboard.</p>
+ *
+ * <p>The expansions of each search level are independent, so they run as parallel tasks on a
+ * work-stealing {@code ForkJoinPool} (the pool of the calling thread when it already is a pool
+ * worker). If the time budget runs out, the deepest fully searched level decides the move.
+ * A time budget makes the moves depend on the machine's load, so batch runs use a node budget
+ * instead: no new level is started once that many boards have been scored. Levels are always
+ * searched whole, so the chosen moves only depend on the board.</p>
+ *
+ * <p>Different move orders often build the same board. Boards are told apart by their Zobrist
+ * hash: duplicates are dropped from the beam so it holds distinct positions, and board
+ * evaluations are cached in a {@code TranspositionTable} keyed by board, next brick and held
+ * brick, which also carries over to the next brick's search.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Strategy Pattern**: A {@code MovePolicy} that can replace the random bot or the keyboard.</li>
+ * </ul>
+ */
+public final class BeamSearchPolicy implements MovePolicy {
+
+    // aggregate height, lines, holes, bumpiness
+    private static final double[] WEIGHTS = {-0.510066, 0.760666, -0.35663, -0.184483};
+    private static final int MAX_ROTATIONS = 4;
+    private static final Comparator<Node> BEST_FIRST = Comparator.comparingDouble((Node node) -> node.score).reversed();
+
+    private static final MoveEvent ROTATE = MoveEvent.of(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent LEFT = MoveEvent.of(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = MoveEvent.of(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent SLAM = MoveEvent.of(EventType.SLAM, EventSource.USER);
+
+    /**
+     * A time budget that never runs out, for searches bounded by nodes only.
+     */
+    public static final long NO_TIME_LIMIT = Long.MAX_VALUE;
+    /**
+     * A node budget that never runs out, for searches bounded by time only.
+     */
+    public static final long NO_NODE_LIMIT = Long.MAX_VALUE;
+
+    private final int beamWidth;
+    private final int previewDepth;
+    private final long budgetNanos;
+    private final long maxNodes;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table = new TranspositionTable(12);
+
+    /**
+     * Constructs a policy searching the next brick, with a beam of 8 and 50 ms per move.
+     *
+     * @param pool The pool the search fans out on.
+     */
+    public BeamSearchPolicy(ForkJoinPool pool) {
+        this(8, 1, 50_000_000L, pool);
+    }
+
+    /**
+     * Constructs a policy bounded by time only.
+     *
+     * @param beamWidth How many boards are kept at each level.
+     * @param previewDepth How many preview bricks are searched after the current one.
+     * @param budgetNanos The search time allowed per brick.
+     * @param pool The pool the search fans out on.
+     */
+    public BeamSearchPolicy(int beamWidth, int previewDepth, long budgetNanos, ForkJoinPool pool) {
+        this(beamWidth, previewDepth, budgetNanos, NO_NODE_LIMIT, pool);
+    }
+
+    /**
+     * Constructs a policy.
+     *
+     * @param beamWidth How many boards are kept at each level.
+     * @param previewDepth How many preview bricks are searched after the current one.
+     * @param budgetNanos The search time allowed per brick, or {@link #NO_TIME_LIMIT}.
+     * @param maxNodes The number of scored boards after which no new level is started, or {@link #NO_NODE_LIMIT}.
+     * @param pool The pool the search fans out on.
+     */
+    public BeamSearchPolicy(int beamWidth, int previewDepth, long budgetNanos, long maxNodes, ForkJoinPool pool) {
+        this.beamWidth = beamWidth;
+        this.previewDepth = previewDepth;
+        this.budgetNanos = budgetNanos;
+        this.maxNodes = maxNodes;
+        this.pool = pool;
+    }
+
+    /**
+     * Constructs a policy whose moves only depend on the board, for reproducible batch runs:
+     * a beam of 8, searching the next brick, with a node budget and no time limit.
+     *
+     * @param maxNodes The number of scored boards after which no new level is started.
+     * @param pool The pool the search fans out on.
+     * @return The policy.
+     */
+    public static BeamSearchPolicy deterministic(long maxNodes, ForkJoinPool pool) {
+        return new BeamSearchPolicy(8, 1, NO_TIME_LIMIT, maxNodes, pool);
+    }
+
+    @Override
+    public void playBrick(TetrisBoard board, Consumer<MoveEvent> input) {
+        Node best = search(board);
+        if (best != null) {
+            for (int i = 0; i < best.rotations; i++) {
+                input.accept(ROTATE);
+            }
+            int shift = best.targetX - board.getBrickController().getX();
+            MoveEvent move = shift < 0 ? LEFT : RIGHT;
+            for (int i = Math.abs(shift); i > 0; i--) {
+                input.accept(move);
+            }
+        }
+        input.accept(SLAM);
+    }
+
+    /**
+     * Runs the beam search for the falling brick.
+     *
+     * @param board The game board.
+     * @return The best final node, carrying the first placement to play, or null if the brick cannot move at all.
+     */
+    Node search(TetrisBoard board) {
+        long now = System.nanoTime();
+        long deadline = budgetNanos >= NO_TIME_LIMIT - now ? Long.MAX_VALUE : now + budgetNanos;
+        BrickRotator rotator = board.getBrickRotator();
+        CurrentBrickController brick = board.getBrickController();
+
+        SeededBrickGenerator preview = board.getBrickGenerator();
+        int held = brick.getHeldBrickId();
+
+        List<Node> beam = List.of(new Node(new SearchBoard(board.getBitBoard()), 0, 0, 0));
+        // the first level is always searched completely, so there is always a move
+        List<Node> children = expandLevel(beam, new Level(rotator.getBrickShape(), rotator.getRotation(), brick.getX(), brick.getY(),
+                true, preview.peekBrickId(0), held), Long.MAX_VALUE);
+        long nodes = children.size();
+        beam = keepDistinct(children);
+        for (int depth = 0; depth < previewDepth && !beam.isEmpty() && nodes < maxNodes; depth++) {
+            BrickShape next = BrickShapes.getShape(preview.peekBrickId(depth));
+            Level level = new Level(next, 0, brick.getSpawnX(), CurrentBrickController.SPAWN_Y,
+                    false, preview.peekBrickId(depth + 1), held);
+            children = expandLevel(beam, level, deadline);
+            if (children == null || children.isEmpty()) {
+                break;
+            }
+            nodes += children.size();
+            beam = keepDistinct(children);
+        }
+        return beam.isEmpty() ? null : beam.get(0);
+    }
+
+    /**
+     * Expands every node of the beam with one brick, in parallel.
+     *
+     * @return Every child sorted best first, or null if the deadline passed during the level.
+     */
+    private List<Node> expandLevel(List<Node> beam, Level level, long deadline) {
+        Supplier<List<Node>> search = () -> IntStream.range(0, beam.size() * MAX_ROTATIONS).parallel()
+                .mapToObj(task -> System.nanoTime() > deadline ? List.<Node>of()
+                        : expand(beam.get(task / MAX_ROTATIONS), task % MAX_ROTATIONS, level))
+                .flatMap(List::stream)
+                .sorted(BEST_FIRST)
+                .collect(Collectors.toList());
+        // a pool worker (e.g. a batch simulation) fans out on its own pool rather than blocking on another
+        List<Node> children = ForkJoinTask.inForkJoinPool() ? search.get() : pool.submit(search::get).join();
+        return System.nanoTime() > deadline ? null : children;
+    }
+
+    /**
+     * Keeps the best {@code beamWidth} children that are distinct boards.
+     */
+    private List<Node> keepDistinct(List<Node> children) {
+        List<Node> kept = new ArrayList<>(beamWidth);
+        for (int i = 0; i < children.size() && kept.size() < beamWidth; i++) {
+            if (!containsBoard(kept, children.get(i).board.getHash())) {
+                kept.add(children.get(i));
+            }
+        }
+        return kept;
+    }
+
+    private static boolean containsBoard(List<Node> nodes, long hash) {
+        for (Node node : nodes) {
+            if (node.board.getHash() == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists the placements reachable after rotating {@code turns} times from the spawn state.
+     */
+    private List<Node> expand(Node parent, int turns, Level level) {
+        SearchBoard board = parent.board;
+        BrickShape shape = level.shape;
+        int x = level.x;
+        int y = level.y;
+        int rotation = level.rotation;
+        if (turns >= shape.getRotationCount()) {
+            return List.of();
+        }
+        // every intermediate rotation must fit too, as the game rotates one step at a time
+        int rot = rotation;
+        if (board.collides(shape, rot, x, y)) {
+            return List.of();
+        }
+        for (int i = 0; i < turns; i++) {
+            rot = shape.nextRotation(rot);
+            if (board.collides(shape, rot, x, y)) {
+                return List.of();
+            }
+        }
+        int left = x;
+        while (!board.collides(shape, rot, left - 1, y)) {
+            left--;
+        }
+        int right = x;
+        while (!board.collides(shape, rot, right + 1, y)) {
+            right++;
+        }
+
+        List<Node> children = new ArrayList<>(right - left + 1);
+        for (int column = left; column <= right; column++) {
+            SearchBoard child = new SearchBoard(board);
+            int lines = parent.lines + child.place(shape, rot, column, child.drop(shape, rot, column, y));
+            Node node = level.root ? new Node(child, turns, column, lines) : new Node(child, parent.rotations, parent.targetX, lines);
+            node.score = evaluate(child, level) + WEIGHTS[1] * lines;
+            children.add(node);
+        }
+        return children;
+    }
+
+    /**
+     * Scores a board without its cleared lines, through the transposition table.
+     */
+    private double evaluate(SearchBoard board, Level level) {
+        long key = Zobrist.stateKey(board.getHash(), level.nextBrickId, level.heldBrickId);
+        double value = table.get(key, 0);
+        if (Double.isNaN(value)) {
+            value = board.evaluate(WEIGHTS, 0);
+            table.put(key, 0, value);
+        }
+        return value;
+    }
+
+    /**
+     * The brick placed on one search level, where it starts, and the state that follows.
+     */
+    private static final class Level {
+        final BrickShape shape;
+        final int rotation;
+        final int x;
+        final int y;
+        final boolean root;
+        final int nextBrickId;
+        final int heldBrickId;
+
+        Level(BrickShape shape, int rotation, int x, int y, boolean root, int nextBrickId, int heldBrickId) {
+            this.shape = shape;
+            this.rotation = rotation;
+            this.x = x;
+            this.y = y;
+            this.root = root;
+            this.nextBrickId = nextBrickId;
+            this.heldBrickId = heldBrickId;
+        }
+    }
+
+    /**
+     * A searched board and the first placement that leads to it.
+     */
+    static final class Node {
+        final SearchBoard board;
+        final int rotations;
+        final int targetX;
+        final int lines;
+        double score;
+
+        Node(SearchBoard board, int rotations, int targetX, int lines) {
+            this.board = board;
+            this.rotations = rotations;
+            this.targetX = targetX;
+            this.lines = lines;
+        }
+    }
+}
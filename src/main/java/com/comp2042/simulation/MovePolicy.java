@@ -0,0 +1,30 @@
+package com.comp2042.simulation;
+
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.gameBoard.TetrisBoard;
+
+import java.util.function.Consumer;
+
+/**
+ * Decides the moves of a simulated player, taking the place of the {@code KeyInputHandler}.
+ *
+ * <p>A policy is asked once per falling brick and must send the moves that place and lock it,
+ * normally ending with a {@code SLAM}. Each simulated game gets its own policy instance, so
+ * implementations may keep state without synchronisation.</p>
+ *
+ * <p>Design Pattern Used:</p>
+ * <ul>
+ * <li>**Strategy Pattern**: Bots are swapped without changing the {@code BatchSimulator}.</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+    /**
+     * Plays the current falling brick.
+     *
+     * @param board The board, to be read only; moves must go through {@code input}.
+     * @param input Applies a move to the game, as a key press would.
+     */
+    void playBrick(TetrisBoard board, Consumer<MoveEvent> input);
+}
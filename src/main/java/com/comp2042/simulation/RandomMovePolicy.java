@@ -0,0 +1,45 @@
+package com.comp2042.simulation;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.gameBoard.TetrisBoard;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * A baseline bot that rotates each brick a random number of times, shifts it a random distance
+ * and hard drops it. Useful as a lower bound when comparing policies.
+ */
+public final class RandomMovePolicy implements MovePolicy {
+
+    private static final MoveEvent ROTATE = MoveEvent.of(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent LEFT = MoveEvent.of(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = MoveEvent.of(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent SLAM = MoveEvent.of(EventType.SLAM, EventSource.USER);
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructs the policy.
+     * @param seed The seed of the policy's choices.
+     */
+    public RandomMovePolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void playBrick(TetrisBoard board, Consumer<MoveEvent> input) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            input.accept(ROTATE);
+        }
+        int shift = random.nextInt(-5, 6);
+        MoveEvent move = shift < 0 ? LEFT : RIGHT;
+        for (int i = Math.abs(shift); i > 0; i--) {
+            input.accept(move);
+        }
+        input.accept(SLAM);
+    }
+}
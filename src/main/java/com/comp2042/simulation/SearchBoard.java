@@ -0,0 +1,217 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+import com.comp2042.model.gameBoard.BitBoard;
+import com.comp2042.model.gameBoard.RowKernel;
+import com.comp2042.model.gameBoard.Zobrist;
+
+import java.util.Arrays;
+
+/**
+ * A bare occupancy copy of the board that the search can drop bricks on without touching the
+ * real game. It follows the same rules as {@code MatrixOperations.intersect} / {@code BitBoard}:
+ * a brick collides with occupied cells and with the walls and floor. Its Zobrist hash is kept
+ * up to date in the same way as the {@code BitBoard}'s, so equal boards have equal hashes.
+ */
+final class SearchBoard {
+
+    private static final RowKernel KERNEL = RowKernel.get();
+
+    private final int width;
+    private final int height;
+    private final int words;
+    // the columns of the last word that are on the board
+    private final long lastWord;
+    // BitBoard.getWordCount() words per row
+    private final long[] rows;
+    private long hash;
+
+    /**
+     * Copies the fixed blocks of a game board.
+     */
+    SearchBoard(BitBoard board) {
+        width = board.getWidth();
+        height = board.getHeight();
+        words = board.getWordCount();
+        lastWord = -1L >>> (words * Long.SIZE - width);
+        rows = new long[height * words];
+        for (int row = 0; row < height; row++) {
+            for (int w = 0; w < words; w++) {
+                rows[row * words + w] = board.getRowWord(row, w);
+            }
+        }
+        hash = board.getHash();
+    }
+
+    /**
+     * Copies another search board.
+     */
+    SearchBoard(SearchBoard other) {
+        width = other.width;
+        height = other.height;
+        words = other.words;
+        lastWord = other.lastWord;
+        rows = other.rows.clone();
+        hash = other.hash;
+    }
+
+    /**
+     * Gets the Zobrist hash of the occupied cells.
+     */
+    long getHash() {
+        return hash;
+    }
+
+    /**
+     * Checks if a rotation of a brick at (x, y) overlaps a block or leaves the board.
+     */
+    boolean collides(BrickShape shape, int rotation, int x, int y) {
+        if (x + shape.getMinCol(rotation) < 0 || x + shape.getMaxCol(rotation) >= width) {
+            return true;
+        }
+        for (int i = shape.getMinRow(rotation); i <= shape.getMaxRow(rotation); i++) {
+            int row = y + i;
+            if (row < 0 || row >= height) {
+                return true;
+            }
+            long mask = shape.getRowMask(rotation, i);
+            if (mask != 0 && overlaps(row, mask, x)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the lowest row a brick reaches when dropped straight down from (x, y).
+     */
+    int drop(BrickShape shape, int rotation, int x, int y) {
+        while (!collides(shape, rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Fixes a brick at (x, y) and removes the rows it completes.
+     *
+     * @return The number of rows cleared.
+     */
+    int place(BrickShape shape, int rotation, int x, int y) {
+        boolean completed = false;
+        for (int i = shape.getMinRow(rotation); i <= shape.getMaxRow(rotation); i++) {
+            long mask = shape.getRowMask(rotation, i);
+            if (mask != 0) {
+                fill(y + i, mask, x);
+                completed |= isFull(y + i);
+            }
+        }
+        if (!completed) {
+            return 0;
+        }
+        // rows below the brick cannot be full and never move
+        int bottom = y + shape.getMaxRow(rotation);
+        int write = bottom;
+        for (int read = bottom; read >= 0; read--) {
+            if (isFull(read)) {
+                hash ^= rowHash(read, read);
+            } else {
+                if (write != read) {
+                    hash ^= rowHash(read, read) ^ rowHash(write, read);
+                    System.arraycopy(rows, read * words, rows, write * words, words);
+                }
+                write--;
+            }
+        }
+        Arrays.fill(rows, 0, (write + 1) * words, 0L);
+        return write + 1;
+    }
+
+    /**
+     * Checks a brick row mask with its left edge at column {@code x} against a board row. The
+     * mask must be within the walls.
+     */
+    private boolean overlaps(int row, long mask, int x) {
+        int offset = Long.numberOfTrailingZeros(mask);
+        int left = x + offset;
+        long placed = mask >>> offset;
+        int bit = left & (Long.SIZE - 1);
+        int index = row * words + (left >>> 6);
+        if ((rows[index] & placed << bit) != 0) {
+            return true;
+        }
+        long spill = bit == 0 ? 0 : placed >>> (Long.SIZE - bit);
+        return spill != 0 && (rows[index + 1] & spill) != 0;
+    }
+
+    /**
+     * Occupies the cells of a brick row mask with its left edge at column {@code x}.
+     */
+    private void fill(int row, long mask, int x) {
+        int offset = Long.numberOfTrailingZeros(mask);
+        int left = x + offset;
+        long placed = mask >>> offset;
+        int bit = left & (Long.SIZE - 1);
+        int word = left >>> 6;
+        rows[row * words + word] |= placed << bit;
+        hash ^= Zobrist.rowHash(row, word << 6, placed << bit);
+        long spill = bit == 0 ? 0 : placed >>> (Long.SIZE - bit);
+        if (spill != 0) {
+            rows[row * words + word + 1] |= spill;
+            hash ^= Zobrist.rowHash(row, (word + 1) << 6, spill);
+        }
+    }
+
+    /**
+     * Checks if every column of a row is occupied.
+     */
+    private boolean isFull(int row) {
+        return KERNEL.isFull(rows, row * words, words, lastWord);
+    }
+
+    /**
+     * Gets the Zobrist keys of the blocks stored at {@code from}, as if they sat on {@code row}.
+     */
+    private long rowHash(int row, int from) {
+        long rowHash = 0;
+        for (int w = 0; w < words; w++) {
+            rowHash ^= Zobrist.rowHash(row, w << 6, rows[from * words + w]);
+        }
+        return rowHash;
+    }
+
+    /**
+     * Scores the board for the search: lower stacks, fewer holes and a flatter surface are better.
+     *
+     * @param weights The heuristic weights.
+     * @param lines The rows cleared on the way to this board.
+     * @return The heuristic value, higher is better.
+     */
+    double evaluate(double[] weights, int lines) {
+        int[] heights = new int[width];
+        long[] seen = new long[words];
+        int holes = 0;
+        // walk down the rows; a column's height is set by its first block, empty cells below a block are holes
+        for (int row = 0; row < height; row++) {
+            for (int w = 0; w < words; w++) {
+                long cells = rows[row * words + w];
+                long newColumns = cells & ~seen[w];
+                while (newColumns != 0) {
+                    heights[(w << 6) + Long.numberOfTrailingZeros(newColumns)] = height - row;
+                    newColumns &= newColumns - 1;
+                }
+                holes += Long.bitCount(seen[w] & ~cells);
+                seen[w] |= cells;
+            }
+        }
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        for (int col = 0; col < width; col++) {
+            aggregateHeight += heights[col];
+            if (col > 0) {
+                bumpiness += Math.abs(heights[col] - heights[col - 1]);
+            }
+        }
+        return weights[0] * aggregateHeight + weights[1] * lines + weights[2] * holes + weights[3] * bumpiness;
+    }
+}
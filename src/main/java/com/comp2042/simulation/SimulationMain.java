@@ -0,0 +1,84 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.logic.GameMode;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+
+/**
+ * Command-line entry point of the batch simulator. It runs without JavaFX, separately from
+ * {@code view.application.Main}, e.g.
+ * {@code java -cp target/classes com.comp2042.simulation.SimulationMain --games 1000 --mode HARD_MODE}.
+ *
+ * <p>Options: {@code --games N}, {@code --seed S}, {@code --pieces P} (limit per game),
+ * {@code --mode NORMAL_MODE|HARD_MODE|EXTREME_MODE|ALL}, {@code --randomizer UNIFORM|BAG|HISTORY},
+ * {@code --policy random|beam} and {@code --threads T}. The beam search runs on a node budget
+ * rather than a time budget, so a seed gives the same results on any machine and thread count.</p>
+ */
+public final class SimulationMain {
+
+    private static final long BEAM_NODES = 10_000;
+
+    //We don't want to instantiate this utility class
+    private SimulationMain() {
+
+    }
+
+    /**
+     * Parses the options, runs the batch and prints the averages per mode.
+     *
+     * @param args The command-line options.
+     */
+    public static void main(String[] args) {
+        int games = 1000;
+        long seed = System.nanoTime();
+        int pieces = 10_000;
+        GameMode[] modes = GameMode.values();
+        BrickRandomizer randomizer = BrickRandomizer.BAG;
+        String policyName = "random";
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--pieces" -> pieces = Integer.parseInt(value);
+                case "--mode" -> modes = value.equalsIgnoreCase("ALL")
+                        ? GameMode.values() : new GameMode[]{GameMode.valueOf(value.toUpperCase(Locale.ROOT))};
+                case "--randomizer" -> randomizer = BrickRandomizer.valueOf(value.toUpperCase(Locale.ROOT));
+                case "--policy" -> policyName = value;
+                case "--threads" -> threads = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        BatchSimulator simulator = new BatchSimulator(policy(policyName), randomizer, pieces, threads);
+        long start = System.nanoTime();
+        SimulationStats stats = simulator.run(games, seed, modes);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d games, seed %d, %s policy, %d threads, %.2f s%n", games, seed, policyName, threads, seconds);
+        for (GameMode mode : modes) {
+            SimulationStats.ModeStats result = stats.get(mode);
+            System.out.printf("%-13s games %7d  score %10.1f  lines %8.1f  level %5.2f  pieces %9.1f  topped out %5.1f%%  best %d%n",
+                    mode, result.getGames(), result.average(result.getScore()), result.average(result.getLines()),
+                    result.average(result.getLevel()), result.average(result.getPieces()),
+                    100 * result.average(result.getToppedOut()), result.getBestScore());
+        }
+        System.out.printf("%.0f pieces/s%n", stats.getTotalPieces() / seconds);
+    }
+
+    /**
+     * Looks up a policy by its command-line name.
+     */
+    private static LongFunction<MovePolicy> policy(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "random" -> RandomMovePolicy::new;
+            case "beam" -> seed -> BeamSearchPolicy.deterministic(BEAM_NODES, ForkJoinPool.commonPool());
+            default -> throw new IllegalArgumentException("Unknown policy " + name);
+        };
+    }
+}
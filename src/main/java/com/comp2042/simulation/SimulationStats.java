@@ -0,0 +1,167 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.logic.GameMode;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The combined results of a simulation batch, kept separately for every {@code GameMode}.
+ *
+ * <p>Games finish on many threads at once, so every total is a {@code LongAdder} (and the best
+ * score a {@code LongAccumulator}): each thread adds to its own cell and nothing is locked.
+ * The map itself is filled once in the constructor and only read afterwards.</p>
+ */
+public final class SimulationStats {
+
+    private final Map<GameMode, ModeStats> modes = new EnumMap<>(GameMode.class);
+
+    /**
+     * Constructs empty statistics for every game mode.
+     */
+    public SimulationStats() {
+        for (GameMode mode : GameMode.values()) {
+            modes.put(mode, new ModeStats());
+        }
+    }
+
+    /**
+     * Adds the result of one finished game. Safe to call from any thread.
+     *
+     * @param mode The mode the game was played in.
+     * @param score The final score.
+     * @param lines The lines cleared.
+     * @param level The final level.
+     * @param pieces The bricks placed, i.e. how long the game survived.
+     * @param gameNanos The game clock time when it ended.
+     * @param toppedOut true if the game ended by topping out rather than by the piece limit.
+     */
+    public void addGame(GameMode mode, int score, int lines, int level, long pieces, long gameNanos, boolean toppedOut) {
+        ModeStats stats = modes.get(mode);
+        stats.games.increment();
+        stats.score.add(score);
+        stats.lines.add(lines);
+        stats.level.add(level);
+        stats.pieces.add(pieces);
+        stats.gameNanos.add(gameNanos);
+        if (toppedOut) {
+            stats.toppedOut.increment();
+        }
+        stats.bestScore.accumulate(score);
+    }
+
+    /**
+     * Gets the statistics of one mode.
+     * @param mode The game mode.
+     * @return The totals for that mode.
+     */
+    public ModeStats get(GameMode mode) {
+        return modes.get(mode);
+    }
+
+    /**
+     * Gets the number of bricks placed over all modes.
+     * @return The total piece count.
+     */
+    public long getTotalPieces() {
+        long total = 0;
+        for (ModeStats stats : modes.values()) {
+            total += stats.getPieces();
+        }
+        return total;
+    }
+
+    /**
+     * The running totals of one game mode.
+     */
+    public static final class ModeStats {
+        private final LongAdder games = new LongAdder();
+        private final LongAdder score = new LongAdder();
+        private final LongAdder lines = new LongAdder();
+        private final LongAdder level = new LongAdder();
+        private final LongAdder pieces = new LongAdder();
+        private final LongAdder gameNanos = new LongAdder();
+        private final LongAdder toppedOut = new LongAdder();
+        private final LongAccumulator bestScore = new LongAccumulator(Math::max, 0);
+
+        private ModeStats() {
+
+        }
+
+        /**
+         * Gets the number of games played.
+         * @return The total.
+         */
+        public long getGames() {
+            return games.sum();
+        }
+
+        /**
+         * Gets the sum of the final scores.
+         * @return The total.
+         */
+        public long getScore() {
+            return score.sum();
+        }
+
+        /**
+         * Gets the sum of the lines cleared.
+         * @return The total.
+         */
+        public long getLines() {
+            return lines.sum();
+        }
+
+        /**
+         * Gets the sum of the final levels.
+         * @return The total.
+         */
+        public long getLevel() {
+            return level.sum();
+        }
+
+        /**
+         * Gets the sum of the bricks placed.
+         * @return The total.
+         */
+        public long getPieces() {
+            return pieces.sum();
+        }
+
+        /**
+         * Gets the sum of the game clock times, in nanoseconds.
+         * @return The total.
+         */
+        public long getGameNanos() {
+            return gameNanos.sum();
+        }
+
+        /**
+         * Gets the number of games that ended by topping out.
+         * @return The total.
+         */
+        public long getToppedOut() {
+            return toppedOut.sum();
+        }
+
+        /**
+         * Gets the highest final score.
+         * @return The best score.
+         */
+        public long getBestScore() {
+            return bestScore.get();
+        }
+
+        /**
+         * Divides a total by the number of games.
+         * @param total A total from this object.
+         * @return The average per game, or 0 if no game was played.
+         */
+        public double average(long total) {
+            long count = getGames();
+            return count == 0 ? 0 : (double) total / count;
+        }
+    }
+}
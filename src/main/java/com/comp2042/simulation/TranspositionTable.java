@@ -0,0 +1,112 @@
+package com.comp2042.simulation;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size cache of search results keyed by a Zobrist state key (board, brick and held brick).
+ *
+ * <p>The table never grows: each key maps to a bucket of two entries. The first entry keeps
+ * the result searched deepest and the second always takes the newest result, so deep results
+ * survive while the cache keeps up with the current position. Buckets are guarded by a fixed
+ * set of stripe locks, so search threads working on different parts of the table rarely wait
+ * for each other.</p>
+ *
+ * <p>Keys and values are interleaved in one array, so a probe reads a single cache line.</p>
+ */
+public final class TranspositionTable {
+
+    private static final int STRIPES = 64;
+    private static final int EMPTY = -1;
+
+    // key, value, key, value per bucket
+    private final long[] entries;
+    private final byte[] depths;
+    private final Object[] locks = new Object[STRIPES];
+    private final int bucketMask;
+
+    /**
+     * Constructs an empty table.
+     *
+     * @param bucketBits The table holds {@code 2^bucketBits} buckets of two entries.
+     */
+    public TranspositionTable(int bucketBits) {
+        int buckets = 1 << bucketBits;
+        bucketMask = buckets - 1;
+        entries = new long[buckets * 4];
+        depths = new byte[buckets * 2];
+        Arrays.fill(depths, (byte) EMPTY);
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Looks up a result.
+     *
+     * @param key The state key.
+     * @param minDepth The least search depth the result must come from.
+     * @return The stored value, or {@code Double.NaN} if there is none deep enough.
+     */
+    public double get(long key, int minDepth) {
+        int slot = bucket(key) << 1;
+        synchronized (lockFor(slot)) {
+            for (int i = slot; i < slot + 2; i++) {
+                if (depths[i] != EMPTY && entries[i << 1] == key && depths[i] >= minDepth) {
+                    return Double.longBitsToDouble(entries[(i << 1) + 1]);
+                }
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Stores a result, replacing older entries of the bucket as described above.
+     *
+     * @param key The state key.
+     * @param depth The search depth the value comes from (0 for a plain evaluation).
+     * @param value The value to store.
+     */
+    public void put(long key, int depth, double value) {
+        int slot = bucket(key) << 1;
+        byte storedDepth = (byte) Math.min(depth, Byte.MAX_VALUE);
+        long bits = Double.doubleToRawLongBits(value);
+        synchronized (lockFor(slot)) {
+            if (depths[slot] != EMPTY && entries[slot << 1] == key) {
+                // already cached, only a deeper result is worth more
+                if (storedDepth >= depths[slot]) {
+                    write(slot, key, bits, storedDepth);
+                }
+            } else if (depths[slot] == EMPTY || storedDepth >= depths[slot]) {
+                if (depths[slot] != EMPTY) {
+                    // the deep entry moves down to the always-replace slot
+                    write(slot + 1, entries[slot << 1], entries[(slot << 1) + 1], depths[slot]);
+                }
+                write(slot, key, bits, storedDepth);
+            } else {
+                write(slot + 1, key, bits, storedDepth);
+            }
+        }
+    }
+
+    private void write(int slot, long key, long bits, byte depth) {
+        entries[slot << 1] = key;
+        entries[(slot << 1) + 1] = bits;
+        depths[slot] = depth;
+    }
+
+    /**
+     * Empties the table. Must not be called while a search is using it.
+     */
+    public void clear() {
+        Arrays.fill(depths, (byte) EMPTY);
+    }
+
+    private int bucket(long key) {
+        // the low bits of a Zobrist key are as random as the high ones
+        return (int) key & bucketMask;
+    }
+
+    private Object lockFor(int slot) {
+        return locks[(slot >>> 1) & (STRIPES - 1)];
+    }
+}
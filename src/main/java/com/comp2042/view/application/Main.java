@@ -1,5 +1,8 @@
 package com.comp2042.view.application;
 
+import com.comp2042.controller.BoardRenderer;
+import com.comp2042.controller.GameFlowManager;
+import com.comp2042.view.scenes.SceneSwitch;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -7,22 +10,42 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.net.URL;
+import java.nio.file.Path;
 
 /**
  * The main entry point for the TetrisJFX application, extending the JavaFX {@code Application} class.
  */
 public class Main extends Application {
 
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
     /**
      * The primary entry point for all JavaFX applications. This method loads the
      * {@code mainMenuScreen.fxml}, sets up the scene dimensions (1280x800), and displays
-     * the stage.
+     * the stage. A {@code --renderer=canvas} argument selects the canvas board renderer,
+     * and {@code --previews=N} shows N upcoming bricks instead of one. A
+     * {@code --replay=FILE} argument plays a recorded game in real time instead of opening
+     * the menu, e.g. to reproduce a reported stall.
      *
      * @param primaryStage The primary stage for this application.
-     * @throws Exception if the FXML file fails to load.
+     * @throws Exception if the FXML file or the replay fails to load.
      */
     @Override
     public void start(Stage primaryStage) throws Exception {
+        String renderer = getParameters().getNamed().get("renderer");
+        if (renderer != null) {
+            System.setProperty(BoardRenderer.RENDERER_PROPERTY, renderer);
+        }
+        String previews = getParameters().getNamed().get("previews");
+        if (previews != null) {
+            System.setProperty(BoardRenderer.PREVIEW_PROPERTY, previews);
+        }
+        String replay = getParameters().getNamed().get("replay");
+        if (replay != null) {
+            SceneSwitch.loadReplay(primaryStage, Path.of(replay));
+            primaryStage.show();
+            return;
+        }
 
         URL location = getClass().getClassLoader().getResource("scenes_FXML/mainMenuScreen.fxml");
         FXMLLoader fxmlLoader = new FXMLLoader(location);
@@ -34,4 +57,13 @@ public class Main extends Application {
         primaryStage.setScene(scene);
         primaryStage.show();
     }
-}
\ No newline at end of file
+
+    /**
+     * Called when the application exits. Waits for the running game to finish its shutdown,
+     * so the replay being recorded reaches the disk before the JVM stops.
+     */
+    @Override
+    public void stop() {
+        GameFlowManager.shutdownAll(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+}
@@ -1,49 +1,106 @@
 package com.comp2042.view.data;
 
-import com.comp2042.model.logic.MatrixOperations;
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+import com.comp2042.model.brickShapeGenerator.BrickShapes;
 
 /**
  * A final data class that bundles all necessary information for the {@code GameRenderer}
  * to draw the dynamic elements of the game screen (the current falling brick, its shadow,
  * and the preview panels).
+ *
+ * <p>The view data only references the shared, immutable {@code BrickShape} of each brick and
+ * stores positions and ids, so filling it is O(1) and its getters never copy. It is read-only
+ * to everyone but its owner: the board keeps two instances and refills the older one when the
+ * game changes, and a {@code GameSnapshot} copies into its own instance before handing it to
+ * another thread. A view data returned by the board therefore stays valid until the game
+ * changes twice more.</p>
+ *
+ * <p>Design Patterns Used:</p>
+ * <ul>
+ * <li>**Flyweight**: Shapes are shared {@code BrickShape} instances instead of copied matrices.</li>
+ * <li>**Double Buffering**: The owner fills a spare instance while the last one handed out is still being read.</li>
+ * </ul>
  */
 public final class ViewData {
 
-    private final int[][] brickData;
-    private final int xPosition;
-    private final int yPosition;
-    private final int[][] nextBrickData;
-    private final int shadowXPosition;
-    private final int shadowYPosition;
-    private final int[][] heldBrickData;
+    private BrickShape brickShape;
+    private int rotation;
+    private int xPosition;
+    private int yPosition;
+    private int shadowYPosition;
+    private final int[] nextBrickIds;
+    private int heldBrickId = -1;
 
     /**
-     * Constructs the ViewData container.
+     * Constructs an empty ViewData container, to be filled by its owner.
      *
-     * @param brickData The 2D matrix of the current falling brick.
-     * @param xPosition The X position of the current falling brick.
+     * @param nextBrickCount The number of upcoming bricks it lists.
+     */
+    public ViewData(int nextBrickCount) {
+        this.nextBrickIds = new int[nextBrickCount];
+    }
+
+    /**
+     * Fills in the falling brick, its ghost piece and the held brick. Owner only.
+     *
+     * @param brickShape The shape of the current falling brick.
+     * @param rotation The rotation index of the current falling brick.
+     * @param xPosition The X position of the current falling brick, shared by its ghost piece.
      * @param yPosition The Y position of the current falling brick.
-     * @param nextBrickData The 2D matrix of the next brick.
-     * @param shadowXPosition The X position of the ghost piece.
      * @param shadowYPosition The Y position of the ghost piece.
-     * @param heldBrickData The 2D matrix of the held brick, or null if none is held.
+     * @param heldBrickId The id of the held brick, or -1 if none is held.
      */
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int shadowXPosition, int shadowYPosition, int[][] heldBrickData) {
-        this.brickData = brickData;
+    public void set(BrickShape brickShape, int rotation, int xPosition, int yPosition, int shadowYPosition, int heldBrickId) {
+        this.brickShape = brickShape;
+        this.rotation = rotation;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
-        this.shadowXPosition = shadowXPosition;
         this.shadowYPosition = shadowYPosition;
-        this.heldBrickData = heldBrickData;
+        this.heldBrickId = heldBrickId;
+    }
+
+    /**
+     * Sets the id of an upcoming brick. Owner only.
+     *
+     * @param index How many bricks ahead, 0 being the next brick.
+     * @param brickId The brick id.
+     */
+    public void setNextBrickId(int index, int brickId) {
+        nextBrickIds[index] = brickId;
+    }
+
+    /**
+     * Makes this view data a copy of another one with the same next queue length. Owner only.
+     *
+     * @param other The view data to copy.
+     */
+    public void copyFrom(ViewData other) {
+        set(other.brickShape, other.rotation, other.xPosition, other.yPosition, other.shadowYPosition, other.heldBrickId);
+        System.arraycopy(other.nextBrickIds, 0, nextBrickIds, 0, nextBrickIds.length);
+    }
+
+    /**
+     * Gets the shared shape of the current falling brick.
+     * @return The brick shape, or null if nothing was filled in yet.
+     */
+    public BrickShape getBrickShape() {
+        return brickShape;
     }
 
     /**
-     * Gets a copy of the current falling brick's data.
-     * @return A deep copy of the brick matrix.
+     * Gets the rotation index of the current falling brick.
+     * @return The rotation index into {@link #getBrickShape()}.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the current falling brick's data. The matrix is shared and must not be modified.
+     * @return The brick matrix.
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickShape.getMatrix(rotation);
     }
 
     /**
@@ -63,11 +120,11 @@ public final class ViewData {
     }
 
     /**
-     * Gets a copy of the next brick's data.
-     * @return A deep copy of the next brick matrix.
+     * Gets the next brick's data. The matrix is shared and must not be modified.
+     * @return The next brick matrix.
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return BrickShapes.getShape(nextBrickIds[0]).getMatrix(0);
     }
 
     /**
@@ -75,7 +132,7 @@ public final class ViewData {
      * @return The shadow X coordinate.
      */
     public int getShadowXPosition() {
-        return shadowXPosition;
+        return xPosition;
     }
 
     /**
@@ -87,10 +144,37 @@ public final class ViewData {
     }
 
     /**
-     * Gets a copy of the held brick's data.
-     * @return A deep copy of the held brick matrix, or null if no brick is held.
+     * Gets the held brick's data. The matrix is shared and must not be modified.
+     * @return The held brick matrix, or null if no brick is held.
      */
     public int[][] getHeldBrickData() {
-        return heldBrickData != null ? MatrixOperations.copy(heldBrickData) : null;
+        return heldBrickId >= 0 ? BrickShapes.getShape(heldBrickId).getMatrix(0) : null;
+    }
+
+    /**
+     * Gets the number of upcoming bricks listed in this view data.
+     * @return The length of the next queue.
+     */
+    public int getNextBrickCount() {
+        return nextBrickIds.length;
+    }
+
+    /**
+     * Gets the id of an upcoming brick. The preview panels compare ids to tell whether the
+     * shown brick actually changed.
+     *
+     * @param index How many bricks ahead, 0 being the next brick.
+     * @return The brick id.
+     */
+    public int getNextBrickId(int index) {
+        return nextBrickIds[index];
+    }
+
+    /**
+     * Gets the id of the held brick.
+     * @return The brick id, or -1 if no brick is held.
+     */
+    public int getHeldBrickId() {
+        return heldBrickId;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,11 @@
 package com.comp2042.view.scenes; // Recommended package
 
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.GuiController;
+import com.comp2042.model.gameBoard.TetrisBoard;
+import com.comp2042.model.replay.Replay;
+import com.comp2042.model.replay.ReplayCursor;
+import com.comp2042.model.replay.ReplayRecorder;
 import javafx.animation.FadeTransition;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
@@ -10,10 +16,11 @@ import javafx.util.Duration;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 
 /**
  * A utility class providing common, reusable methods for navigating back to the Main Menu
- * with a standard transition effect.
+ * with a standard transition effect, and for opening a recorded game.
  */
 public final class SceneSwitch {
 
@@ -40,4 +47,27 @@ public final class SceneSwitch {
         stage.setTitle("TetrisJFX");
         fadeIn.play();
     }
-}
\ No newline at end of file
+
+    /**
+     * Loads the game screen ({@code gameLayout.fxml}) and plays a recorded game on it in real time.
+     * The replay is not recorded again and its score is not saved.
+     *
+     * @param stage The window to show the replay in.
+     * @param file The replay file to play.
+     * @throws IOException If the FXML file or the replay cannot be loaded.
+     */
+    public static void loadReplay(Stage stage, Path file) throws IOException {
+        Replay replay = Replay.read(file);
+        URL location = com.comp2042.view.scenes.SceneSwitch.class.getClassLoader().getResource("scenes_FXML/gameLayout.fxml");
+        FXMLLoader fxmlLoader = new FXMLLoader(location);
+        Parent gameRoot = fxmlLoader.load();
+        GuiController controller = fxmlLoader.getController();
+
+        stage.setScene(new Scene(gameRoot, 1280, 800));
+        stage.setTitle("TetrisJFX - Replay");
+        stage.setResizable(false);
+        TetrisBoard board = new TetrisBoard(replay.getWidth(), replay.getHeight(), replay.getSeed(), replay.getRandomizer());
+        new GameController(controller, replay.getGameMode(), entry -> { }, board, ReplayRecorder.NONE);
+        controller.playReplay(new ReplayCursor(replay));
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotExchangeTest {
+
+    @Test
+    void testLatest_BeforeAnyPublicationIsEmpty() {
+        SnapshotExchange exchange = new SnapshotExchange(() -> new GameSnapshot(10, 25));
+        assertEquals(0, exchange.getLatest().getSequence());
+    }
+
+    @Test
+    void testLatest_ReturnsTheNewestPublication() {
+        SnapshotExchange exchange = new SnapshotExchange(() -> new GameSnapshot(2, 2));
+        int[][] board = new int[2][2];
+        long[] rowVersions = new long[2];
+        for (int version = 1; version <= 3; version++) {
+            board[0][0] = version;
+            rowVersions[0] = version;
+            exchange.getBack().captureBoard(board, rowVersions, version);
+            exchange.publish();
+        }
+
+        GameSnapshot latest = exchange.getLatest();
+        assertEquals(3, latest.getSequence());
+        assertEquals(3, latest.getBoard()[0][0]);
+        assertSame(latest, exchange.getLatest(), "Without a new publication the same snapshot should be returned.");
+    }
+
+    @Test
+    void testCaptureBoard_CatchesUpOnlyTheRowsChangedSinceItsVersion() {
+        SnapshotExchange exchange = new SnapshotExchange(() -> new GameSnapshot(2, 4));
+        int[][] board = new int[4][2];
+        long[] rowVersions = new long[4];
+        // each publication changes one row, so every buffer misses the rows changed while it was away
+        for (int version = 1; version <= 6; version++) {
+            int row = version % 4;
+            board[row][1] = version;
+            rowVersions[row] = version;
+            exchange.getBack().captureBoard(board, rowVersions, version);
+            exchange.publish();
+        }
+
+        GameSnapshot latest = exchange.getLatest();
+        assertEquals(6, latest.getBoardVersion());
+        for (int row = 0; row < 4; row++) {
+            assertArrayEquals(board[row], latest.getBoard()[row], "Row " + row);
+            assertEquals(rowVersions[row], latest.getRowVersion(row), "Row " + row);
+        }
+    }
+
+    @Test
+    void testConcurrentReader_NeverSeesATornOrOlderSnapshot() throws InterruptedException {
+        SnapshotExchange exchange = new SnapshotExchange(() -> new GameSnapshot(10, 25));
+        int publications = 200_000;
+
+        Thread writer = new Thread(() -> {
+            int[][] board = new int[25][10];
+            long[] rowVersions = new long[25];
+            for (int version = 1; version <= publications; version++) {
+                for (int[] row : board) {
+                    Arrays.fill(row, version);
+                }
+                Arrays.fill(rowVersions, version);
+                exchange.getBack().captureBoard(board, rowVersions, version);
+                exchange.publish();
+            }
+        });
+        writer.start();
+
+        long lastSequence = 0;
+        while (lastSequence < publications) {
+            GameSnapshot snapshot = exchange.getLatest();
+            long sequence = snapshot.getSequence();
+            assertTrue(sequence >= lastSequence, "Snapshots should never go back in time");
+            if (sequence > 0) {
+                // every cell was written with the same version, so a torn copy would show two values
+                int expected = snapshot.getBoard()[0][0];
+                for (int[] row : snapshot.getBoard()) {
+                    for (int cell : row) {
+                        assertEquals(expected, cell, "Snapshot " + sequence + " was changed while being read");
+                    }
+                }
+                assertEquals(snapshot.getBoardVersion(), expected);
+            }
+            lastSequence = sequence;
+        }
+        writer.join();
+        assertEquals(publications, exchange.getLatest().getSequence());
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042.controller.keyInput;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRingBufferTest {
+
+    @Test
+    void testDrain_ReturnsTheInputsInOrderWithTheirTimes() {
+        InputRingBuffer inputs = new InputRingBuffer(4);
+        inputs.offer(EventType.LEFT, EventSource.USER, 10);
+        inputs.offer(EventType.ROTATE, EventSource.USER, 20);
+        inputs.offer(EventType.DOWN, EventSource.THREAD, 30);
+
+        List<String> drained = new ArrayList<>();
+        int count = inputs.drain((type, source, timeNanos) -> drained.add(type + "/" + source + "@" + timeNanos));
+
+        assertEquals(3, count);
+        assertEquals(List.of("LEFT/USER@10", "ROTATE/USER@20", "DOWN/THREAD@30"), drained);
+        assertTrue(inputs.isEmpty());
+        assertEquals(0, inputs.drain((type, source, timeNanos) -> fail("Nothing should be left")));
+    }
+
+    @Test
+    void testOffer_DropsInputsOnceFullAndReusesFreedSlots() {
+        InputRingBuffer inputs = new InputRingBuffer(2);
+        assertTrue(inputs.offer(EventType.LEFT, EventSource.USER, 1));
+        assertTrue(inputs.offer(EventType.RIGHT, EventSource.USER, 2));
+        assertFalse(inputs.offer(EventType.SLAM, EventSource.USER, 3), "A full buffer should reject the input");
+
+        inputs.clear();
+        // wraps around the end of the slot arrays several times
+        for (int i = 0; i < 5; i++) {
+            assertTrue(inputs.offer(EventType.HOLD, EventSource.USER, i));
+            long[] seen = new long[1];
+            assertEquals(1, inputs.drain((type, source, timeNanos) -> seen[0] = timeNanos));
+            assertEquals(i, seen[0]);
+        }
+    }
+
+    @Test
+    void testConstructor_RejectsACapacityThatIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new InputRingBuffer(3));
+        assertThrows(IllegalArgumentException.class, () -> new InputRingBuffer(0));
+    }
+
+    @Test
+    // a lost input would leave the consumer waiting forever, so fail rather than hang
+    @Timeout(value = 10, unit = TimeUnit.SECONDS, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void testConcurrentProducer_EveryInputArrivesOnceAndInOrder() throws InterruptedException {
+        InputRingBuffer inputs = new InputRingBuffer(64);
+        int total = 20_000;
+
+        Thread producer = new Thread(() -> {
+            for (int i = 1; i <= total; i++) {
+                EventType type = EventType.values()[i % EventType.values().length];
+                while (!inputs.offer(type, EventSource.USER, i)) {
+                    // let the consumer run, even with a single CPU
+                    Thread.yield();
+                }
+            }
+        });
+        producer.setDaemon(true);
+        producer.start();
+
+        long[] last = new long[1];
+        while (last[0] < total) {
+            int drained = inputs.drain((type, source, timeNanos) -> {
+                assertEquals(last[0] + 1, timeNanos, "Inputs should arrive exactly once, in order");
+                assertEquals(EventType.values()[(int) (timeNanos % EventType.values().length)], type,
+                        "An input should never be read before it was fully written");
+                last[0] = timeNanos;
+            });
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        assertTrue(inputs.isEmpty());
+    }
+}
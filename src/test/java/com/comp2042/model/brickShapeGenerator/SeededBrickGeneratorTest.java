@@ -0,0 +1,53 @@
+package com.comp2042.model.brickShapeGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededBrickGeneratorTest {
+
+    @Test
+    void testSameSeed_ProducesSameSequence() {
+        for (BrickRandomizer randomizer : BrickRandomizer.values()) {
+            SeededBrickGenerator first = randomizer.create(1234L);
+            SeededBrickGenerator second = randomizer.create(1234L);
+            for (int i = 0; i < 500; i++) {
+                assertSame(first.getBrick(), second.getBrick(), randomizer + " should be deterministic at piece " + i);
+            }
+
+            // Reseeding restarts the sequence
+            SeededBrickGenerator fresh = randomizer.create(1234L);
+            first.reseed(1234L);
+            for (int i = 0; i < 50; i++) {
+                assertEquals(fresh.nextBrickId(), first.nextBrickId(), randomizer + " reseed should restart at piece " + i);
+            }
+        }
+    }
+
+    @Test
+    void testLookahead_MatchesLaterDraws() {
+        SeededBrickGenerator generator = BrickRandomizer.HISTORY.create(99L);
+        int[] preview = new int[300];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = generator.peekBrickId(i);
+        }
+        assertSame(generator.peekBrick(0), generator.getNextBrick(), "Index 0 should be the next brick.");
+
+        for (int i = 0; i < preview.length; i++) {
+            assertEquals(preview[i], generator.nextBrickId(), "Lookahead should not change the sequence at piece " + i);
+        }
+    }
+
+    @Test
+    void testBag_DealsEveryBrickOncePerBag() {
+        SeededBrickGenerator generator = BrickRandomizer.BAG.create(7L);
+        for (int bag = 0; bag < 100; bag++) {
+            boolean[] seen = new boolean[BrickShapes.COUNT];
+            for (int i = 0; i < BrickShapes.COUNT; i++) {
+                int id = generator.nextBrickId();
+                assertFalse(seen[id], "Brick " + id + " dealt twice in bag " + bag);
+                seen[id] = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.comp2042.model.gameBoard;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how many bytes a piece of work allocates on the calling thread, for the tests that
+ * check a hot path is allocation-free.
+ */
+final class AllocationMeter {
+
+    /**
+     * The most a measured run may allocate and still count as allocation-free. It leaves room
+     * for the measurement itself, not for anything done per iteration.
+     */
+    static final long MAX_BYTES = 1024;
+
+    //We don't want to instantiate this utility class
+    private AllocationMeter() {
+
+    }
+
+    /**
+     * Runs the work twice and measures what the second run allocated. The first run is the
+     * warm-up, so class loading and JIT compilation of exactly the measured calls are not counted.
+     *
+     * @param work The work to measure.
+     * @return The number of bytes allocated by the calling thread during the second run.
+     */
+    static long bytesAllocatedBy(Runnable work) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        work.run();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        work.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+}
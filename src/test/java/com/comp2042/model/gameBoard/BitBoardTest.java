@@ -0,0 +1,405 @@
+package com.comp2042.model.gameBoard;
+
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+import com.comp2042.model.brickShapeGenerator.BrickShapes;
+import com.comp2042.model.logic.ClearFullRow;
+import com.comp2042.model.logic.GarbageGenerator;
+import com.comp2042.model.logic.GarbagePattern;
+import com.comp2042.model.logic.MatrixOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    private static final int[][] T_SHAPE = {
+            {0, 6, 0, 0},
+            {6, 6, 6, 0},
+            {0, 0, 0, 0},
+            {0, 0, 0, 0}
+    };
+
+    @Test
+    void testIntersect_MatchesMatrixOperationsForEveryOffset() {
+        BitBoard bitBoard = new BitBoard(10, 25);
+        // Scatter some blocks over the lower half of the board
+        for (int row = 12; row < 25; row++) {
+            for (int col = 0; col < 10; col++) {
+                if ((row * 7 + col * 3) % 5 == 0) {
+                    bitBoard.setCell(row, col, 2);
+                }
+            }
+        }
+        int[][] matrix = bitBoard.getColourMatrix();
+
+        for (int y = 0; y < 25; y++) {
+            for (int x = -3; x < 12; x++) {
+                boolean expected;
+                try {
+                    expected = MatrixOperations.intersect(matrix, T_SHAPE, x, y);
+                } catch (ArrayIndexOutOfBoundsException outsideTop) {
+                    expected = true;
+                }
+                assertEquals(expected, bitBoard.intersects(T_SHAPE, x, y), "Collision mismatch at x=" + x + ", y=" + y);
+            }
+        }
+    }
+
+    @Test
+    void testWideBoard_MatchesMatrixOperationsAcrossWords() {
+        // three words per row, the last one only partly on the board
+        BitBoard bitBoard = new BitBoard(150, 30);
+        assertEquals(3, bitBoard.getWordCount());
+        SplittableRandom random = new SplittableRandom(64);
+        for (int row = 15; row < 30; row++) {
+            boolean full = random.nextInt(3) == 0;
+            for (int col = 0; col < 150; col++) {
+                if (full || random.nextInt(3) == 0) {
+                    bitBoard.setCell(row, col, 1 + random.nextInt(7));
+                }
+            }
+        }
+        int[][] matrix = bitBoard.getColourMatrix();
+        for (int y = 10; y < 30; y++) {
+            for (int x = -3; x < 152; x++) {
+                boolean expected;
+                try {
+                    expected = MatrixOperations.intersect(matrix, T_SHAPE, x, y);
+                } catch (ArrayIndexOutOfBoundsException outsideTop) {
+                    expected = true;
+                }
+                assertEquals(expected, bitBoard.intersects(T_SHAPE, x, y), "Collision mismatch at x=" + x + ", y=" + y);
+            }
+        }
+
+        ClearFullRow expected = MatrixOperations.checkRemoving(matrix);
+        assertEquals(expected.getLinesRemoved(), bitBoard.clearFullRows());
+        assertArrayEquals(expected.getNewMatrix(), bitBoard.getColourMatrix());
+        assertIndexesConsistent(bitBoard);
+
+        long[] holeMasks = new long[4 * bitBoard.getWordCount()];
+        new GarbageGenerator(3).nextHoleMasks(holeMasks, 0, 4, 150, 2, GarbagePattern.MESSY);
+        bitBoard.addRisingRows(holeMasks, 4, 8);
+        for (int row = 26; row < 30; row++) {
+            assertEquals(148, bitBoard.getRowFill(row), "Every garbage row should keep its two holes.");
+        }
+        assertIndexesConsistent(bitBoard);
+    }
+
+    @Test
+    void testMerge_UpdatesBitmaskAndColourPlane() {
+        BitBoard bitBoard = new BitBoard(10, 25);
+
+        bitBoard.merge(T_SHAPE, 3, 20);
+
+        assertEquals(0b0000010000L, bitBoard.getRow(20), "Top of the T should occupy column 4.");
+        assertEquals(0b0000111000L, bitBoard.getRow(21), "Bottom of the T should occupy columns 3 to 5.");
+        assertEquals(6, bitBoard.getColourMatrix()[21][5], "Colour plane should hold the brick colour.");
+        assertTrue(bitBoard.intersects(T_SHAPE, 3, 20), "Merged cells should block the same placement.");
+    }
+
+    @Test
+    void testRowFull_DetectedFromBitmask() {
+        BitBoard bitBoard = new BitBoard(10, 25);
+        for (int col = 0; col < 9; col++) {
+            bitBoard.setCell(24, col, 1);
+        }
+        assertFalse(bitBoard.hasFullRow(), "Row with one gap should not be full.");
+
+        bitBoard.setCell(24, 9, 1);
+        assertTrue(bitBoard.isRowFull(24), "Row should be full once every column is set.");
+
+        bitBoard.setCell(24, 9, 0);
+        assertFalse(bitBoard.isRowFull(24), "Emptying a cell should clear its bit.");
+    }
+
+    @Test
+    void testIndexes_TrackFillCountsAndColumnSurface() {
+        BitBoard bitBoard = new BitBoard(10, 25);
+        bitBoard.merge(T_SHAPE, 3, 20);
+        bitBoard.setCell(24, 4, 1);
+
+        assertEquals(1, bitBoard.getRowFill(20), "Top row of the T holds one block.");
+        assertEquals(3, bitBoard.getRowFill(21), "Bottom row of the T holds three blocks.");
+        assertEquals(20, bitBoard.getColumnTop(4), "Column 4 surface should be the tip of the T.");
+        assertEquals(5, bitBoard.getColumnHeight(4), "Column 4 stack should reach row 20 from the floor.");
+        assertEquals(0, bitBoard.getColumnHeight(0), "Untouched column should be empty.");
+
+        // Removing the surface block exposes the next block further down the column
+        bitBoard.setCell(20, 4, 0);
+        bitBoard.setCell(21, 4, 0);
+        assertEquals(24, bitBoard.getColumnTop(4), "Surface should drop to the next occupied row.");
+        assertEquals(2, bitBoard.getRowFill(21), "Fill count should follow removed blocks.");
+    }
+
+    @Test
+    void testFullRowDetection_OnlyLooksAtTouchedRows() {
+        BitBoard bitBoard = new BitBoard(10, 25);
+        for (int col = 0; col < 10; col++) {
+            bitBoard.setCell(24, col, 1);
+        }
+        assertTrue(bitBoard.hasFullTouchedRow(), "A freshly completed row should be found.");
+
+        bitBoard.resetTouchedRows();
+        bitBoard.merge(T_SHAPE, 3, 10);
+        assertFalse(bitBoard.hasFullTouchedRow(), "Rows outside the touched range should not be rescanned.");
+    }
+
+    @Test
+    void testDropRow_MatchesRowByRowProbe() {
+        BitBoard bitBoard = new BitBoard(10, 25);
+        for (int row = 14; row < 25; row++) {
+            for (int col = 0; col < 10; col++) {
+                if ((row * 7 + col * 3) % 4 == 0) {
+                    bitBoard.setCell(row, col, 2);
+                }
+            }
+        }
+        // An overhang with an open gap underneath
+        bitBoard.setCell(10, 2, 3);
+        bitBoard.setCell(10, 3, 3);
+
+        for (int id = 0; id < BrickShapes.COUNT; id++) {
+            BrickShape shape = BrickShapes.getShape(id);
+            for (int rotation = 0; rotation < shape.getRotationCount(); rotation++) {
+                for (int x = -3; x < 12; x++) {
+                    for (int y = 0; y < 25; y++) {
+                        if (bitBoard.intersects(shape, rotation, x, y)) {
+                            continue;
+                        }
+                        int expected = y;
+                        while (!bitBoard.intersects(shape, rotation, x, expected + 1)) {
+                            expected++;
+                        }
+                        assertEquals(expected, bitBoard.dropRow(shape, rotation, x, y),
+                                "Drop mismatch for brick " + id + " rotation " + rotation + " at x=" + x + ", y=" + y);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testClearFullRows_MatchesCheckRemovingInPlace() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < 200; round++) {
+            BitBoard bitBoard = new BitBoard(10, 25);
+            for (int row = 5; row < 25; row++) {
+                boolean full = random.nextInt(3) == 0;
+                for (int col = 0; col < 10; col++) {
+                    if (full || random.nextInt(4) != 0) {
+                        bitBoard.setCell(row, col, 1 + random.nextInt(7));
+                    }
+                }
+            }
+            int[][] colours = bitBoard.getColourMatrix();
+            ClearFullRow expected = MatrixOperations.checkRemoving(colours);
+
+            int removed = bitBoard.clearFullRows();
+
+            assertEquals(expected.getLinesRemoved(), removed, "Removed line count should match.");
+            assertSame(colours, bitBoard.getColourMatrix(), "Colour plane should be updated in place.");
+            assertArrayEquals(expected.getNewMatrix(), colours, "Compacted board should match the copying version.");
+            assertIndexesConsistent(bitBoard);
+        }
+    }
+
+    @Test
+    void testAddRisingRow_ShiftsRowsUpInPlace() {
+        BitBoard bitBoard = new BitBoard(10, 25);
+        bitBoard.merge(T_SHAPE, 3, 20);
+        bitBoard.setCell(0, 9, 4);
+        int[][] before = MatrixOperations.copy(bitBoard.getColourMatrix());
+
+        bitBoard.addRisingRow(0b1000000001L, 8);
+
+        int[][] after = bitBoard.getColourMatrix();
+        for (int row = 0; row < 24; row++) {
+            assertArrayEquals(before[row + 1], after[row], "Row " + (row + 1) + " should move up by one.");
+        }
+        assertArrayEquals(new int[]{0, 8, 8, 8, 8, 8, 8, 8, 8, 0}, after[24], "Garbage row should leave the masked holes.");
+        assertEquals(25, bitBoard.getColumnTop(9), "Block pushed off the top should leave its column empty.");
+        assertIndexesConsistent(bitBoard);
+    }
+
+    @Test
+    void testAddRisingRows_MatchesInsertingTheLinesOneByOne() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int round = 0; round < 200; round++) {
+            BitBoard batched = new BitBoard(10, 25);
+            BitBoard single = new BitBoard(10, 25);
+            for (int i = 0; i < 40; i++) {
+                int row = 5 + random.nextInt(20);
+                int col = random.nextInt(10);
+                batched.setCell(row, col, 3);
+                single.setCell(row, col, 3);
+            }
+            // up to more lines than the board has rows
+            int count = 1 + random.nextInt(30);
+            long[] holeMasks = new long[count];
+            for (int i = 0; i < count; i++) {
+                holeMasks[i] = 1L << random.nextInt(10);
+                single.addRisingRow(holeMasks[i], 8);
+            }
+
+            batched.addRisingRows(holeMasks, count, 8);
+
+            assertArrayEquals(single.getColourMatrix(), batched.getColourMatrix(), "Round " + round + " with " + count + " lines");
+            assertEquals(single.getHash(), batched.getHash());
+            assertIndexesConsistent(batched);
+        }
+    }
+
+    @Test
+    void testCircularStorage_MatchesShiftedRowsThroughGarbageAndClears() {
+        SplittableRandom random = new SplittableRandom(23);
+        BitBoard shifted = new BitBoard(10, 25);
+        BitBoard circular = new BitBoard(10, 25, RowStorage.CIRCULAR);
+        long[] holeMasks = new long[30];
+        for (int step = 0; step < 3000; step++) {
+            int action = random.nextInt(10);
+            if (action < 6) {
+                int x = random.nextInt(8);
+                int y = random.nextInt(23);
+                if (!shifted.intersects(T_SHAPE, x, y)) {
+                    shifted.merge(T_SHAPE, x, y);
+                    circular.merge(T_SHAPE, x, y);
+                }
+            } else if (action < 8) {
+                // fill most of a row so clears actually happen
+                int row = random.nextInt(25);
+                for (int col = 0; col < 10; col++) {
+                    int colour = random.nextInt(12) == 0 ? 0 : 2;
+                    shifted.setCell(row, col, colour);
+                    circular.setCell(row, col, colour);
+                }
+            } else if (action == 8) {
+                int count = 1 + random.nextInt(holeMasks.length);
+                for (int i = 0; i < count; i++) {
+                    holeMasks[i] = 1L << random.nextInt(10);
+                }
+                shifted.addRisingRows(holeMasks, count, 8);
+                circular.addRisingRows(holeMasks, count, 8);
+            } else if (random.nextInt(20) == 0) {
+                shifted.clear();
+                circular.clear();
+            }
+            assertEquals(shifted.clearFullRows(), circular.clearFullRows(), "Cleared lines at step " + step);
+
+            assertArrayEquals(shifted.getColourMatrix(), circular.getColourMatrix(), "Colours at step " + step);
+            assertEquals(shifted.getHash(), circular.getHash(), "Hash at step " + step);
+            for (int row = 0; row < 25; row++) {
+                assertEquals(shifted.getRow(row), circular.getRow(row), "Row " + row + " at step " + step);
+            }
+            assertIndexesConsistent(circular);
+        }
+    }
+
+    @Test
+    void testHash_DependsOnlyOnBlocks() {
+        BitBoard first = new BitBoard(10, 25);
+        BitBoard second = new BitBoard(10, 25);
+        first.merge(T_SHAPE, 0, 20);
+        first.merge(T_SHAPE, 5, 20);
+        // same blocks, other order and other colours
+        second.setCell(21, 7, 3);
+        second.merge(T_SHAPE, 0, 20);
+        second.setCell(21, 5, 2);
+        second.setCell(21, 6, 2);
+        second.setCell(20, 6, 1);
+        assertEquals(first.getHash(), second.getHash());
+
+        second.setCell(0, 0, 1);
+        assertNotEquals(first.getHash(), second.getHash());
+        second.setCell(0, 0, 0);
+        assertEquals(first.getHash(), second.getHash(), "Emptying a cell should undo its key");
+
+        second.clear();
+        assertEquals(0, second.getHash());
+    }
+
+    @Test
+    void testDirtyRegion_MarksOnlyTheMergedCells() {
+        BitBoard bitBoard = new BitBoard(10, 25);
+        bitBoard.getDirtyRegion().clear();
+
+        bitBoard.merge(T_SHAPE, 3, 20);
+
+        DirtyRegion dirty = bitBoard.getDirtyRegion();
+        assertEquals(20, dirty.getTop());
+        assertEquals(21, dirty.getBottom());
+        assertEquals(0b0000010000L, dirty.getMask(20));
+        assertEquals(0b0000111000L, dirty.getMask(21));
+
+        dirty.clear();
+        assertTrue(dirty.isEmpty(), "Clearing should forget every mark.");
+        assertEquals(0, dirty.getMask(21));
+    }
+
+    @Test
+    void testDirtyRegion_CoversEveryChangedCell() {
+        SplittableRandom random = new SplittableRandom(7);
+        BitBoard bitBoard = new BitBoard(10, 25);
+        // what a renderer that only draws the dirty cells would show
+        int[][] drawn = new int[25][10];
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(10);
+            if (action == 0) {
+                bitBoard.addRisingRow(1L << random.nextInt(10), 8);
+            } else if (action == 1) {
+                bitBoard.clearFullRows();
+            } else {
+                int row = 5 + random.nextInt(20);
+                for (int col = 0; col < 10; col++) {
+                    if (random.nextInt(3) != 0) {
+                        bitBoard.setCell(row, col, 1 + random.nextInt(7));
+                    }
+                }
+            }
+            DirtyRegion dirty = bitBoard.getDirtyRegion();
+            int[][] colours = bitBoard.getColourMatrix();
+            for (int row = dirty.getTop(); row <= dirty.getBottom(); row++) {
+                for (int col = 0; col < 10; col++) {
+                    if ((dirty.getMask(row) & (1L << col)) != 0) {
+                        drawn[row][col] = colours[row][col];
+                    }
+                }
+            }
+            dirty.clear();
+            assertArrayEquals(colours, drawn, "Unmarked change after step " + step);
+        }
+    }
+
+    // Recomputes the fill counts and column surfaces from the colour plane
+    private static void assertIndexesConsistent(BitBoard bitBoard) {
+        int[][] colours = bitBoard.getColourMatrix();
+        for (int row = 0; row < bitBoard.getHeight(); row++) {
+            int fill = 0;
+            for (int col = 0; col < bitBoard.getWidth(); col++) {
+                assertEquals(colours[row][col] != 0, bitBoard.isOccupied(row, col), "Bitmask mismatch at " + row + "," + col);
+                if (colours[row][col] != 0) {
+                    fill++;
+                }
+            }
+            assertEquals(fill, bitBoard.getRowFill(row), "Fill count mismatch on row " + row);
+        }
+        for (int col = 0; col < bitBoard.getWidth(); col++) {
+            int top = bitBoard.getHeight();
+            for (int row = bitBoard.getHeight() - 1; row >= 0; row--) {
+                if (colours[row][col] != 0) {
+                    top = row;
+                }
+            }
+            assertEquals(top, bitBoard.getColumnTop(col), "Surface mismatch in column " + col);
+        }
+        long hash = 0;
+        for (int row = 0; row < bitBoard.getHeight(); row++) {
+            for (int w = 0; w < bitBoard.getWordCount(); w++) {
+                hash ^= Zobrist.rowHash(row, w * Long.SIZE, bitBoard.getRowWord(row, w));
+            }
+        }
+        assertEquals(hash, bitBoard.getHash(), "Incremental hash should match a full rehash");
+    }
+}
@@ -1,37 +1,31 @@
 package com.comp2042.model.gameBoard;
 
-import javafx.application.Platform;
-import org.junit.jupiter.api.BeforeAll;
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.brickShapeGenerator.BrickShapes;
+import com.comp2042.model.brickShapeGenerator.RandomBrickGenerator;
+import com.comp2042.model.logic.BrickRotator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.Arrays;
+import java.util.SplittableRandom;
 
 import static java.util.Arrays.deepEquals;
 import static org.junit.jupiter.api.Assertions.*;
 
 class CurrentBrickControllerTest {
 
-    @BeforeAll
-    static void startJavaFx() {
-        try {
-            Platform.startup(() -> {});
-        } catch (IllegalStateException ignored) {}
-    }
-
     private TetrisBoard board;
 
     @BeforeEach
     void setUp() {
-        board = new TetrisBoard(10, 20);
+        // a fixed 7-bag sequence guarantees the brick after the held one is a different type
+        board = new TetrisBoard(10, 20, 1L, BrickRandomizer.BAG);
         board.createNewBrick();
     }
 
     private void clearBoard() {
-        int[][] matrix = board.getBoardMatrix();
-        for (int[] row : matrix) {
-            Arrays.fill(row, 0);
-        }
+        // the colour matrix is only a view, the occupancy lives in the bit rows
+        board.getBitBoard().clear();
     }
 
     @Test
@@ -66,4 +60,93 @@ class CurrentBrickControllerTest {
         board.createNewBrick();
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMovementPath_DoesNotAllocate() {
+        BrickRotator rotator = new BrickRotator();
+        CurrentBrickController controller = new CurrentBrickController(rotator, board, new RandomBrickGenerator());
+        rotator.setBrick(BrickShapes.getBrick(5));
+        controller.setInitialPosition(4, 1);
+
+        int[] checksum = new int[1];
+        long allocated = AllocationMeter.bytesAllocatedBy(() -> checksum[0] = runMoves(controller, rotator, 1_000_000));
+
+        assertTrue(checksum[0] != 0, "Moves should have been executed.");
+        assertTrue(allocated < AllocationMeter.MAX_BYTES, "Moving, rotating and ghost lookups should not allocate (" + allocated + " bytes total).");
+    }
+
+    @Test
+    void testShadowY_CachedValueAlwaysMatchesAFreshSearch() {
+        CurrentBrickController controller = board.getBrickController();
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int step = 0; step < 5000; step++) {
+            switch (random.nextInt(9)) {
+                case 0, 1 -> controller.moveLeft();
+                case 2, 3 -> controller.moveRight();
+                case 4 -> controller.rotateLeft();
+                case 5 -> {
+                    if (!controller.moveDown()) {
+                        board.mergeBrickToBackground();
+                        board.clearRows();
+                        if (board.createNewBrick()) {
+                            board.newGame();
+                        }
+                    }
+                }
+                case 6 -> {
+                    // blocks appear or vanish without the brick moving
+                    int row = 10 + random.nextInt(10);
+                    int col = random.nextInt(10);
+                    if (!board.getBitBoard().isOccupied(row, col) && !coversCell(row, col)) {
+                        board.setCell(row, col, 8);
+                    } else if (board.getBitBoard().isOccupied(row, col)) {
+                        board.setCell(row, col, 0);
+                    }
+                }
+                case 7 -> board.holdBrick();
+                default -> {
+                    board.addRisingRow(1);
+                    if (board.getBitBoard().intersects(board.getBrickRotator().getBrickShape(),
+                            board.getBrickRotator().getRotation(), controller.getX(), controller.getY())) {
+                        board.newGame();
+                    }
+                }
+            }
+            BitBoard bitBoard = board.getBitBoard();
+            int expected = bitBoard.dropRow(board.getBrickRotator().getBrickShape(), board.getBrickRotator().getRotation(),
+                    controller.getX(), controller.getY());
+            assertEquals(expected, controller.getShadowY(), "The cached ghost row is stale at step " + step);
+        }
+    }
+
+    // Checks if the falling brick occupies a board cell
+    private boolean coversCell(int row, int col) {
+        BrickRotator rotator = board.getBrickRotator();
+        CurrentBrickController controller = board.getBrickController();
+        int[][] shape = rotator.getCurrentShape();
+        int i = row - controller.getY();
+        int j = col - controller.getX();
+        return i >= 0 && i < shape.length && j >= 0 && j < shape[i].length && shape[i][j] != 0;
+    }
+
+    // Cycles through every movement input and respawns the brick whenever it lands
+    private static int runMoves(CurrentBrickController controller, BrickRotator rotator, int moves) {
+        int checksum = 0;
+        for (int i = 0; i < moves; i++) {
+            switch (i & 3) {
+                case 0 -> controller.moveLeft();
+                case 1 -> controller.moveRight();
+                case 2 -> controller.rotateLeft();
+                default -> {
+                    if (!controller.moveDown()) {
+                        rotator.setBrick(BrickShapes.getBrick(i % BrickShapes.COUNT));
+                        controller.setInitialPosition(4, 1);
+                    }
+                }
+            }
+            checksum += controller.getShadowY();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.model.gameBoard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RowKernelTest {
+
+    private static final int[] WIDTHS = {1, 7, 10, 63, 64, 65, 100, 150, 255, 256};
+
+    @Test
+    void testScalarKernel_PacksAndPaintsRowsCellByCell() {
+        RowKernel kernel = RowKernel.scalar();
+        int[] colourRow = new int[130];
+        colourRow[0] = 3;
+        colourRow[64] = 5;
+        colourRow[129] = 1;
+        long[] rows = {-1L, -1L, -1L};
+        assertEquals(3, kernel.pack(colourRow, 130, rows, 0));
+        assertArrayEquals(new long[]{1L, 1L, 2L}, rows, "Stale words should be overwritten.");
+        assertEquals(3, kernel.countCells(rows, 0, 3));
+
+        int[] painted = new int[130];
+        kernel.unpack(rows, 0, 130, 8, painted);
+        for (int c = 0; c < 130; c++) {
+            assertEquals(colourRow[c] != 0 ? 8 : 0, painted[c], "Column " + c);
+        }
+
+        long lastWord = -1L >>> (3 * Long.SIZE - 130);
+        assertFalse(kernel.isFull(rows, 0, 3, lastWord));
+        assertTrue(kernel.isFull(new long[]{0, -1L, -1L, lastWord}, 1, 3, lastWord));
+    }
+
+    @Test
+    void testVectorKernel_MatchesTheScalarKernel() {
+        RowKernel vector = RowKernel.vector();
+        assumeTrue(vector != null, "The vector API is not available on this JVM.");
+        RowKernel scalar = RowKernel.scalar();
+        SplittableRandom random = new SplittableRandom(25);
+
+        for (int width : WIDTHS) {
+            int words = BitBoard.wordCount(width);
+            long lastWord = -1L >>> (words * Long.SIZE - width);
+            for (int i = 0; i < 200; i++) {
+                int[] colourRow = new int[width];
+                // mostly full rows, so full and nearly full ones both come up
+                for (int c = 0; c < width; c++) {
+                    colourRow[c] = random.nextInt(i % 4 == 0 ? 1000 : 2) == 0 ? 0 : 1 + random.nextInt(8);
+                }
+                // one word of padding on each side checks the offsets
+                long[] expected = new long[words + 2];
+                long[] actual = new long[words + 2];
+                assertEquals(scalar.pack(colourRow, width, expected, 1), vector.pack(colourRow, width, actual, 1));
+                assertArrayEquals(expected, actual, "Width " + width);
+                assertEquals(scalar.countCells(expected, 1, words), vector.countCells(actual, 1, words));
+                assertEquals(scalar.isFull(expected, 1, words, lastWord), vector.isFull(actual, 1, words, lastWord));
+
+                int[] scalarColours = new int[width];
+                int[] vectorColours = new int[width];
+                scalar.unpack(expected, 1, width, 8, scalarColours);
+                vector.unpack(actual, 1, width, 8, vectorColours);
+                assertArrayEquals(scalarColours, vectorColours, "Width " + width);
+            }
+        }
+    }
+}
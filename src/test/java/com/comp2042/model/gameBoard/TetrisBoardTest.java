@@ -1,9 +1,8 @@
 package com.comp2042.model.gameBoard;
 
 import com.comp2042.model.logic.ClearFullRow;
+import com.comp2042.model.logic.GarbagePattern;
 import com.comp2042.view.data.ViewData;
-import javafx.application.Platform;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -14,15 +13,6 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class TetrisBoardTest {
 
-    // Initialize the JavaFX platform once before all tests to prevent NullPointerException with GameTime/Timeline
-    @BeforeAll
-    static void startJavaFx() {
-        try {
-            Platform.startup(() -> {});
-        } catch (IllegalStateException ignored) {
-        }
-    }
-
     private TetrisBoard board;
 
     @BeforeEach
@@ -32,10 +22,8 @@ class TetrisBoardTest {
     }
 
     private void clearBoard() {
-        int[][] matrix = board.getBoardMatrix();
-        for (int[] row : matrix) {
-            Arrays.fill(row, 0);
-        }
+        // the colour matrix is only a view, the occupancy lives in the bit rows
+        board.getBitBoard().clear();
     }
 
     @Test
@@ -175,11 +163,10 @@ class TetrisBoardTest {
 
     @Test
     void testRotateLeftNotPossibleWhenCollision() {
-        int[][] matrix = board.getBoardMatrix();
         for(int y = 0;  y < 4; y++) {
             for (int x = 0; x < 10; x++) {
                 if (y >= 2) {
-                    matrix[y][x] = 1;
+                    board.setCell(y, x, 1);
                 }
             }
         }
@@ -211,16 +198,95 @@ class TetrisBoardTest {
 
     @Test
     void testCreateNewBrickShouldCollide() {
-        int[][] matrix = board.getBoardMatrix();
         for (int i = 0; i < 25; i++) {
-            matrix[i][4] = 1;
-            matrix[i][5] = 1;
-            matrix[i][6] = 1;
+            board.setCell(i, 4, 1);
+            board.setCell(i, 5, 1);
+            board.setCell(i, 6, 1);
         }
         boolean collided = board.createNewBrick();
         assertTrue(collided, "New brick should collide when there is another brick at spawn position");
     }
 
+    @Test
+    void testViewData_ListsTheUpcomingBrickIdsInOrder() {
+        ViewData before = board.getViewData();
+        assertEquals(TetrisBoard.PREVIEW_COUNT, before.getNextBrickCount());
+        assertEquals(-1, before.getHeldBrickId(), "Nothing should be held at the start.");
+
+        board.createNewBrick();
+
+        ViewData after = board.getViewData();
+        for (int i = 0; i < TetrisBoard.PREVIEW_COUNT - 1; i++) {
+            assertEquals(before.getNextBrickId(i + 1), after.getNextBrickId(i), "The queue should move up by one brick.");
+        }
+        assertTrue(deepEquals(before.getNextBrickData(), after.getBrickData()), "The first queued brick should be the one that spawned.");
+    }
+
+    @Test
+    void testViewData_IsReusedUntilTheGameChangesAndKeepsThePreviousState() {
+        ViewData first = board.getViewData();
+        assertSame(first, board.getViewData(), "Nothing changed, so the same view data should be returned.");
+        assertSame(first.getBrickShape().getMatrix(first.getRotation()), first.getBrickData(), "The shape should be shared, not copied.");
+        int x = first.getxPosition();
+        int y = first.getyPosition();
+        int shadowY = first.getShadowYPosition();
+
+        board.moveBrickDown();
+        ViewData second = board.getViewData();
+
+        assertNotSame(first, second);
+        assertEquals(y + 1, second.getyPosition());
+        assertEquals(shadowY, second.getShadowYPosition(), "Moving down should not move the ghost piece.");
+        assertEquals(x, first.getxPosition(), "The previous view data should be left as it was.");
+        assertEquals(y, first.getyPosition(), "The previous view data should be left as it was.");
+
+        board.moveBrickLeft();
+        assertSame(first, board.getViewData(), "The two buffers should take turns.");
+        assertEquals(x - 1, first.getxPosition());
+    }
+
+    @Test
+    void testInsertGarbage_RaisesQueuedLinesTogether() {
+        int initialY = board.getViewData().getyPosition();
+        board.setGarbagePattern(GarbagePattern.CLEAN);
+        assertEquals(4, board.queueGarbage(4, 1));
+        assertEquals(initialY, board.getViewData().getyPosition(), "Queued garbage should wait until it is inserted.");
+
+        assertEquals(3, board.insertGarbage(3));
+
+        assertEquals(initialY - 3, board.getViewData().getyPosition(), "The brick should rise with the garbage.");
+        assertEquals(1, board.getGarbageQueue().size(), "One line should still be waiting.");
+        int[][] matrix = board.getBoardMatrix();
+        for (int row = 22; row < 25; row++) {
+            assertEquals(1, Arrays.stream(matrix[row]).filter(cell -> cell == 0).count(), "Each garbage line should have one hole.");
+            assertArrayEquals(matrix[22], matrix[row], "A clean batch should line its holes up.");
+        }
+        assertEquals(1, board.insertGarbage(5), "Only the waiting line should be inserted.");
+    }
+
+    @Test
+    void testGiantBoard_SpawnsInTheMiddleAndTakesWideGarbage() {
+        TetrisBoard giant = new TetrisBoard(BitBoard.MAX_WIDTH, BitBoard.MAX_HEIGHT, 7L, board.getRandomizer());
+        giant.newGame();
+        assertEquals(RowStorage.CIRCULAR, giant.getBitBoard().getStorage(), "Tall boards should keep their rows in a ring.");
+        assertEquals(BitBoard.MAX_WIDTH / 2 - 1, giant.getViewData().getxPosition(), "Bricks should spawn in the middle of the board.");
+
+        assertEquals(100, giant.queueGarbage(100, 3));
+        assertEquals(100, giant.insertGarbage(100));
+        int[][] matrix = giant.getBoardMatrix();
+        for (int row = BitBoard.MAX_HEIGHT - 100; row < BitBoard.MAX_HEIGHT; row++) {
+            assertEquals(3, Arrays.stream(matrix[row]).filter(cell -> cell == 0).count(), "Each garbage line should have three holes.");
+        }
+        // the garbage pushed the first brick off the top, so start from a fresh one
+        assertFalse(giant.createNewBrick(), "A new brick should spawn without a collision.");
+        while (giant.moveBrickDown()) {
+            // fall onto the garbage
+        }
+        assertTrue(giant.getViewData().getyPosition() > BitBoard.MAX_HEIGHT - 110, "The brick should fall all the way to the garbage.");
+        giant.mergeBrickToBackground();
+        assertFalse(giant.createNewBrick(), "The next brick should spawn without a collision.");
+    }
+
     @Test
     void testMergeBrickToBackground() {
 
@@ -251,11 +317,20 @@ class TetrisBoardTest {
                 "Brick should be merged into the background matrix");
     }
 
+    @Test
+    void testIsBrickBlocked_OnceRisingRowsPushTheBrickOffTheTop() {
+        board.addRisingRow(1);
+        assertFalse(board.isBrickBlocked(), "One rising row should leave the brick room at the top.");
+
+        board.addRisingRow(1);
+        board.addRisingRow(1);
+        assertTrue(board.isBrickBlocked(), "The brick should be pushed above the board.");
+    }
+
     @Test
     void testClearFullRow() {
-        int[][] matrix = board.getBoardMatrix();
         for (int col = 0; col < 10; col++) {
-            matrix[19][col] = 1;
+            board.setCell(19, col, 1);
         }
         ClearFullRow result = board.clearRows();
         assertEquals(1, result.getLinesRemoved());
@@ -265,6 +340,36 @@ class TetrisBoardTest {
         }
     }
 
+    @Test
+    void testLockAndClear_DoNotAllocate() {
+        int[] lines = new int[1];
+        long allocated = AllocationMeter.bytesAllocatedBy(() -> lines[0] = runLocks(100_000));
+
+        assertTrue(lines[0] > 0, "Locks should have cleared lines.");
+        assertTrue(allocated < AllocationMeter.MAX_BYTES, "Merging, clearing and spawning should not allocate (" + allocated + " bytes total).");
+    }
+
+    // Drops, locks and spawns bricks, completing the bottom row every time so a line is cleared
+    private int runLocks(int locks) {
+        int lines = 0;
+        for (int i = 0; i < locks; i++) {
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            for (int col = 0; col < 10; col++) {
+                board.setCell(24, col, 1);
+            }
+            lines += board.clearRows().getLinesRemoved();
+            if (i % 50 == 0) {
+                board.addRisingRow(3);
+            }
+            if (board.createNewBrick()) {
+                board.getBitBoard().clear();
+                board.createNewBrick();
+            }
+        }
+        return lines;
+    }
+
     @Test
     void testNewGameResetsGameBoard() {
         // Simulate non-empty board
@@ -289,7 +394,7 @@ class TetrisBoardTest {
         board.newGame();
 
         // Assert: score is reset
-        assertEquals(0, board.getScore().scoreProperty().get(), "Score should reset when a new game happens");
+        assertEquals(0, board.getScore().getScore(), "Score should reset when a new game happens");
     }
 
     @Test
@@ -337,6 +442,20 @@ class TetrisBoardTest {
         assertNotNull(finalState.getBrickData(), "A new brick should be ready after the previous one lands and merges.");
     }
 
+    @Test
+    void testHardDropBrick_LandsOnShadowInOneStep() {
+        board.setCell(24, 4, 1);
+        board.setCell(23, 4, 1);
+        int startY = board.getViewData().getyPosition();
+        int expectedY = board.getViewData().getShadowYPosition();
+
+        int rowsDropped = board.hardDropBrick();
+
+        assertEquals(expectedY - startY, rowsDropped, "Hard drop should report the distance fallen.");
+        assertEquals(expectedY, board.getViewData().getyPosition(), "Brick should rest on its shadow position.");
+        assertFalse(board.moveBrickDown(), "Brick should not be able to fall any further.");
+    }
+
     @Test
     void testRisingRow_ImplementationByLevel() {
         // Arrange
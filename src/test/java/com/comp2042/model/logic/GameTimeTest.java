@@ -0,0 +1,29 @@
+package com.comp2042.model.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameTimeTest {
+
+    private long now;
+
+    @Test
+    void testElapsedTime_ExcludesPausesAndResets() {
+        GameTime gameTime = new GameTime(() -> now);
+
+        gameTime.start();
+        now += 65_000_000_000L;
+        assertEquals("01:05", gameTime.getTimeString(), "Running time should be read from the injected clock.");
+
+        // Time spent paused should not count
+        gameTime.stop();
+        now += 30_000_000_000L;
+        gameTime.start();
+        now += 5_000_000_000L;
+        assertEquals(70, gameTime.getElapsedSeconds(), "Paused time should be excluded.");
+
+        gameTime.reset();
+        assertEquals("00:00", gameTime.getTimeString(), "Reset should clear the elapsed time.");
+    }
+}
@@ -0,0 +1,100 @@
+package com.comp2042.model.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GarbageGeneratorTest {
+
+    @Test
+    void testNextHoleMask_PlacesExactlyTheRequestedHolesOnTheBoard() {
+        GarbageGenerator generator = new GarbageGenerator(3);
+        for (int numHoles = 0; numHoles <= 10; numHoles++) {
+            Set<Long> seen = new HashSet<>();
+            for (int i = 0; i < 2000; i++) {
+                long mask = generator.nextHoleMask(10, numHoles);
+                assertEquals(numHoles, Long.bitCount(mask), "Every line should have " + numHoles + " holes.");
+                assertEquals(0, mask >>> 10, "Holes should stay within the board width.");
+                seen.add(mask);
+            }
+            if (numHoles == 1) {
+                assertEquals(10, seen.size(), "Every column should be used as a hole.");
+            }
+        }
+    }
+
+    @Test
+    void testNextHoleMask_WideBoardsFallBackToShuffledColumns() {
+        // C(64, 10) is far too many masks to list
+        GarbageGenerator generator = new GarbageGenerator(5);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(10, Long.bitCount(generator.nextHoleMask(64, 10)));
+        }
+        assertEquals(64, Long.bitCount(generator.nextHoleMask(64, 64)));
+    }
+
+    @Test
+    void testNextHoleMasks_WideBoardsSpreadHolesOverEveryWord() {
+        GarbageGenerator generator = new GarbageGenerator(8);
+        // four words per line on a 256-wide board
+        long[] masks = new long[50 * 4];
+        generator.nextHoleMasks(masks, 0, 50, 256, 3, GarbagePattern.MESSY);
+        long[] usedWords = new long[4];
+        for (int line = 0; line < 50; line++) {
+            int holes = 0;
+            for (int w = 0; w < 4; w++) {
+                holes += Long.bitCount(masks[line * 4 + w]);
+                usedWords[w] |= masks[line * 4 + w];
+            }
+            assertEquals(3, holes, "Every line should have 3 holes.");
+        }
+        for (long used : usedWords) {
+            assertNotEquals(0, used, "Holes should reach every part of the row.");
+        }
+    }
+
+    @Test
+    void testNextHoleMask_SameSeedGivesTheSameGarbage() {
+        GarbageGenerator first = new GarbageGenerator(42);
+        GarbageGenerator second = new GarbageGenerator(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextHoleMask(10, 2), second.nextHoleMask(10, 2));
+        }
+    }
+
+    @Test
+    void testGarbageQueue_PatternsShapeTheHolesOfABatch() {
+        GarbageQueue queue = new GarbageQueue(new GarbageGenerator(9), 10, 20);
+
+        queue.setPattern(GarbagePattern.CLEAN);
+        assertEquals(6, queue.add(6, 1));
+        for (int i = 1; i < 6; i++) {
+            assertEquals(queue.getHoleMask(0), queue.getHoleMask(i), "A clean batch shares its holes.");
+        }
+        queue.clear();
+
+        queue.setPattern(GarbagePattern.ALTERNATING);
+        queue.add(6, 2);
+        for (int i = 2; i < 6; i++) {
+            assertEquals(queue.getHoleMask(i - 2), queue.getHoleMask(i), "An alternating batch repeats every other line.");
+        }
+        queue.clear();
+
+        queue.setPattern(GarbagePattern.MESSY);
+        queue.add(20, 1);
+        Set<Long> holes = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            holes.add(queue.getHoleMask(i));
+        }
+        assertTrue(holes.size() > 1, "A messy batch should move its holes around.");
+        assertEquals(0, queue.add(1, 1), "A full queue should drop new lines.");
+
+        long third = queue.getHoleMask(2);
+        queue.remove(2);
+        assertEquals(18, queue.size());
+        assertEquals(third, queue.getHoleMask(0), "Removing lines should keep the rest in order.");
+    }
+}
@@ -1,7 +1,5 @@
 package com.comp2042.model.logic;
 
-import javafx.application.Platform;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -9,13 +7,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class LevelUpTest {
 
-    @BeforeAll
-    static void startJavaFx() {
-        try {
-            Platform.startup(() -> {});
-        } catch (IllegalStateException ignored) {}
-    }
-
     private LevelUp levelUp;
 
     @BeforeEach
@@ -0,0 +1,63 @@
+package com.comp2042.model.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimulationClockTest {
+
+    private int drops;
+    private int risingRows;
+
+    @Test
+    void testTicks_AreIndependentOfFrameRate() {
+        SimulationClock smooth = newClock();
+        smooth.start(0);
+        for (long frame = 1; frame <= 600; frame++) {
+            smooth.advance(frame * 16_666_667L);
+        }
+        int smoothDrops = drops;
+
+        drops = 0;
+        SimulationClock choppy = newClock();
+        choppy.start(0);
+        // same 10 seconds, delivered in uneven chunks
+        long now = 0;
+        for (int i = 0; now < 10_000_000_000L; i++) {
+            now = Math.min(now + (i % 2 == 0 ? 7_000_000L : 90_000_000L), 10_000_000_000L);
+            choppy.advance(now);
+        }
+
+        assertEquals(25, smoothDrops, "A 400 ms gravity interval should drop 25 times in 10 s.");
+        assertEquals(smoothDrops, drops, "Uneven frames should produce the same number of drops.");
+    }
+
+    @Test
+    void testIntervals_ChangeWithoutLosingProgress() {
+        SimulationClock clock = newClock();
+        clock.setRisingRowsEnabled(true);
+        clock.start(0);
+
+        clock.advance(300_000_000L);
+        clock.setGravityInterval(330);
+        clock.advance(630_000_000L);
+        assertEquals(1, drops, "Changing the interval should not push back the drop already in progress.");
+
+        clock.stop();
+        clock.advance(60_000_000_000L);
+        assertEquals(0, risingRows, "A stopped clock should not run any ticks.");
+
+        clock.start(60_000_000_000L);
+        for (long t = 60_100_000_000L; t <= 80_000_000_000L; t += 100_000_000L) {
+            clock.advance(t);
+        }
+        assertEquals(1, risingRows, "Rising rows should fire once per 20 s of running time.");
+    }
+
+    private SimulationClock newClock() {
+        SimulationClock clock = new SimulationClock(400, 20_000);
+        clock.setGravityAction(() -> drops++);
+        clock.setRisingRowAction(() -> risingRows++);
+        return clock;
+    }
+}
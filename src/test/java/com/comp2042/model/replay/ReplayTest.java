@@ -0,0 +1,143 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.controller.HeadlessGame;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.gameBoard.BitBoard;
+import com.comp2042.model.logic.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    @TempDir
+    Path replayDir;
+
+    @Test
+    void testVarLong_RoundTrips() {
+        long[] values = {0, 1, 127, 128, 16_383, 16_384, 1L << 35, Long.MAX_VALUE};
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * ReplayFormat.MAX_RECORD_SIZE);
+        for (long value : values) {
+            ReplayFormat.putVarLong(buffer, value);
+        }
+        buffer.flip();
+        for (long value : values) {
+            assertEquals(value, ReplayFormat.getVarLong(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testRecordedGame_ReplaysToSameState() throws IOException {
+        HeadlessGame recorded;
+        int moves = 0;
+        try (ReplayWriter writer = new ReplayWriter(replayDir)) {
+            recorded = new HeadlessGame(2042L, BrickRandomizer.BAG, GameMode.EXTREME_MODE, writer);
+            SplittableRandom random = new SplittableRandom(7L);
+            EventType[] types = EventType.values();
+            // enough moves to span several of the writer's buffers
+            while (!recorded.isGameOver() && moves < 5000) {
+                if (random.nextInt(40) == 0) {
+                    recorded.onRisingRow();
+                } else {
+                    EventType type = types[random.nextInt(types.length)];
+                    EventSource source = random.nextBoolean() ? EventSource.USER : EventSource.THREAD;
+                    recorded.onMove(new MoveEvent(type, source));
+                }
+                moves++;
+            }
+        }
+
+        Path file;
+        try (Stream<Path> files = Files.list(replayDir)) {
+            List<Path> replays = files.toList();
+            assertEquals(1, replays.size(), "One game should produce one replay file");
+            file = replays.get(0);
+        }
+        Replay replay = Replay.read(file);
+        assertEquals(2042L, replay.getSeed());
+        assertEquals(GameMode.EXTREME_MODE, replay.getGameMode());
+        assertEquals(BrickRandomizer.BAG, replay.getRandomizer());
+        assertEquals(moves, replay.size(), "Every move and rising row should be recorded");
+
+        HeadlessGame replayed = HeadlessGame.play(replay);
+        assertEquals(recorded.isGameOver(), replayed.isGameOver());
+        assertEquals(recorded.getBoard().getScore().getScore(), replayed.getBoard().getScore().getScore());
+        assertEquals(recorded.getBoard().getCountRows().getCountRows(), replayed.getBoard().getCountRows().getCountRows());
+        assertArrayEquals(recorded.getBoard().getBoardMatrix(), replayed.getBoard().getBoardMatrix());
+    }
+
+    @Test
+    void testCursor_RealTimeStepsReachTheSameStateAsFullSpeed() throws IOException {
+        HeadlessGame recorded;
+        try (ReplayWriter writer = new ReplayWriter(replayDir)) {
+            recorded = new HeadlessGame(99L, BrickRandomizer.BAG, GameMode.HARD_MODE, writer);
+            SplittableRandom random = new SplittableRandom(3L);
+            EventType[] types = EventType.values();
+            for (int moves = 0; moves < 500 && !recorded.isGameOver(); moves++) {
+                recorded.advanceClock(random.nextInt(50_000_000));
+                recorded.onMove(new MoveEvent(types[random.nextInt(types.length)], EventSource.USER));
+            }
+        }
+        Replay replay;
+        try (Stream<Path> files = Files.list(replayDir)) {
+            replay = Replay.read(files.findFirst().orElseThrow());
+        }
+
+        assertTrue(replay.getTimeNanos(replay.size() - 1) > 1_000_000_000L, "The moves should be spread over game time");
+
+        // the game screen advances the cursor to the game time on every tick
+        HeadlessGame stepped = new HeadlessGame(replay.getSeed(), replay.getRandomizer(), replay.getGameMode(),
+                ReplayRecorder.NONE, replay.getWidth(), replay.getHeight());
+        ReplayCursor cursor = new ReplayCursor(replay);
+        int played = 0;
+        for (long time = 0; !cursor.isFinished(); time += 16_000_000L) {
+            played += cursor.advanceTo(time, stepped);
+        }
+        assertEquals(replay.size(), played);
+        assertArrayEquals(HeadlessGame.play(replay).getBoard().getBoardMatrix(), stepped.getBoard().getBoardMatrix());
+        assertArrayEquals(recorded.getBoard().getBoardMatrix(), stepped.getBoard().getBoardMatrix());
+    }
+
+    @Test
+    void testRead_RejectsOtherFiles() throws IOException {
+        Path file = replayDir.resolve("not-a-replay.cwr");
+        Files.writeString(file, "definitely not a replay file");
+        assertThrows(IOException.class, () -> Replay.read(file));
+    }
+
+    @Test
+    void testDecode_RejectsBadHeaders() {
+        // mode, randomizer, width and height of otherwise valid headers
+        int[][] headers = {
+                {GameMode.values().length, 0, 10, 25},
+                {-1, 0, 10, 25},
+                {0, BrickRandomizer.values().length, 10, 25},
+                {0, -128, 10, 25},
+                {0, 0, 5, 25},
+                {0, 0, 10, 5},
+                {0, 0, BitBoard.MAX_WIDTH + 1, 25},
+        };
+        for (int[] header : headers) {
+            ByteBuffer buffer = ByteBuffer.allocate(ReplayFormat.HEADER_SIZE);
+            buffer.putInt(ReplayFormat.MAGIC).put(ReplayFormat.VERSION).putLong(1L)
+                    .put((byte) header[0]).put((byte) header[1])
+                    .putShort((short) header[2]).putShort((short) header[3]);
+            buffer.flip();
+            assertThrows(IOException.class, () -> Replay.decode(buffer), Arrays.toString(header));
+        }
+    }
+}
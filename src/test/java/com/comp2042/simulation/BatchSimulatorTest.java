@@ -0,0 +1,31 @@
+package com.comp2042.simulation;
+
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.logic.GameMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest {
+
+    @Test
+    void testBatch_SameSeedGivesSameTotalsOnAnyThreadCount() {
+        SimulationStats serial = new BatchSimulator(RandomMovePolicy::new, BrickRandomizer.BAG, 500, 1)
+                .run(24, 99L, GameMode.NORMAL_MODE, GameMode.HARD_MODE);
+        SimulationStats parallel = new BatchSimulator(RandomMovePolicy::new, BrickRandomizer.BAG, 500, 4)
+                .run(24, 99L, GameMode.NORMAL_MODE, GameMode.HARD_MODE);
+
+        for (GameMode mode : new GameMode[]{GameMode.NORMAL_MODE, GameMode.HARD_MODE}) {
+            assertEquals(12, parallel.get(mode).getGames(), "Games should alternate between the given modes");
+            assertEquals(serial.get(mode).getScore(), parallel.get(mode).getScore(), mode + " score");
+            assertEquals(serial.get(mode).getLines(), parallel.get(mode).getLines(), mode + " lines");
+            assertEquals(serial.get(mode).getPieces(), parallel.get(mode).getPieces(), mode + " pieces");
+            assertEquals(serial.get(mode).getBestScore(), parallel.get(mode).getBestScore(), mode + " best score");
+            assertEquals(serial.get(mode).getGameNanos(), parallel.get(mode).getGameNanos(), mode + " survival time");
+            assertEquals(serial.get(mode).getPieces() * 1_000_000_000L, serial.get(mode).getGameNanos(),
+                    mode + " survival time should be simulated, one second per brick");
+        }
+        assertEquals(0, parallel.get(GameMode.EXTREME_MODE).getGames());
+        assertTrue(parallel.getTotalPieces() > 0);
+    }
+}
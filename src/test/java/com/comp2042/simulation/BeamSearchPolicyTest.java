@@ -0,0 +1,91 @@
+package com.comp2042.simulation;
+
+import com.comp2042.controller.HeadlessGame;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.brickShapeGenerator.BrickRandomizer;
+import com.comp2042.model.brickShapeGenerator.BrickShape;
+import com.comp2042.model.brickShapeGenerator.BrickShapes;
+import com.comp2042.model.gameBoard.BitBoard;
+import com.comp2042.model.logic.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeamSearchPolicyTest {
+
+    @Test
+    void testBeamSearch_SurvivesAndClearsLines() {
+        // a node budget instead of a time budget keeps the game deterministic
+        BeamSearchPolicy policy = new BeamSearchPolicy(6, 1, BeamSearchPolicy.NO_TIME_LIMIT, 10_000, ForkJoinPool.commonPool());
+        HeadlessGame game = new HeadlessGame(12L, BrickRandomizer.BAG, GameMode.NORMAL_MODE);
+        Consumer<MoveEvent> input = game::onMove;
+
+        for (int piece = 0; piece < 300; piece++) {
+            policy.playBrick(game.getBoard(), input);
+            assertFalse(game.isGameOver(), "The search should not top out, failed at piece " + piece);
+        }
+        // 300 bricks are 1200 cells, so a bot that keeps the stack low must clear about 100 rows
+        assertTrue(game.getBoard().getCountRows().getCountRows() >= 100,
+                "Expected most cells to be cleared, got " + game.getBoard().getCountRows().getCountRows() + " lines");
+    }
+
+    @Test
+    void testDeterministicBeam_SameSeedGivesSameBatchOnAnyThreadCount() {
+        SimulationStats serial = new BatchSimulator(seed -> BeamSearchPolicy.deterministic(10_000, ForkJoinPool.commonPool()),
+                BrickRandomizer.BAG, 60, 1).run(4, 7L, GameMode.HARD_MODE);
+        SimulationStats parallel = new BatchSimulator(seed -> BeamSearchPolicy.deterministic(10_000, ForkJoinPool.commonPool()),
+                BrickRandomizer.BAG, 60, 4).run(4, 7L, GameMode.HARD_MODE);
+
+        assertEquals(serial.get(GameMode.HARD_MODE).getScore(), parallel.get(GameMode.HARD_MODE).getScore());
+        assertEquals(serial.get(GameMode.HARD_MODE).getLines(), parallel.get(GameMode.HARD_MODE).getLines());
+        assertEquals(serial.get(GameMode.HARD_MODE).getPieces(), parallel.get(GameMode.HARD_MODE).getPieces());
+    }
+
+    @Test
+    void testSearchBoard_PlacesLikeTheGameBoardOnWideBoards() {
+        // a narrow well of rows spanning two words, so drops across the word edge clear lines
+        BitBoard bitBoard = new BitBoard(70, 30);
+        for (int row = 20; row < 30; row++) {
+            for (int col = 0; col < 70; col++) {
+                if (col < 60 || col > 67) {
+                    bitBoard.setCell(row, col, 1);
+                }
+            }
+        }
+        SearchBoard searchBoard = new SearchBoard(bitBoard);
+        SplittableRandom random = new SplittableRandom(70);
+        for (int piece = 0; piece < 200; piece++) {
+            BrickShape shape = BrickShapes.getShape(random.nextInt(BrickShapes.COUNT));
+            int rotation = random.nextInt(shape.getRotationCount());
+            int x = 58 + random.nextInt(10);
+            if (searchBoard.collides(shape, rotation, x, 0)) {
+                continue;
+            }
+            int y = searchBoard.drop(shape, rotation, x, 0);
+            assertEquals(bitBoard.dropRow(shape, rotation, x, 0), y, "Drop mismatch at piece " + piece);
+            searchBoard.place(shape, rotation, x, y);
+            for (int cell = 0; cell < shape.getCellCount(rotation); cell++) {
+                bitBoard.setCell(y + shape.getCellRow(rotation, cell), x + shape.getCellCol(rotation, cell), 2);
+            }
+            bitBoard.clearFullRows();
+            assertEquals(bitBoard.getHash(), searchBoard.getHash(), "Boards differ after piece " + piece);
+        }
+    }
+
+    @Test
+    void testSearchBoard_EvaluatePenalisesHoles() {
+        BitBoard flat = new BitBoard(10, 20);
+        BitBoard covered = new BitBoard(10, 20);
+        for (int col = 0; col < 9; col++) {
+            flat.setCell(19, col, 1);
+            // the same blocks one row higher leave holes underneath
+            covered.setCell(18, col, 1);
+        }
+        assertTrue(new SearchBoard(flat).evaluate(new double[]{-0.5, 0.75, -0.35, -0.2}, 0)
+                > new SearchBoard(covered).evaluate(new double[]{-0.5, 0.75, -0.35, -0.2}, 0));
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void testBucket_KeepsDeepestAndNewest() {
+        TranspositionTable table = new TranspositionTable(4);
+        // three keys that share bucket 3
+        long deep = 3;
+        long shallow = 3 + (1L << 8);
+        long newest = 3 + (2L << 8);
+
+        assertTrue(Double.isNaN(table.get(deep, 0)));
+        table.put(deep, 5, 1.5);
+        table.put(shallow, 1, 2.5);
+        assertEquals(1.5, table.get(deep, 5));
+        assertEquals(2.5, table.get(shallow, 0));
+        assertTrue(Double.isNaN(table.get(deep, 6)), "A result from a shallower search should not count");
+
+        table.put(newest, 0, 3.5);
+        assertEquals(1.5, table.get(deep, 0), "The deepest entry should survive");
+        assertEquals(3.5, table.get(newest, 0));
+        assertTrue(Double.isNaN(table.get(shallow, 0)), "The always-replace slot should hold the newest entry");
+
+        table.clear();
+        assertTrue(Double.isNaN(table.get(deep, 0)));
+    }
+}